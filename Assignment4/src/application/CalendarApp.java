@@ -1,5 +1,8 @@
 package application;
 
+import java.io.IOException;
+import java.nio.file.Paths;
+
 import controller.CalendarController;
 import controller.GUICalendarController;
 import model.multicalendar.IMultiCalendar;
@@ -7,6 +10,7 @@ import model.multicalendar.MultiCalendar;
 import view.GUIView;
 import view.HeadlessView;
 import view.InteractiveView;
+import view.OutputSink;
 
 /**
  * Main application class that handles command-line arguments and delegates
@@ -16,6 +20,20 @@ public class CalendarApp {
   private static final String INTERACTIVE_MODE = "interactive";
   private static final String HEADLESS_MODE = "headless";
   private static final String GUI_MODE = "gui";
+  private static final String PARSE_AHEAD_FLAG = "--parse-ahead";
+  private static final String PIPELINED_FLAG = "--pipelined";
+  private static final String FLUSH_FLAG = "--flush";
+  private static final String OUTPUT_FLAG = "--output";
+
+  /**
+   * The flags given after the mode, or after the file in headless mode.
+   */
+  private static final class Options {
+    private HeadlessView.Mode headlessMode = HeadlessView.Mode.LINE_BY_LINE;
+    private OutputSink.FlushPolicy flushPolicy = OutputSink.FlushPolicy.LINES;
+    private int flushLines = 1;
+    private String outputFile;
+  }
 
   /**
    * The main function.
@@ -44,17 +62,35 @@ public class CalendarApp {
     CalendarController controller = new CalendarController();
 
     switch (mode) {
-      case INTERACTIVE_MODE:
-        new InteractiveView(controller).run();
+      case INTERACTIVE_MODE: {
+        Options options = parseOptions(args, 2);
+        if (options == null) {
+          return;
+        }
+        try (OutputSink sink = openSink(options)) {
+          new InteractiveView(controller, sink).run();
+        } catch (IOException e) {
+          System.err.println("Error: Could not write output: " + e.getMessage());
+        }
         break;
-      case HEADLESS_MODE:
+      }
+      case HEADLESS_MODE: {
         if (args.length < 3) {
           System.err.println("Error: Headless mode requires a command file");
           printUsage();
           return;
         }
-        new HeadlessView(controller).run(args[2]);
+        Options options = parseOptions(args, 3);
+        if (options == null) {
+          return;
+        }
+        try (OutputSink sink = openSink(options)) {
+          new HeadlessView(controller, options.headlessMode, sink).run(args[2]);
+        } catch (IOException e) {
+          System.err.println("Error: Could not write output: " + e.getMessage());
+        }
         break;
+      }
       case GUI_MODE:
         launchGUI();
         break;
@@ -65,6 +101,64 @@ public class CalendarApp {
     }
   }
 
+  /**
+   * Reads the flags from the given argument on, printing the usage if one is wrong.
+   * @return the options, or null if a flag is wrong
+   */
+  private static Options parseOptions(String[] args, int from) {
+    Options options = new Options();
+    for (int i = from; i < args.length; i++) {
+      String flag = args[i].toLowerCase();
+      if (flag.equals(PARSE_AHEAD_FLAG)) {
+        options.headlessMode = HeadlessView.Mode.PARSE_AHEAD;
+      } else if (flag.equals(PIPELINED_FLAG)) {
+        options.headlessMode = HeadlessView.Mode.PIPELINED;
+      } else if (flag.equals(FLUSH_FLAG) && i + 1 < args.length) {
+        if (!parseFlush(args[++i], options)) {
+          System.err.println("Error: Invalid flush policy '" + args[i] + "'. Must be "
+                  + "'command', 'exit', or a number of lines");
+          printUsage();
+          return null;
+        }
+      } else if (flag.equals(OUTPUT_FLAG) && i + 1 < args.length) {
+        options.outputFile = args[++i];
+      } else {
+        System.err.println("Error: Unknown option '" + args[i] + "'");
+        printUsage();
+        return null;
+      }
+    }
+    return options;
+  }
+
+  //reads a flush policy: command, exit, or a positive number of lines
+  private static boolean parseFlush(String value, Options options) {
+    if (value.equalsIgnoreCase("command")) {
+      options.flushPolicy = OutputSink.FlushPolicy.COMMAND;
+      return true;
+    }
+    if (value.equalsIgnoreCase("exit")) {
+      options.flushPolicy = OutputSink.FlushPolicy.EXIT;
+      return true;
+    }
+    try {
+      options.flushLines = Integer.parseInt(value);
+      options.flushPolicy = OutputSink.FlushPolicy.LINES;
+      return options.flushLines > 0;
+    } catch (NumberFormatException e) {
+      return false;
+    }
+  }
+
+  //opens the console or the output file with the chosen flush policy
+  private static OutputSink openSink(Options options) throws IOException {
+    if (options.outputFile == null) {
+      return OutputSink.console(options.flushPolicy, options.flushLines);
+    }
+    return OutputSink.file(Paths.get(options.outputFile), options.flushPolicy,
+            options.flushLines);
+  }
+
   /**
    * Launches the GUI version of the calendar application.
    */
@@ -116,6 +210,15 @@ public class CalendarApp {
     System.out.println("  java CalendarApp --mode gui               - Run in GUI mode");
     System.out.println("  java CalendarApp --mode interactive       - Run in interactive mode");
     System.out.println("  java CalendarApp --mode headless <file>   - Run commands from file");
+    System.out.println("  java CalendarApp --mode headless <file> --parse-ahead");
+    System.out.println("                                            - Parse the whole file first");
+    System.out.println("  java CalendarApp --mode headless <file> --pipelined");
+    System.out.println("                                            - Read, parse and run at once");
+    System.out.println();
+    System.out.println("Output options, after the mode (and file):");
+    System.out.println("  --flush <command|exit|N>  - Write output per command, at exit, or every "
+            + "N lines");
+    System.out.println("  --output <file>           - Write output to a file instead");
     System.out.println();
     System.out.println("Modes:");
     System.out.println("  gui          - Run with graphical user interface");
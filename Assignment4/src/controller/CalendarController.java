@@ -1,20 +1,16 @@
 package controller;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 import controller.parse.CommandParserCoordinator;
-import controller.parse.CommandType;
+import controller.parse.CommandVisitor;
 import controller.parse.ParseResult;
 import controller.parse.RepeatInfo;
 import controller.format.IOutputFormatter;
 import controller.format.OutputFormatter;
 import model.calendar.Event;
 import model.calendar.ICalendar;
-import model.calendar.IEvent;
 import model.calendar.ISpecificCalendar;
 import model.multicalendar.IMultiCalendar;
 import model.multicalendar.MultiCalendar;
@@ -26,6 +22,7 @@ import model.multicalendar.MultiCalendar;
 public class CalendarController {
   private final IMultiCalendar multiCalendar;
   private final IOutputFormatter formatter;
+  private final Executor executor = new Executor();
 
   /**
    * Constructor with dependency injection for better testability.
@@ -63,56 +60,134 @@ public class CalendarController {
    * @throws IllegalArgumentException if command is invalid or execution fails
    */
   public String executeCommand(String commandString) {
-    ParseResult parseResult = CommandParserCoordinator.parseCommand(commandString);
+    return executeCommand(CommandParserCoordinator.parseCommand(commandString));
+  }
 
+  /**
+   * Executes a command that was already parsed, such as one of a script parsed ahead of time.
+   * @param parseResult the parsed command
+   * @return formatted output string, or null if no output needed
+   * @throws IllegalArgumentException if the command didn't parse or execution fails
+   */
+  public String executeCommand(ParseResult parseResult) {
     if (!parseResult.isSuccess()) {
       throw new IllegalArgumentException(parseResult.getErrorMessage());
     }
 
-    switch (parseResult.getCommandType()) {
-      case CREATE_EVENT:
-        return executeCreateEvent(parseResult);
-      case EDIT_EVENT:
-      case EDIT_EVENTS:
-      case EDIT_SERIES:
-        return executeEditEvent(parseResult);
-      case PRINT_EVENTS:
-        return executePrintEvents(parseResult);
-      case SHOW_STATUS:
-        return executeShowStatus(parseResult);
-      case CREATE_CALENDAR:
-        return executeCreateCalendar(parseResult);
-      case EDIT_CALENDAR:
-        return executeEditCalendar(parseResult);
-      case USE_CALENDAR:
-        return executeUseCalendar(parseResult);
-      case COPY_SINGLE_EVENT:
-        return executeCopySingleEvent(parseResult);
-      case COPY_EVENTS_ON_DAY:
-        return executeCopyEventsOnDay(parseResult);
-      case COPY_EVENTS_BETWEEN:
-        return executeCopyEventsBetween(parseResult);
-      case EXIT:
-        return null;
-      default:
-        throw new IllegalArgumentException("Unknown command type: " +
-                parseResult.getCommandType());
+    // everything a command changes under its locks becomes one version that can be undone
+    return parseResult.accept(executor);
+  }
+
+  /**
+   * Runs each kind of parsed command with the method that executes it.
+   */
+  private class Executor implements CommandVisitor<String> {
+    @Override
+    public String visit(ParseResult.CreateEvent command) {
+      return executeCreateEvent(command);
+    }
+
+    @Override
+    public String visit(ParseResult.EditEvent command) {
+      return executeEditEvent(command);
+    }
+
+    @Override
+    public String visit(ParseResult.EditEvents command) {
+      return executeEditEvents(command);
+    }
+
+    @Override
+    public String visit(ParseResult.EditSeries command) {
+      return executeEditSeries(command);
+    }
+
+    @Override
+    public String visit(ParseResult.DeleteEvent command) {
+      return executeDeleteEvent(command);
+    }
+
+    @Override
+    public String visit(ParseResult.DeleteEvents command) {
+      return executeDeleteEvents(command);
+    }
+
+    @Override
+    public String visit(ParseResult.DeleteSeries command) {
+      return executeDeleteSeries(command);
+    }
+
+    @Override
+    public String visit(ParseResult.PrintDay command) {
+      return executePrintDay(command);
+    }
+
+    @Override
+    public String visit(ParseResult.PrintInterval command) {
+      return executePrintInterval(command);
+    }
+
+    @Override
+    public String visit(ParseResult.ShowStatus command) {
+      return executeShowStatus(command);
+    }
+
+    @Override
+    public String visit(ParseResult.CreateCalendar command) {
+      return executeCreateCalendar(command);
+    }
+
+    @Override
+    public String visit(ParseResult.EditCalendar command) {
+      return executeEditCalendar(command);
+    }
+
+    @Override
+    public String visit(ParseResult.UseCalendar command) {
+      return executeUseCalendar(command);
+    }
+
+    @Override
+    public String visit(ParseResult.CopyEvent command) {
+      return executeCopySingleEvent(command);
+    }
+
+    @Override
+    public String visit(ParseResult.CopyOnDay command) {
+      return executeCopyEventsOnDay(command);
+    }
+
+    @Override
+    public String visit(ParseResult.CopyBetween command) {
+      return executeCopyEventsBetween(command);
+    }
+
+    @Override
+    public String visit(ParseResult.MoveEvents command) {
+      return executeMoveEvents(command);
+    }
+
+    @Override
+    public String visit(ParseResult.Undo command) {
+      return executeUndo();
+    }
+
+    @Override
+    public String visit(ParseResult.Redo command) {
+      return executeRedo();
+    }
+
+    @Override
+    public String visit(ParseResult.Exit command) {
+      return null;
     }
   }
 
   /**
    * Executes create calendar command.
    */
-  private String executeCreateCalendar(ParseResult parseResult) {
+  private String executeCreateCalendar(ParseResult.CreateCalendar parseResult) {
     try {
-      // Check for duplicate calendar names
-      for (ISpecificCalendar cal : multiCalendar.getCalendars()) {
-        if (cal.getName().equals(parseResult.getCalendarName())) {
-          throw new IllegalArgumentException("Calendar with name '" +
-                  parseResult.getCalendarName() + "' already exists");
-        }
-      }
-
       multiCalendar.addCalendar(parseResult.getCalendarName(), parseResult.getTimezone());
 
       return formatter.formatSuccess("Created calendar: \"" +
@@ -126,33 +201,8 @@ public class CalendarController {
   /**
    * Executes edit calendar command.
    */
-  private String executeEditCalendar(ParseResult parseResult) {
+  private String executeEditCalendar(ParseResult.EditCalendar parseResult) {
     try {
-      // Check if calendar exists
-      boolean found = false;
-      for (ISpecificCalendar cal : multiCalendar.getCalendars()) {
-        if (cal.getName().equals(parseResult.getCalendarName())) {
-          found = true;
-          break;
-        }
-      }
-
-      if (!found) {
-        throw new IllegalArgumentException("Calendar '" + parseResult.getCalendarName() +
-                "' not found");
-      }
-
-      // Check for duplicate name if editing name
-      if (parseResult.getPropertyName().equals("name")) {
-        for (ISpecificCalendar cal : multiCalendar.getCalendars()) {
-          if (!cal.getName().equals(parseResult.getCalendarName()) &&
-                  cal.getName().equals(parseResult.getPropertyValue())) {
-            throw new IllegalArgumentException("Calendar with name '" +
-                    parseResult.getPropertyValue() + "' already exists");
-          }
-        }
-      }
-
       multiCalendar.editCalendar(parseResult.getCalendarName(),
               parseResult.getPropertyName(), parseResult.getPropertyValue());
 
@@ -167,22 +217,8 @@ public class CalendarController {
   /**
    * Executes use calendar command.
    */
-  private String executeUseCalendar(ParseResult parseResult) {
+  private String executeUseCalendar(ParseResult.UseCalendar parseResult) {
     try {
-      // Check if calendar exists
-      boolean found = false;
-      for (ISpecificCalendar cal : multiCalendar.getCalendars()) {
-        if (cal.getName().equals(parseResult.getCalendarName())) {
-          found = true;
-          break;
-        }
-      }
-
-      if (!found) {
-        throw new IllegalArgumentException("Calendar '" + parseResult.getCalendarName() +
-                "' not found");
-      }
-
       multiCalendar.useCalendar(parseResult.getCalendarName());
 
       return formatter.formatSuccess("Now using calendar: \"" +
@@ -195,7 +231,7 @@ public class CalendarController {
   /**
    * Executes copy single event command.
    */
-  private String executeCopySingleEvent(ParseResult parseResult) {
+  private String executeCopySingleEvent(ParseResult.CopyEvent parseResult) {
     try {
       checkCalendarInUse();
 
@@ -212,7 +248,7 @@ public class CalendarController {
   /**
    * Executes copy events on day command.
    */
-  private String executeCopyEventsOnDay(ParseResult parseResult) {
+  private String executeCopyEventsOnDay(ParseResult.CopyOnDay parseResult) {
     try {
       checkCalendarInUse();
 
@@ -229,7 +265,7 @@ public class CalendarController {
   /**
    * Executes copy events between dates command.
    */
-  private String executeCopyEventsBetween(ParseResult parseResult) {
+  private String executeCopyEventsBetween(ParseResult.CopyBetween parseResult) {
     try {
       checkCalendarInUse();
 
@@ -245,6 +281,43 @@ public class CalendarController {
     }
   }
 
+  /**
+   * Executes move events command.
+   */
+  private String executeMoveEvents(ParseResult.MoveEvents parseResult) {
+    try {
+      checkCalendarInUse();
+
+      int moved = multiCalendar.moveEvents(parseResult.getCopyStartDate(),
+              parseResult.getCopyEndDate(), parseResult.getTargetCalendarName());
+
+      return formatter.formatSuccess("Moved " + moved + " events to calendar \"" +
+              parseResult.getTargetCalendarName() + "\"");
+    } catch (Exception e) {
+      throw new IllegalArgumentException("Failed to move events: " + e.getMessage());
+    }
+  }
+
+  /**
+   * Executes undo command.
+   */
+  private String executeUndo() {
+    if (!multiCalendar.undo()) {
+      throw new IllegalArgumentException("Nothing to undo");
+    }
+    return formatter.formatSuccess("Undid the last command");
+  }
+
+  /**
+   * Executes redo command.
+   */
+  private String executeRedo() {
+    if (!multiCalendar.redo()) {
+      throw new IllegalArgumentException("Nothing to redo");
+    }
+    return formatter.formatSuccess("Redid the last undone command");
+  }
+
   /**
    * Checks if a calendar is currently in use.
    */
@@ -266,7 +339,7 @@ public class CalendarController {
   /**
    * Executes create event commands.
    */
-  private String executeCreateEvent(ParseResult parseResult) {
+  private String executeCreateEvent(ParseResult.CreateEvent parseResult) {
     try {
       ISpecificCalendar current = getCurrentCalendar();
 
@@ -315,48 +388,19 @@ public class CalendarController {
   }
 
   /**
-   * Executes edit event commands.
+   * Executes edit event command.
    */
-  private String executeEditEvent(ParseResult parseResult) {
+  private String executeEditEvent(ParseResult.EditEvent parseResult) {
     try {
-      ISpecificCalendar current = getCurrentCalendar();
-      CommandType editType = parseResult.getCommandType();
-
-      switch (editType) {
-        case EDIT_EVENT:
-          current.editEvent(
-                  parseResult.getProperty(),
-                  parseResult.getEventSubject(),
-                  parseResult.getEventStart(),
-                  parseResult.getEventEnd(),
-                  parseResult.getNewValue()
-          );
-          return formatter.formatSuccess("Updated event: \""
-                  + parseResult.getEventSubject() + "\"");
-
-        case EDIT_EVENTS:
-          current.editEvents(
-                  parseResult.getProperty(),
-                  parseResult.getEventSubject(),
-                  parseResult.getEventStart(),
-                  parseResult.getNewValue()
-          );
-          return formatter.formatSuccess("Updated events starting from: \""
-                  + parseResult.getEventSubject() + "\"");
-
-        case EDIT_SERIES:
-          current.editSeries(
-                  parseResult.getProperty(),
-                  parseResult.getEventSubject(),
-                  parseResult.getEventStart(),
-                  parseResult.getNewValue()
-          );
-          return formatter.formatSuccess("Updated entire series: \""
-                  + parseResult.getEventSubject() + "\"");
-
-        default:
-          throw new IllegalArgumentException("Unknown edit type: " + editType);
-      }
+      getCurrentCalendar().editEvent(
+              parseResult.getProperty(),
+              parseResult.getEventSubject(),
+              parseResult.getEventStart(),
+              parseResult.getEventEnd(),
+              parseResult.getNewValue()
+      );
+      return formatter.formatSuccess("Updated event: \""
+              + parseResult.getEventSubject() + "\"");
     } catch (IllegalStateException e) {
       throw e;
     } catch (Exception e) {
@@ -365,68 +409,140 @@ public class CalendarController {
   }
 
   /**
-   * Executes print events commands.
+   * Executes edit events command.
    */
-  private String executePrintEvents(ParseResult parseResult) {
+  private String executeEditEvents(ParseResult.EditEvents parseResult) {
     try {
-      ISpecificCalendar current = getCurrentCalendar();
-
-      if (parseResult.isPrintRange()) {
-        return current.printEventsInterval(parseResult.getPrintStartDate(),
-                parseResult.getPrintEndDate());
-      } else {
-        return current.printEvents(parseResult.getPrintStartDate().toLocalDate());
-      }
+      getCurrentCalendar().editEvents(
+              parseResult.getProperty(),
+              parseResult.getEventSubject(),
+              parseResult.getEventStart(),
+              parseResult.getNewValue()
+      );
+      return formatter.formatSuccess("Updated events starting from: \""
+              + parseResult.getEventSubject() + "\"");
     } catch (IllegalStateException e) {
       throw e;
     } catch (Exception e) {
-      throw new IllegalArgumentException("Failed to print events: " + e.getMessage());
+      throw new IllegalArgumentException("Failed to edit event: " + e.getMessage());
     }
   }
 
   /**
-   * Executes show status commands.
+   * Executes edit series command.
    */
-  private String executeShowStatus(ParseResult parseResult) {
+  private String executeEditSeries(ParseResult.EditSeries parseResult) {
     try {
-      ISpecificCalendar current = getCurrentCalendar();
-      LocalDateTime queryTime = parseResult.getStatusDateTime();
-      Map<LocalDate, List<IEvent>> calendarData = current.getCalendar();
-
-      boolean isBusy = checkIfBusy(calendarData, queryTime);
-      return isBusy ? "busy" : "available";
+      getCurrentCalendar().editSeries(
+              parseResult.getProperty(),
+              parseResult.getEventSubject(),
+              parseResult.getEventStart(),
+              parseResult.getNewValue()
+      );
+      return formatter.formatSuccess("Updated entire series: \""
+              + parseResult.getEventSubject() + "\"");
     } catch (IllegalStateException e) {
-      // Re-throw IllegalStateException as is
       throw e;
     } catch (Exception e) {
-      throw new IllegalArgumentException("Failed to check status: " + e.getMessage());
+      throw new IllegalArgumentException("Failed to edit event: " + e.getMessage());
     }
   }
 
   /**
-   * Checks if the user is busy at a specific date and time.
+   * Executes delete event command.
    */
-  private boolean checkIfBusy(Map<LocalDate, List<IEvent>> calendarData, LocalDateTime queryTime) {
-    LocalDate queryDate = queryTime.toLocalDate();
+  private String executeDeleteEvent(ParseResult.DeleteEvent parseResult) {
+    try {
+      getCurrentCalendar().deleteEvent(
+              parseResult.getEventSubject(),
+              parseResult.getEventStart(),
+              parseResult.getEventEnd()
+      );
+      return formatter.formatSuccess("Deleted event: \""
+              + parseResult.getEventSubject() + "\"");
+    } catch (IllegalStateException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new IllegalArgumentException("Failed to delete event: " + e.getMessage());
+    }
+  }
 
-    if (!calendarData.containsKey(queryDate)) {
-      return false;
+  /**
+   * Executes delete events command.
+   */
+  private String executeDeleteEvents(ParseResult.DeleteEvents parseResult) {
+    try {
+      getCurrentCalendar().deleteEvents(
+              parseResult.getEventSubject(),
+              parseResult.getEventStart()
+      );
+      return formatter.formatSuccess("Deleted events starting from: \""
+              + parseResult.getEventSubject() + "\"");
+    } catch (IllegalStateException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new IllegalArgumentException("Failed to delete event: " + e.getMessage());
     }
+  }
 
-    List<IEvent> dayEvents = calendarData.get(queryDate);
+  /**
+   * Executes delete series command.
+   */
+  private String executeDeleteSeries(ParseResult.DeleteSeries parseResult) {
+    try {
+      getCurrentCalendar().deleteSeries(
+              parseResult.getEventSubject(),
+              parseResult.getEventStart()
+      );
+      return formatter.formatSuccess("Deleted entire series: \""
+              + parseResult.getEventSubject() + "\"");
+    } catch (IllegalStateException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new IllegalArgumentException("Failed to delete event: " + e.getMessage());
+    }
+  }
 
-    for (IEvent event : dayEvents) {
-      if (!queryTime.isBefore(event.getStart()) && queryTime.isBefore(event.getEnd())) {
-        return true;
-      }
+  /**
+   * Executes print events on a day.
+   */
+  private String executePrintDay(ParseResult.PrintDay parseResult) {
+    try {
+      return getCurrentCalendar().printEvents(parseResult.getDate());
+    } catch (IllegalStateException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new IllegalArgumentException("Failed to print events: " + e.getMessage());
+    }
+  }
 
-      if (event.getStart().toLocalDate().isBefore(queryDate) &&
-              event.getEnd().toLocalDate().isAfter(queryDate)) {
-        return true;
-      }
+  /**
+   * Executes print events between two times.
+   */
+  private String executePrintInterval(ParseResult.PrintInterval parseResult) {
+    try {
+      return getCurrentCalendar().printEventsInterval(parseResult.getPrintStartDate(),
+              parseResult.getPrintEndDate());
+    } catch (IllegalStateException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new IllegalArgumentException("Failed to print events: " + e.getMessage());
     }
+  }
 
-    return false;
+  /**
+   * Executes show status commands. The calendar answers under its own lock, so the query never
+   * sees an event list halfway through a change by another client.
+   */
+  private String executeShowStatus(ParseResult.ShowStatus parseResult) {
+    try {
+      return getCurrentCalendar().showStatus(parseResult.getStatusDateTime());
+    } catch (IllegalStateException e) {
+      // Re-throw IllegalStateException as is
+      throw e;
+    } catch (Exception e) {
+      throw new IllegalArgumentException("Failed to check status: " + e.getMessage());
+    }
   }
 
   /**
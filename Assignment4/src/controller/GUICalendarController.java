@@ -13,8 +13,10 @@ import java.util.Map;
 
 import javax.swing.*;
 
+import controller.parse.IsoDates;
 import controller.parse.PropertyType;
 import model.calendar.IEvent;
+import model.calendar.ISpecificCalendar;
 import model.multicalendar.IMultiCalendar;
 import view.IGuiView;
 
@@ -124,7 +126,7 @@ public class GUICalendarController implements IController, ActionListener {
         LocalDateTime today = LocalDateTime.now();
         showEventsFrom(today);
       } else {
-        LocalDateTime start = LocalDateTime.parse(date);
+        LocalDateTime start = IsoDates.parseDateTime(date);
         showEventsFrom(start);
       }
     } catch (DateTimeParseException ex) {
@@ -140,35 +142,18 @@ public class GUICalendarController implements IController, ActionListener {
       StringBuilder eventDisplay = new StringBuilder();
       eventDisplay.append("Events from ").append(start.format(DISPLAY_FORMAT)).append(":\n\n");
 
-      Map<LocalDate, List<IEvent>> calendar = multiCalendar.getCurrent().getCalendar();
-
-      int eventCount = 0;
-
-      // Get all dates in the calendar and process them in chronological order
-      List<LocalDate> allDates = new ArrayList<>(calendar.keySet());
-      allDates.sort(LocalDate::compareTo); // Sort dates chronologically
-
-      for (LocalDate date : allDates) {
-        // Only process dates that are on or after the start date
-        if (!date.isBefore(start.toLocalDate())) {
-          List<IEvent> dayEvents = calendar.get(date);
-
-          for (IEvent event : dayEvents) {
-            // Only include events that start at or after the specified time
-            if (!event.getStart().isBefore(start)) {
-              eventCount++;
-              eventDisplay.append(String.format("%d. %s\n", eventCount, event.getSubject()));
-              eventDisplay.append(String.format("   Start: %s\n",
-                      event.getStart().format(DISPLAY_FORMAT)));
-              eventDisplay.append(String.format("   End: %s\n",
-                      event.getEnd().format(DISPLAY_FORMAT)));
-              if (event.getLocation() != null) {
-                eventDisplay.append(String.format("   Location: %s\n", event.getLocation()));
-              }
-              eventDisplay.append("\n");
-            }
-          }
-        }
+      ISpecificCalendar current = multiCalendar.getCurrent();
+      // read under the calendar's lock, so another client's change can't be seen halfway
+      List<String> entries;
+      current.getLock().readLock().lock();
+      try {
+        entries = describeEventsFrom(current.getCalendar(), start);
+      } finally {
+        current.getLock().readLock().unlock();
+      }
+      int eventCount = entries.size();
+      for (String entry : entries) {
+        eventDisplay.append(entry);
       }
 
       if (eventCount == 0) {
@@ -187,6 +172,39 @@ public class GUICalendarController implements IController, ActionListener {
     }
   }
 
+  //describes each event starting at or after the given time, in chronological order
+  private List<String> describeEventsFrom(Map<LocalDate, List<IEvent>> calendar,
+                                          LocalDateTime start) {
+    List<String> entries = new ArrayList<>();
+
+    // Get all dates in the calendar and process them in chronological order
+    List<LocalDate> allDates = new ArrayList<>(calendar.keySet());
+    allDates.sort(LocalDate::compareTo); // Sort dates chronologically
+
+    for (LocalDate date : allDates) {
+      // Only process dates that are on or after the start date
+      if (!date.isBefore(start.toLocalDate())) {
+        for (IEvent event : calendar.get(date)) {
+          // Only include events that start at or after the specified time
+          if (!event.getStart().isBefore(start)) {
+            StringBuilder entry = new StringBuilder();
+            entry.append(String.format("%d. %s\n", entries.size() + 1, event.getSubject()));
+            entry.append(String.format("   Start: %s\n",
+                    event.getStart().format(DISPLAY_FORMAT)));
+            entry.append(String.format("   End: %s\n",
+                    event.getEnd().format(DISPLAY_FORMAT)));
+            if (event.getLocation() != null) {
+              entry.append(String.format("   Location: %s\n", event.getLocation()));
+            }
+            entry.append("\n");
+            entries.add(entry.toString());
+          }
+        }
+      }
+    }
+    return entries;
+  }
+
   private void createEvent() {
     try {
       String eventName = view.getEventName();
@@ -207,8 +225,8 @@ public class GUICalendarController implements IController, ActionListener {
       System.out.println("From: " + fromDate); // Debug
       System.out.println("To: " + toDate); // Debug
 
-      LocalDateTime start = LocalDateTime.parse(fromDate);
-      LocalDateTime end = toDate.isEmpty() ? null : LocalDateTime.parse(toDate);
+      LocalDateTime start = IsoDates.parseDateTime(fromDate);
+      LocalDateTime end = toDate.isEmpty() ? null : IsoDates.parseDateTime(toDate);
 
       if (end != null && end.isBefore(start)) {
         view.setStatus("End time must be after start time");
@@ -275,8 +293,8 @@ public class GUICalendarController implements IController, ActionListener {
         return;
       }
 
-      LocalDateTime start = LocalDateTime.parse(startStr);
-      LocalDateTime end = LocalDateTime.parse(endStr);
+      LocalDateTime start = IsoDates.parseDateTime(startStr);
+      LocalDateTime end = IsoDates.parseDateTime(endStr);
       String value = view.getEditValue();
 
       if (value.isEmpty() && property != PropertyType.DESCRIPTION) {
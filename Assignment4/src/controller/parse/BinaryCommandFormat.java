@@ -0,0 +1,71 @@
+package controller.parse;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * The constants of the binary command format shared by {@link BinaryCommandWriter} and
+ * {@link BinaryCommandReader}.
+ *
+ * <p>A stream starts with the four bytes "CALB" and a version byte, followed by one frame per
+ * command. A frame is its length as a varint and then its body: the number of strings the frame
+ * adds to the dictionary as a varint, an opcode byte and the values of the command in a fixed
+ * order. Numbers are little-endian base 128 varints, signed ones zigzag coded first. A datetime
+ * is its minutes since 1970-01-01T00:00 and a date its days since 1970-01-01; a datetime that
+ * may be missing is stored plus one, with zero meaning none. A string is an index into the
+ * dictionary of the stream: an index equal to the size of the dictionary is followed by the new
+ * string as a varint byte length and its UTF-8 bytes, and adds it to the dictionary, so a
+ * calendar name or subject is only sent once. Since every frame says how many strings it adds,
+ * a reader that can't decode a frame still knows which indexes it would have given them.</p>
+ */
+final class BinaryCommandFormat {
+  static final byte[] MAGIC = {'C', 'A', 'L', 'B'};
+  static final int VERSION = 2;
+  // the longest frame a reader accepts, to fail fast on a corrupt length
+  static final int MAX_FRAME_LENGTH = 1 << 20;
+
+  static final int CREATE_EVENT = 1;
+  static final int EDIT_EVENT = 2;
+  static final int EDIT_EVENTS = 3;
+  static final int EDIT_SERIES = 4;
+  static final int DELETE_EVENT = 5;
+  static final int DELETE_EVENTS = 6;
+  static final int DELETE_SERIES = 7;
+  static final int PRINT_DAY = 8;
+  static final int PRINT_INTERVAL = 9;
+  static final int SHOW_STATUS = 10;
+  static final int CREATE_CALENDAR = 11;
+  static final int EDIT_CALENDAR = 12;
+  static final int USE_CALENDAR = 13;
+  static final int COPY_EVENT = 14;
+  static final int COPY_ON_DAY = 15;
+  static final int COPY_BETWEEN = 16;
+  static final int MOVE_EVENTS = 17;
+  static final int UNDO = 18;
+  static final int REDO = 19;
+  static final int EXIT = 20;
+
+  // the flags after the subject of a create event frame
+  static final int HAS_END = 1;
+  static final int REPEATS_TIMES = 2;
+  static final int REPEATS_UNTIL = 4;
+
+  private BinaryCommandFormat() {
+  }
+
+  static long zigZag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  static long unZigZag(long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  static long epochMinutes(LocalDateTime dateTime) {
+    return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
+  }
+
+  static LocalDateTime fromEpochMinutes(long minutes) {
+    return LocalDateTime.ofEpochSecond(minutes * 60, 0, ZoneOffset.UTC);
+  }
+}
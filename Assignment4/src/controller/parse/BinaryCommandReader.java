@@ -0,0 +1,386 @@
+package controller.parse;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads commands written by a {@link BinaryCommandWriter} straight into parsed commands, with
+ * no text to parse. Frames carry their length, so a frame that can't be decoded is skipped
+ * whole and the next one can still be read.
+ *
+ * <p>The strings a frame adds to the dictionary are only kept once the whole frame is decoded.
+ * A frame that can't be decoded still takes up the indexes of the strings it says it adds, so
+ * the dictionary stays in step with the writer's, and a later frame that uses one of those
+ * strings is rejected rather than run with another string. If a frame doesn't even say how many
+ * strings it adds, the reader can't tell where the writer's next strings are, so from then on
+ * only frames that use strings from before it are read.</p>
+ */
+public final class BinaryCommandReader implements Closeable {
+  private static final PropertyType[] PROPERTIES = PropertyType.values();
+
+  private final InputStream in;
+  // the strings of the stream by index, with null for each string of a frame that failed
+  private final List<String> dictionary;
+  // the strings the frame being read adds to the dictionary, kept if it decodes
+  private final List<String> staged;
+  // the number of strings the frame being read says it adds
+  private int adding;
+  // the size of the dictionary when a frame failed without saying how many strings it adds,
+  // or -1 if none has
+  private int lostAt;
+  // the body of the frame being read, reused for every command
+  private byte[] frame;
+  private int position;
+  private int limit;
+
+  /**
+   * Starts reading a binary command stream, checking its header.
+   * @param in the stream to read from
+   * @throws IOException if the header can't be read
+   * @throws IllegalArgumentException if the stream is not a binary command stream this reader
+   *                                  understands
+   */
+  public BinaryCommandReader(InputStream in) throws IOException {
+    this.in = in;
+    this.dictionary = new ArrayList<>();
+    this.staged = new ArrayList<>();
+    this.lostAt = -1;
+    this.frame = new byte[64];
+    if (!startsWithMagic(in)) {
+      throw new IllegalArgumentException("Not a binary command stream");
+    }
+    int version = in.read();
+    if (version != BinaryCommandFormat.VERSION) {
+      throw new IllegalArgumentException("Unsupported binary command version: " + version);
+    }
+  }
+
+  /**
+   * Checks if a stream starts like a binary command stream, without consuming anything.
+   * @param in a stream that supports mark and reset
+   * @return true if the stream starts with the magic bytes of the format
+   * @throws IOException if the stream can't be read
+   */
+  public static boolean isBinary(InputStream in) throws IOException {
+    if (!in.markSupported()) {
+      throw new IllegalArgumentException("Stream must support mark and reset");
+    }
+    in.mark(BinaryCommandFormat.MAGIC.length);
+    try {
+      return startsWithMagic(in);
+    } finally {
+      in.reset();
+    }
+  }
+
+  //reads the magic bytes, telling if they were all there
+  private static boolean startsWithMagic(InputStream in) throws IOException {
+    for (byte b : BinaryCommandFormat.MAGIC) {
+      if (in.read() != b) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Reads the next command.
+   * @return the command, or null at the end of the stream
+   * @throws IOException if the stream ends inside a frame or can't be read
+   * @throws IllegalArgumentException if the frame can't be decoded, or uses a string of a frame
+   *                                  that couldn't be; the stream is left at the start of the
+   *                                  next frame
+   */
+  public ParseResult read() throws IOException {
+    int first = in.read();
+    if (first == -1) {
+      return null;
+    }
+    int length = readLength(first);
+    if (length > frame.length) {
+      frame = new byte[Math.max(length, frame.length * 2)];
+    }
+    int read = 0;
+    while (read < length) {
+      int n = in.read(frame, read, length - read);
+      if (n == -1) {
+        throw new EOFException("Binary command stream ends inside a frame");
+      }
+      read += n;
+    }
+    this.position = 0;
+    this.limit = length;
+    this.adding = -1;
+    staged.clear();
+    boolean decoded = false;
+    try {
+      ParseResult command = decodeFrame();
+      decoded = true;
+      dictionary.addAll(staged);
+      return command;
+    } catch (IndexOutOfBoundsException | DateTimeException e) {
+      throw new IllegalArgumentException("Malformed command frame: " + e.getMessage());
+    } finally {
+      if (!decoded) {
+        skipStrings();
+      }
+    }
+  }
+
+  //decodes the count of new strings and the command of the frame, checking that the frame
+  //adds as many strings as it says and has nothing left over
+  private ParseResult decodeFrame() {
+    long count = takeVarint();
+    // every new string takes at least a byte for its index and one for its length
+    if (count > (limit - position) / 2) {
+      throw new IllegalArgumentException("Malformed command frame: too many new strings");
+    }
+    this.adding = (int) count;
+    ParseResult command = decode();
+    if (position != limit) {
+      throw new IllegalArgumentException("Malformed command frame: " + (limit - position)
+              + " bytes left over");
+    }
+    if (staged.size() != adding) {
+      throw new IllegalArgumentException("Malformed command frame: adds " + staged.size()
+              + " strings, not " + adding);
+    }
+    return command;
+  }
+
+  //takes up the indexes of the strings a frame that failed says it adds, so that later frames
+  //using them are rejected, or stops trusting new strings if it didn't say
+  private void skipStrings() {
+    if (lostAt >= 0) {
+      return;
+    }
+    if (adding < 0) {
+      lostAt = dictionary.size();
+      return;
+    }
+    for (int i = 0; i < adding; i++) {
+      dictionary.add(null);
+    }
+  }
+
+  //reads the varint length of a frame from the stream, given its first byte
+  private int readLength(int first) throws IOException {
+    long value = first & 0x7F;
+    int shift = 7;
+    int b = first;
+    while ((b & 0x80) != 0) {
+      b = in.read();
+      if (b == -1) {
+        throw new EOFException("Binary command stream ends inside a frame length");
+      }
+      value |= (long) (b & 0x7F) << shift;
+      shift += 7;
+      if (value > BinaryCommandFormat.MAX_FRAME_LENGTH) {
+        break;
+      }
+    }
+    if (value > BinaryCommandFormat.MAX_FRAME_LENGTH) {
+      throw new IOException("Binary command frame too long: " + value);
+    }
+    return (int) value;
+  }
+
+  @Override
+  public void close() throws IOException {
+    in.close();
+  }
+
+  //builds the command in the frame from its opcode and values
+  private ParseResult decode() {
+    int opcode = take();
+    switch (opcode) {
+      case BinaryCommandFormat.CREATE_EVENT:
+        return decodeCreateEvent();
+      case BinaryCommandFormat.EDIT_EVENT: {
+        PropertyType property = takeProperty();
+        String subject = takeString();
+        LocalDateTime start = takeDateTime();
+        LocalDateTime end = takeOptionalDateTime();
+        return ParseResult.editEvent(CommandType.EDIT_EVENT, property, subject, start, end,
+                takeString());
+      }
+      case BinaryCommandFormat.EDIT_EVENTS:
+      case BinaryCommandFormat.EDIT_SERIES: {
+        CommandType type = opcode == BinaryCommandFormat.EDIT_EVENTS ? CommandType.EDIT_EVENTS
+                : CommandType.EDIT_SERIES;
+        PropertyType property = takeProperty();
+        String subject = takeString();
+        LocalDateTime start = takeDateTime();
+        return ParseResult.editEvent(type, property, subject, start, null, takeString());
+      }
+      case BinaryCommandFormat.DELETE_EVENT: {
+        String subject = takeString();
+        LocalDateTime start = takeDateTime();
+        return ParseResult.deleteEvent(CommandType.DELETE_EVENT, subject, start,
+                takeOptionalDateTime());
+      }
+      case BinaryCommandFormat.DELETE_EVENTS:
+      case BinaryCommandFormat.DELETE_SERIES: {
+        CommandType type = opcode == BinaryCommandFormat.DELETE_EVENTS
+                ? CommandType.DELETE_EVENTS : CommandType.DELETE_SERIES;
+        String subject = takeString();
+        return ParseResult.deleteEvent(type, subject, takeDateTime(), null);
+      }
+      case BinaryCommandFormat.PRINT_DAY:
+        return ParseResult.printEventsDay(takeDate());
+      case BinaryCommandFormat.PRINT_INTERVAL: {
+        LocalDateTime start = takeDateTime();
+        return ParseResult.printEventsInterval(start, takeDateTime());
+      }
+      case BinaryCommandFormat.SHOW_STATUS:
+        return ParseResult.showStatus(takeDateTime());
+      case BinaryCommandFormat.CREATE_CALENDAR: {
+        String name = takeString();
+        return ParseResult.createCalendar(name, ZoneId.of(takeString()));
+      }
+      case BinaryCommandFormat.EDIT_CALENDAR: {
+        String name = takeString();
+        String property = takeString();
+        return ParseResult.editCalendar(name, property, takeString());
+      }
+      case BinaryCommandFormat.USE_CALENDAR:
+        return ParseResult.useCalendar(takeString());
+      case BinaryCommandFormat.COPY_EVENT: {
+        String subject = takeString();
+        LocalDateTime start = takeDateTime();
+        String target = takeString();
+        return ParseResult.copySingleEvent(subject, start, target, takeDateTime());
+      }
+      case BinaryCommandFormat.COPY_ON_DAY: {
+        LocalDate source = takeDate();
+        String target = takeString();
+        return ParseResult.copyEventsOnDay(source, target, takeDate());
+      }
+      case BinaryCommandFormat.COPY_BETWEEN: {
+        LocalDate start = takeDate();
+        LocalDate end = takeDate();
+        String target = takeString();
+        return ParseResult.copyEventsBetween(start, end, target, takeDate());
+      }
+      case BinaryCommandFormat.MOVE_EVENTS: {
+        LocalDate start = takeDate();
+        LocalDate end = takeDate();
+        return ParseResult.moveEvents(start, end, takeString());
+      }
+      case BinaryCommandFormat.UNDO:
+        return ParseResult.history(CommandType.UNDO);
+      case BinaryCommandFormat.REDO:
+        return ParseResult.history(CommandType.REDO);
+      case BinaryCommandFormat.EXIT:
+        return ParseResult.exit();
+      default:
+        throw new IllegalArgumentException("Unknown command opcode: " + opcode);
+    }
+  }
+
+  private ParseResult decodeCreateEvent() {
+    String subject = takeString();
+    LocalDateTime start = takeDateTime();
+    int flags = take();
+    LocalDateTime end = null;
+    if ((flags & BinaryCommandFormat.HAS_END) != 0) {
+      end = takeDateTime();
+    }
+    RepeatInfo repeat = null;
+    if ((flags & BinaryCommandFormat.REPEATS_TIMES) != 0) {
+      String days = takeString();
+      repeat = new RepeatInfo(days, (int) takeVarint(), null);
+    } else if ((flags & BinaryCommandFormat.REPEATS_UNTIL) != 0) {
+      String days = takeString();
+      repeat = new RepeatInfo(days, null, takeDate());
+    }
+    return ParseResult.createEvent(subject, start, end, repeat);
+  }
+
+  //reads the next byte of the frame
+  private int take() {
+    if (position >= limit) {
+      throw new IllegalArgumentException("Malformed command frame: ends too early");
+    }
+    return frame[position++] & 0xFF;
+  }
+
+  private long takeVarint() {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      int b = take();
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("Malformed command frame: varint too long");
+  }
+
+  private LocalDateTime takeDateTime() {
+    return BinaryCommandFormat.fromEpochMinutes(BinaryCommandFormat.unZigZag(takeVarint()));
+  }
+
+  private LocalDateTime takeOptionalDateTime() {
+    long value = takeVarint();
+    return value == 0 ? null
+            : BinaryCommandFormat.fromEpochMinutes(BinaryCommandFormat.unZigZag(value - 1));
+  }
+
+  private LocalDate takeDate() {
+    return LocalDate.ofEpochDay(BinaryCommandFormat.unZigZag(takeVarint()));
+  }
+
+  private PropertyType takeProperty() {
+    int ordinal = take();
+    if (ordinal >= PROPERTIES.length) {
+      throw new IllegalArgumentException("Unknown property: " + ordinal);
+    }
+    return PROPERTIES[ordinal];
+  }
+
+  //reads a dictionary index, staging the string that follows if the index is new
+  private String takeString() {
+    long index = takeVarint();
+    if (lostAt >= 0 && index >= lostAt) {
+      throw new IllegalArgumentException("Command frame uses string " + index
+              + ", which is past a frame that couldn't be read");
+    }
+    if (index < dictionary.size()) {
+      String value = dictionary.get((int) index);
+      if (value == null) {
+        throw new IllegalArgumentException("Command frame uses string " + index
+                + ", which is from a frame that couldn't be read");
+      }
+      return value;
+    }
+    long known = dictionary.size() + staged.size();
+    if (index < known) {
+      return staged.get((int) (index - dictionary.size()));
+    }
+    if (index > known) {
+      throw new IllegalArgumentException("Malformed command frame: unknown string " + index);
+    }
+    if (staged.size() == adding) {
+      throw new IllegalArgumentException("Malformed command frame: adds more than " + adding
+              + " strings");
+    }
+    long length = takeVarint();
+    if (length > limit - position) {
+      throw new IllegalArgumentException("Malformed command frame: ends too early");
+    }
+    String value = new String(frame, position, (int) length, StandardCharsets.UTF_8);
+    position += (int) length;
+    staged.add(value);
+    return value;
+  }
+}
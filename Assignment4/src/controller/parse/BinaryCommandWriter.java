@@ -0,0 +1,318 @@
+package controller.parse;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes parsed commands to a stream in the binary command format described in
+ * {@link BinaryCommandFormat}, so that a machine client can send commands without rendering
+ * their dates and names as text. Each writer keeps the dictionary of the strings it has sent, so
+ * one writer must write the whole stream.
+ */
+public final class BinaryCommandWriter implements Closeable {
+  private final OutputStream out;
+  private final Map<String, Integer> dictionary;
+  private final FrameEncoder encoder;
+  // the body of the frame being written, reused for every command
+  private byte[] frame;
+  private int length;
+  // the strings the frame being written adds to the dictionary
+  private int added;
+
+  /**
+   * Starts a binary command stream, writing its header.
+   * @param out the stream to write to
+   * @throws IOException if the header can't be written
+   */
+  public BinaryCommandWriter(OutputStream out) throws IOException {
+    this.out = out;
+    this.dictionary = new HashMap<>();
+    this.encoder = new FrameEncoder();
+    this.frame = new byte[64];
+    out.write(BinaryCommandFormat.MAGIC);
+    out.write(BinaryCommandFormat.VERSION);
+  }
+
+  /**
+   * Writes one command as a frame.
+   * @param command the parsed command
+   * @throws IOException if the frame can't be written
+   * @throws IllegalArgumentException if the command is a parse error
+   */
+  public void write(ParseResult command) throws IOException {
+    if (!command.isSuccess()) {
+      throw new IllegalArgumentException("Cannot encode a command that didn't parse: "
+              + command.getErrorMessage());
+    }
+    this.length = 0;
+    this.added = 0;
+    command.accept(encoder);
+    // the count of new strings and the length go after the body in the buffer, but are written
+    // ahead of it
+    int body = this.length;
+    putVarint(added);
+    int count = this.length;
+    putVarint(count);
+    out.write(frame, count, this.length - count);
+    out.write(frame, body, count - body);
+    out.write(frame, 0, body);
+  }
+
+  /**
+   * Flushes the underlying stream.
+   * @throws IOException if the stream can't be flushed
+   */
+  public void flush() throws IOException {
+    out.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    out.close();
+  }
+
+  //appends one byte to the frame, growing it when it is full
+  private void put(int b) {
+    if (length == frame.length) {
+      frame = Arrays.copyOf(frame, length * 2);
+    }
+    frame[length++] = (byte) b;
+  }
+
+  private void putVarint(long value) {
+    while ((value & ~0x7FL) != 0) {
+      put((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    put((int) value);
+  }
+
+  private void putDateTime(LocalDateTime dateTime) {
+    putVarint(BinaryCommandFormat.zigZag(BinaryCommandFormat.epochMinutes(dateTime)));
+  }
+
+  //a missing datetime is zero, any other is one more than it would otherwise be
+  private void putOptionalDateTime(LocalDateTime dateTime) {
+    if (dateTime == null) {
+      put(0);
+    } else {
+      putVarint(BinaryCommandFormat.zigZag(BinaryCommandFormat.epochMinutes(dateTime)) + 1);
+    }
+  }
+
+  private void putDate(LocalDate date) {
+    putVarint(BinaryCommandFormat.zigZag(date.toEpochDay()));
+  }
+
+  private void putString(String value) {
+    Integer index = dictionary.get(value);
+    if (index != null) {
+      putVarint(index);
+      return;
+    }
+    int next = dictionary.size();
+    dictionary.put(value, next);
+    added++;
+    putVarint(next);
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    putVarint(bytes.length);
+    for (byte b : bytes) {
+      put(b);
+    }
+  }
+
+  /**
+   * Writes the opcode and values of each kind of command into the frame.
+   */
+  private class FrameEncoder implements CommandVisitor<Void> {
+    @Override
+    public Void visit(ParseResult.CreateEvent command) {
+      put(BinaryCommandFormat.CREATE_EVENT);
+      putString(command.getSubject());
+      putDateTime(command.getStartTime());
+      RepeatInfo repeat = command.getRepeatInfo();
+      int flags = command.getEndTime() != null ? BinaryCommandFormat.HAS_END : 0;
+      if (repeat != null) {
+        flags |= repeat.hasTimeLimit() ? BinaryCommandFormat.REPEATS_TIMES
+                : BinaryCommandFormat.REPEATS_UNTIL;
+      }
+      put(flags);
+      if (command.getEndTime() != null) {
+        putDateTime(command.getEndTime());
+      }
+      if (repeat != null) {
+        putString(repeat.getRepeatDays());
+        if (repeat.hasTimeLimit()) {
+          putVarint(repeat.getRepeatTimes());
+        } else {
+          putDate(repeat.getRepeatUntil());
+        }
+      }
+      return null;
+    }
+
+    @Override
+    public Void visit(ParseResult.EditEvent command) {
+      putEdit(BinaryCommandFormat.EDIT_EVENT, command);
+      putOptionalDateTime(command.getEventEnd());
+      putString(command.getNewValue());
+      return null;
+    }
+
+    @Override
+    public Void visit(ParseResult.EditEvents command) {
+      putEdit(BinaryCommandFormat.EDIT_EVENTS, command);
+      putString(command.getNewValue());
+      return null;
+    }
+
+    @Override
+    public Void visit(ParseResult.EditSeries command) {
+      putEdit(BinaryCommandFormat.EDIT_SERIES, command);
+      putString(command.getNewValue());
+      return null;
+    }
+
+    //the opcode and the values every edit starts with
+    private void putEdit(int opcode, ParseResult.EventEdit command) {
+      put(opcode);
+      put(command.getProperty().ordinal());
+      putString(command.getEventSubject());
+      putDateTime(command.getEventStart());
+    }
+
+    @Override
+    public Void visit(ParseResult.DeleteEvent command) {
+      putDelete(BinaryCommandFormat.DELETE_EVENT, command);
+      putOptionalDateTime(command.getEventEnd());
+      return null;
+    }
+
+    @Override
+    public Void visit(ParseResult.DeleteEvents command) {
+      putDelete(BinaryCommandFormat.DELETE_EVENTS, command);
+      return null;
+    }
+
+    @Override
+    public Void visit(ParseResult.DeleteSeries command) {
+      putDelete(BinaryCommandFormat.DELETE_SERIES, command);
+      return null;
+    }
+
+    private void putDelete(int opcode, ParseResult.EventDelete command) {
+      put(opcode);
+      putString(command.getEventSubject());
+      putDateTime(command.getEventStart());
+    }
+
+    @Override
+    public Void visit(ParseResult.PrintDay command) {
+      put(BinaryCommandFormat.PRINT_DAY);
+      putDate(command.getDate());
+      return null;
+    }
+
+    @Override
+    public Void visit(ParseResult.PrintInterval command) {
+      put(BinaryCommandFormat.PRINT_INTERVAL);
+      putDateTime(command.getPrintStartDate());
+      putDateTime(command.getPrintEndDate());
+      return null;
+    }
+
+    @Override
+    public Void visit(ParseResult.ShowStatus command) {
+      put(BinaryCommandFormat.SHOW_STATUS);
+      putDateTime(command.getStatusDateTime());
+      return null;
+    }
+
+    @Override
+    public Void visit(ParseResult.CreateCalendar command) {
+      put(BinaryCommandFormat.CREATE_CALENDAR);
+      putString(command.getCalendarName());
+      putString(command.getTimezone().getId());
+      return null;
+    }
+
+    @Override
+    public Void visit(ParseResult.EditCalendar command) {
+      put(BinaryCommandFormat.EDIT_CALENDAR);
+      putString(command.getCalendarName());
+      putString(command.getPropertyName());
+      putString(command.getPropertyValue());
+      return null;
+    }
+
+    @Override
+    public Void visit(ParseResult.UseCalendar command) {
+      put(BinaryCommandFormat.USE_CALENDAR);
+      putString(command.getCalendarName());
+      return null;
+    }
+
+    @Override
+    public Void visit(ParseResult.CopyEvent command) {
+      put(BinaryCommandFormat.COPY_EVENT);
+      putString(command.getSubject());
+      putDateTime(command.getStartTime());
+      putString(command.getTargetCalendarName());
+      putDateTime(command.getTargetDateTime());
+      return null;
+    }
+
+    @Override
+    public Void visit(ParseResult.CopyOnDay command) {
+      put(BinaryCommandFormat.COPY_ON_DAY);
+      putDate(command.getSourceDate());
+      putString(command.getTargetCalendarName());
+      putDate(command.getTargetDate());
+      return null;
+    }
+
+    @Override
+    public Void visit(ParseResult.CopyBetween command) {
+      put(BinaryCommandFormat.COPY_BETWEEN);
+      putDate(command.getCopyStartDate());
+      putDate(command.getCopyEndDate());
+      putString(command.getTargetCalendarName());
+      putDate(command.getTargetDate());
+      return null;
+    }
+
+    @Override
+    public Void visit(ParseResult.MoveEvents command) {
+      put(BinaryCommandFormat.MOVE_EVENTS);
+      putDate(command.getCopyStartDate());
+      putDate(command.getCopyEndDate());
+      putString(command.getTargetCalendarName());
+      return null;
+    }
+
+    @Override
+    public Void visit(ParseResult.Undo command) {
+      put(BinaryCommandFormat.UNDO);
+      return null;
+    }
+
+    @Override
+    public Void visit(ParseResult.Redo command) {
+      put(BinaryCommandFormat.REDO);
+      return null;
+    }
+
+    @Override
+    public Void visit(ParseResult.Exit command) {
+      put(BinaryCommandFormat.EXIT);
+      return null;
+    }
+  }
+}
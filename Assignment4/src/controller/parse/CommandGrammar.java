@@ -0,0 +1,603 @@
+package controller.parse;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The grammar of the command language, written once as a list of rules and compiled into a
+ * table driven state machine over the tokens of a command. Matching a command is one pass over
+ * its tokens with one table lookup per token, and a command that doesn't fit the grammar is
+ * reported with the column where it stopped fitting and what could have come there instead.
+ *
+ * <p>A rule is written as {@code name: pattern}. A pattern is a sequence of keywords, slots,
+ * optional parts in {@code [ ]} and alternatives in {@code ( | )}. A slot is written as
+ * {@code <name:kind>} and captures the tokens it matches, where the kind is one of</p>
+ * <ul>
+ *   <li>{@code word}: any one token</li>
+ *   <li>{@code text}: one or more tokens of any kind</li>
+ *   <li>{@code date}: one token shaped like yyyy-MM-dd</li>
+ *   <li>{@code datetime}: one token shaped like yyyy-MM-ddTHH:mm</li>
+ * </ul>
+ * <p>Keywords match ignoring case and win over slots: a token that is a keyword the command can
+ * go on with is taken as that keyword, so "from" ends the subject of "create event Lunch from
+ * ...". Where no keyword fits, a keyword is just another word.</p>
+ */
+public final class CommandGrammar {
+
+  // the columns of the table for tokens that aren't keywords, one per kind of token, in the
+  // order of CommandTokens.Type. The columns of the keywords come after them.
+  private static final int TYPES = CommandTokens.Type.values().length;
+  private static final int EPSILON = -1;
+  private static final int ANY = -2;
+  private static final int NONE = -1;
+
+  /**
+   * The commands of the calendar, as listed in the README.
+   */
+  public static final CommandGrammar COMMANDS = compile(
+          "create-event: create event <subject:text> ( from <start:datetime> [ to <end:datetime> ]"
+                  + " | on <date:date> ) [ repeats <days:word>"
+                  + " ( for <times:word> times | until <until:date> ) ]",
+          "edit-event: edit event <property:word> <subject:text> from <start:datetime>"
+                  + " [ to <end:datetime> ] with <value:text>",
+          "edit-events: edit events <property:word> <subject:text> from <start:datetime>"
+                  + " with <value:text>",
+          "edit-series: edit series <property:word> <subject:text> from <start:datetime>"
+                  + " with <value:text>",
+          "delete-event: delete event <subject:text> from <start:datetime> to <end:datetime>",
+          "delete-events: delete events <subject:text> from <start:datetime>",
+          "delete-series: delete series <subject:text> from <start:datetime>",
+          "print-events: print events ( on <date:date> | from <start:datetime> to <end:datetime> )",
+          "show-status: show status on <time:datetime>",
+          "create-calendar: create calendar --name <name:text> --timezone <timezone:word>",
+          "edit-calendar: edit calendar --name <name:text> --property <property:word>"
+                  + " <value:text>",
+          "use-calendar: use calendar --name <name:text>",
+          "copy-event: copy event <subject:text> on <start:datetime> --target <calendar:text>"
+                  + " to <time:datetime>",
+          "copy-events-on: copy events on <date:date> --target <calendar:text> to <target:date>",
+          "copy-events-between: copy events between <startDate:date> and <endDate:date>"
+                  + " --target <calendar:text> to <target:date>",
+          "move-events: move events ( on <date:date>"
+                  + " | between <startDate:date> and <endDate:date> ) --target <calendar:text>",
+          "undo: undo",
+          "redo: redo");
+
+  private final String[] rules;
+  private final String[] keywords;
+  private final int[] keywordHashes;
+  private final String[] slots;
+  private final Map<String, Integer> slotIndex;
+  // the state after each state on each column, or NONE
+  private final int[][] next;
+  // the slot that takes the token on each transition, or NONE
+  private final int[][] capture;
+  // the keyword columns each state has a transition on
+  private final int[][] keywordsFrom;
+  // the rule each state accepts, or NONE
+  private final int[] accepts;
+  private final String[] expected;
+
+  private CommandGrammar(String[] rules, String[] keywords, String[] slots, int[][] next,
+                         int[][] capture, int[] accepts, String[] expected) {
+    this.rules = rules;
+    this.keywords = keywords;
+    this.keywordHashes = new int[keywords.length];
+    for (int k = 0; k < keywords.length; k++) {
+      this.keywordHashes[k] = CommandTokens.keywordHash(keywords[k]);
+    }
+    this.slots = slots;
+    this.slotIndex = new HashMap<>();
+    for (int i = 0; i < slots.length; i++) {
+      this.slotIndex.put(slots[i], i);
+    }
+    this.next = next;
+    this.capture = capture;
+    this.accepts = accepts;
+    this.expected = expected;
+    this.keywordsFrom = new int[next.length][];
+    for (int state = 0; state < next.length; state++) {
+      int[] from = new int[keywords.length];
+      int count = 0;
+      for (int k = 0; k < keywords.length; k++) {
+        if (next[state][TYPES + k] != NONE) {
+          from[count++] = TYPES + k;
+        }
+      }
+      this.keywordsFrom[state] = Arrays.copyOf(from, count);
+    }
+  }
+
+  /**
+   * Compiles rules into a grammar.
+   * @param rules the rules, each written as name: pattern
+   * @return the grammar
+   * @throws IllegalArgumentException if a rule can't be read
+   * @throws IllegalStateException if a command could be read in more than one way
+   */
+  public static CommandGrammar compile(String... rules) {
+    return new Compiler(rules).compile();
+  }
+
+  /**
+   * Gets the number of states of the compiled grammar.
+   * @return the number of states
+   */
+  public int states() {
+    return next.length;
+  }
+
+  /**
+   * Matches the tokens of a command against the grammar.
+   * @param tokens the tokens of the command
+   * @return the rule that matched and the tokens in each of its slots
+   * @throws IllegalArgumentException if the command doesn't fit the grammar, with the column
+   *         where it stops fitting
+   */
+  public Match match(CommandTokens tokens) {
+    int size = tokens.size();
+    if (tokens.hasUnclosedQuote()) {
+      throw new IllegalArgumentException("Quotation must close at column "
+              + (tokens.start(size - 1) + 1));
+    }
+
+    int[] first = new int[slots.length];
+    int[] last = new int[slots.length];
+    Arrays.fill(first, NONE);
+    int state = 0;
+    for (int i = 0; i < size; i++) {
+      int column = columnOf(state, tokens, i);
+      int to = next[state][column];
+      if (to == NONE) {
+        throw new IllegalArgumentException("Unexpected \"" + tokens.text(i, i + 1)
+                + "\" at column " + (tokens.start(i) + 1) + ", expected " + expected[state]);
+      }
+      int slot = capture[state][column];
+      if (slot != NONE) {
+        if (first[slot] == NONE) {
+          first[slot] = i;
+        }
+        last[slot] = i;
+      }
+      state = to;
+    }
+
+    if (accepts[state] == NONE) {
+      throw new IllegalArgumentException("Command ends too early at column "
+              + (size == 0 ? 1 : tokens.end(size - 1) + 1) + ", expected " + expected[state]);
+    }
+    return new Match(tokens, rules[accepts[state]], first, last);
+  }
+
+  //the column of a token in the given state: the keyword it is, if the state goes on with that
+  //keyword, and otherwise its kind. Hashes rule out most keywords without looking at the line.
+  private int columnOf(int state, CommandTokens tokens, int index) {
+    int hash = tokens.keywordHash(index);
+    for (int column : keywordsFrom[state]) {
+      if (keywordHashes[column - TYPES] == hash
+              && tokens.isKeyword(index, keywords[column - TYPES])) {
+        return column;
+      }
+    }
+    return tokens.type(index).ordinal();
+  }
+
+  /**
+   * A command that fits the grammar: the rule it matched and the tokens each slot captured.
+   */
+  public final class Match {
+    private final CommandTokens tokens;
+    private final String rule;
+    private final int[] first;
+    private final int[] last;
+
+    private Match(CommandTokens tokens, String rule, int[] first, int[] last) {
+      this.tokens = tokens;
+      this.rule = rule;
+      this.first = first;
+      this.last = last;
+    }
+
+    /**
+     * Gets the name of the rule the command matched.
+     * @return the rule name
+     */
+    public String rule() {
+      return rule;
+    }
+
+    /**
+     * Checks if a slot captured any tokens, which it won't if it is in a part of the rule the
+     * command left out.
+     * @param slot the slot name
+     * @return true or false
+     */
+    public boolean has(String slot) {
+      Integer index = slotIndex.get(slot);
+      return index != null && first[index] != NONE;
+    }
+
+    /**
+     * Gets the tokens of a slot as they were typed, quotes included.
+     * @param slot the slot name
+     * @return the text of the slot
+     */
+    public String text(String slot) {
+      int index = indexOf(slot);
+      return tokens.text(first[index], last[index] + 1);
+    }
+
+    /**
+     * Gets the value of a slot: the inside of the quotes if it is one quoted string, and the
+     * text as typed otherwise.
+     * @param slot the slot name
+     * @return the value of the slot
+     */
+    public String value(String slot) {
+      int index = indexOf(slot);
+      return tokens.value(first[index], last[index] + 1);
+    }
+
+    /**
+     * Gets the column of the line where a slot starts, counting from 1.
+     * @param slot the slot name
+     * @return the column
+     */
+    public int column(String slot) {
+      return tokens.start(first[indexOf(slot)]) + 1;
+    }
+
+    /**
+     * Parses a slot as a date.
+     * @param slot the slot name
+     * @return the date
+     * @throws java.time.format.DateTimeParseException if the slot is not a valid date
+     */
+    public LocalDate date(String slot) {
+      int index = indexOf(slot);
+      return tokens.date(first[index], last[index] + 1);
+    }
+
+    /**
+     * Parses a slot as a datetime.
+     * @param slot the slot name
+     * @return the datetime
+     * @throws java.time.format.DateTimeParseException if the slot is not a valid datetime
+     */
+    public LocalDateTime dateTime(String slot) {
+      int index = indexOf(slot);
+      return tokens.dateTime(first[index], last[index] + 1);
+    }
+
+    //finds a slot that captured tokens
+    private int indexOf(String slot) {
+      Integer index = slotIndex.get(slot);
+      if (index == null || first[index] == NONE) {
+        throw new IllegalArgumentException("Missing " + slot);
+      }
+      return index;
+    }
+  }
+
+  /**
+   * Turns the rules into a nondeterministic machine with one state per position in a pattern,
+   * then into the table of a deterministic one whose states are sets of those positions.
+   */
+  private static final class Compiler {
+    private final String[] ruleTexts;
+    private final List<String> ruleNames = new ArrayList<>();
+    private final List<String> keywords = new ArrayList<>();
+    private final List<String> slots = new ArrayList<>();
+    private final List<String> slotKinds = new ArrayList<>();
+    // the edges out of each state, as {symbol, slot, target}
+    private final List<List<int[]>> edges = new ArrayList<>();
+    // the rule each state ends, or NONE
+    private final List<Integer> ends = new ArrayList<>();
+    private String[] pattern;
+    private int position;
+
+    Compiler(String[] ruleTexts) {
+      this.ruleTexts = ruleTexts;
+    }
+
+    CommandGrammar compile() {
+      int start = newState();
+      for (String rule : ruleTexts) {
+        int colon = rule.indexOf(':');
+        if (colon <= 0) {
+          throw new IllegalArgumentException("Rule has no name: " + rule);
+        }
+        String name = rule.substring(0, colon).trim();
+        this.pattern = rule.substring(colon + 1).trim().split("\\s+");
+        this.position = 0;
+        int[] fragment = alternatives();
+        if (position < pattern.length) {
+          throw new IllegalArgumentException("Unexpected " + pattern[position] + " in rule "
+                  + name);
+        }
+        edge(start, EPSILON, NONE, fragment[0]);
+        ends.set(fragment[1], ruleNames.size());
+        ruleNames.add(name);
+      }
+      return determinize(start);
+    }
+
+    //reads alternatives separated by |, up to a closing bracket or the end of the pattern
+    private int[] alternatives() {
+      int[] first = sequence();
+      if (!peek("|")) {
+        return first;
+      }
+      int start = newState();
+      int end = newState();
+      edge(start, EPSILON, NONE, first[0]);
+      edge(first[1], EPSILON, NONE, end);
+      while (peek("|")) {
+        position++;
+        int[] other = sequence();
+        edge(start, EPSILON, NONE, other[0]);
+        edge(other[1], EPSILON, NONE, end);
+      }
+      return new int[] {start, end};
+    }
+
+    //reads items one after another, up to a |, a closing bracket or the end of the pattern
+    private int[] sequence() {
+      int start = newState();
+      int end = start;
+      while (position < pattern.length && !peek("|") && !peek(")") && !peek("]")) {
+        int[] item = item();
+        edge(end, EPSILON, NONE, item[0]);
+        end = item[1];
+      }
+      return new int[] {start, end};
+    }
+
+    //reads one keyword, slot or bracketed group
+    private int[] item() {
+      String part = pattern[position++];
+      if (part.equals("(") || part.equals("[")) {
+        int[] group = alternatives();
+        String close = part.equals("(") ? ")" : "]";
+        if (!peek(close)) {
+          throw new IllegalArgumentException("Missing " + close + " in pattern");
+        }
+        position++;
+        if (part.equals("[")) {
+          edge(group[0], EPSILON, NONE, group[1]);
+        }
+        return group;
+      }
+
+      int start = newState();
+      int end = newState();
+      if (part.startsWith("<") && part.endsWith(">")) {
+        String[] slot = part.substring(1, part.length() - 1).split(":");
+        if (slot.length != 2) {
+          throw new IllegalArgumentException("Invalid slot: " + part);
+        }
+        int index = slotOf(slot[0], slot[1]);
+        switch (slot[1]) {
+          case "word":
+            edge(start, ANY, index, end);
+            break;
+          case "text":
+            edge(start, ANY, index, end);
+            edge(end, ANY, index, end);
+            break;
+          case "date":
+            edge(start, CommandTokens.Type.DATE.ordinal(), index, end);
+            break;
+          case "datetime":
+            edge(start, CommandTokens.Type.DATETIME.ordinal(), index, end);
+            break;
+          default:
+            throw new IllegalArgumentException("Unknown slot kind: " + slot[1]);
+        }
+      } else {
+        String keyword = part.toLowerCase();
+        if (!keywords.contains(keyword)) {
+          keywords.add(keyword);
+        }
+        edge(start, TYPES + keywords.indexOf(keyword), NONE, end);
+      }
+      return new int[] {start, end};
+    }
+
+    //finds or adds a slot, which has to be of the same kind in every rule that uses its name
+    private int slotOf(String name, String kind) {
+      int index = slots.indexOf(name);
+      if (index == -1) {
+        slots.add(name);
+        slotKinds.add(kind);
+        return slots.size() - 1;
+      }
+      if (!slotKinds.get(index).equals(kind)) {
+        throw new IllegalArgumentException("Slot " + name + " is used as both "
+                + slotKinds.get(index) + " and " + kind);
+      }
+      return index;
+    }
+
+    private boolean peek(String part) {
+      return position < pattern.length && pattern[position].equals(part);
+    }
+
+    private int newState() {
+      edges.add(new ArrayList<>());
+      ends.add(NONE);
+      return edges.size() - 1;
+    }
+
+    private void edge(int from, int symbol, int slot, int to) {
+      edges.get(from).add(new int[] {symbol, slot, to});
+    }
+
+    //builds the table by the subset construction, one row per set of states reached
+    private CommandGrammar determinize(int start) {
+      int columns = TYPES + keywords.size();
+      Map<BitSet, Integer> ids = new HashMap<>();
+      List<BitSet> sets = new ArrayList<>();
+      List<int[]> nextRows = new ArrayList<>();
+      List<int[]> captureRows = new ArrayList<>();
+      Deque<Integer> pending = new ArrayDeque<>();
+
+      BitSet initial = closure(single(start));
+      ids.put(initial, 0);
+      sets.add(initial);
+      pending.add(0);
+      while (!pending.isEmpty()) {
+        int id = pending.poll();
+        BitSet set = sets.get(id);
+        int[] nextRow = new int[columns];
+        int[] captureRow = new int[columns];
+        Arrays.fill(nextRow, NONE);
+        Arrays.fill(captureRow, NONE);
+        for (int column = 0; column < columns; column++) {
+          BitSet target = new BitSet();
+          int slot = NONE;
+          boolean seen = false;
+          for (int s = set.nextSetBit(0); s >= 0; s = set.nextSetBit(s + 1)) {
+            for (int[] edge : edges.get(s)) {
+              boolean matches = edge[0] == column || (edge[0] == ANY && column < TYPES);
+              if (!matches) {
+                continue;
+              }
+              if (seen && slot != edge[1]) {
+                throw new IllegalStateException("Ambiguous grammar: a token can go into both "
+                        + describeSlot(slot) + " and " + describeSlot(edge[1]));
+              }
+              seen = true;
+              slot = edge[1];
+              target.set(edge[2]);
+            }
+          }
+          if (target.isEmpty()) {
+            continue;
+          }
+          target = closure(target);
+          Integer targetId = ids.get(target);
+          if (targetId == null) {
+            targetId = sets.size();
+            ids.put(target, targetId);
+            sets.add(target);
+            pending.add(targetId);
+          }
+          nextRow[column] = targetId;
+          captureRow[column] = slot;
+        }
+        while (nextRows.size() <= id) {
+          nextRows.add(null);
+          captureRows.add(null);
+        }
+        nextRows.set(id, nextRow);
+        captureRows.set(id, captureRow);
+      }
+
+      int count = sets.size();
+      int[][] next = nextRows.toArray(new int[count][]);
+      int[][] capture = captureRows.toArray(new int[count][]);
+      int[] accepts = new int[count];
+      String[] expected = new String[count];
+      for (int id = 0; id < count; id++) {
+        accepts[id] = acceptedBy(sets.get(id));
+        expected[id] = describe(next[id], capture[id], accepts[id] != NONE);
+      }
+      return new CommandGrammar(ruleNames.toArray(new String[0]),
+              keywords.toArray(new String[0]), slots.toArray(new String[0]), next, capture,
+              accepts, expected);
+    }
+
+    //the rule a set of states ends, if it ends exactly one
+    private int acceptedBy(BitSet set) {
+      int rule = NONE;
+      for (int s = set.nextSetBit(0); s >= 0; s = set.nextSetBit(s + 1)) {
+        int end = ends.get(s);
+        if (end != NONE && rule != NONE && end != rule) {
+          throw new IllegalStateException("Ambiguous grammar: a command can match both "
+                  + ruleNames.get(rule) + " and " + ruleNames.get(end));
+        }
+        if (end != NONE) {
+          rule = end;
+        }
+      }
+      return rule;
+    }
+
+    //adds every state reachable without reading a token
+    private BitSet closure(BitSet states) {
+      BitSet closed = (BitSet) states.clone();
+      Deque<Integer> pending = new ArrayDeque<>();
+      for (int s = closed.nextSetBit(0); s >= 0; s = closed.nextSetBit(s + 1)) {
+        pending.add(s);
+      }
+      while (!pending.isEmpty()) {
+        for (int[] edge : edges.get(pending.poll())) {
+          if (edge[0] == EPSILON && !closed.get(edge[2])) {
+            closed.set(edge[2]);
+            pending.add(edge[2]);
+          }
+        }
+      }
+      return closed;
+    }
+
+    private static BitSet single(int state) {
+      BitSet set = new BitSet();
+      set.set(state);
+      return set;
+    }
+
+    //lists what a state can go on with, for error messages
+    private String describe(int[] next, int[] capture, boolean accepting) {
+      Set<String> options = new LinkedHashSet<>();
+      for (int column = TYPES; column < next.length; column++) {
+        if (next[column] != NONE) {
+          options.add("'" + keywords.get(column - TYPES) + "'");
+        }
+      }
+      for (int column = 0; column < TYPES; column++) {
+        if (next[column] != NONE) {
+          options.add(describeSlot(capture[column]));
+        }
+      }
+      if (accepting) {
+        options.add("the end of the command");
+      }
+      if (options.isEmpty()) {
+        return "nothing";
+      }
+
+      List<String> list = new ArrayList<>(options);
+      StringBuilder text = new StringBuilder(list.get(0));
+      for (int i = 1; i < list.size(); i++) {
+        text.append(i == list.size() - 1 ? " or " : ", ").append(list.get(i));
+      }
+      return text.toString();
+    }
+
+    private String describeSlot(int slot) {
+      if (slot == NONE) {
+        return "a keyword";
+      }
+      switch (slotKinds.get(slot)) {
+        case "date":
+          return "<" + slots.get(slot) + "> (yyyy-MM-dd)";
+        case "datetime":
+          return "<" + slots.get(slot) + "> (yyyy-MM-ddTHH:mm)";
+        default:
+          return "<" + slots.get(slot) + ">";
+      }
+    }
+  }
+}
@@ -3,11 +3,9 @@ package controller.parse;
 /**
  * Represents a parser that can process user input commands.
  * This interface defines the structure for all command parsers in the system.
- * Each parser should be able to:
- * Check if it can handle a specific input.
- * Parse the input and return the appropriate result.
- * Implementing classes should focus on specific types of commands and decide
- * if they can process the given input.
+ * Each parser parses the input and returns the appropriate result.
+ * Implementing classes focus on specific types of commands, and the coordinator decides which
+ * parser gets an input by its leading keywords.
  */
 public interface CommandParser {
   /**
@@ -16,11 +14,4 @@ public interface CommandParser {
    * @return the parsed result
    */
   ParseResult parse(String input);
-
-  /**
-   * Checks if the input can be handled.
-   * @param input the input
-   * @return true or false
-   */
-  boolean canHandle(String input);
 }
@@ -1,41 +1,79 @@
 package controller.parse;
 
-import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Coordinates the parsing of user input commands by delegating them to the appropriate
  * specific parser.
- * This class holds a list of all available command parsers and determines which parser
- * should handle
- * a given input. It simplifies the process of command recognition by centralizing the
- * delegation logic.
+ * This class holds every available command parser under the leading keywords of the commands it
+ * parses, such as "create event" or "copy events", and sends each input straight to the parser
+ * of its first one or two words instead of asking every parser in turn. The parsers keep no
+ * state between commands, so one coordinator is built once and shared by every command.
+ * Parsed commands can't be changed, so the result of each command line is kept in a bounded
+ * cache and a line seen again recently is not parsed a second time.
  */
 public class CommandParserCoordinator {
+  private static final CommandParserCoordinator SHARED = new CommandParserCoordinator();
+  // the most distinct command lines whose parse is remembered
+  private static final int CACHE_CAPACITY = 1024;
+  private static final ParseCache CACHE = new ParseCache(CACHE_CAPACITY);
 
-  private final List<CommandParser> parsers;
+  // the parser of each command by its leading keywords, in lower case
+  private final Map<String, CommandParser> byKeywords;
 
   /**
    * Constructs the command parse coordinator.
    */
   public CommandParserCoordinator() {
-    this.parsers = Arrays.asList(
-            new CreateEventParser(),
-            new EditEventParser(),
-            new PrintEventsParser(),
-            new ShowStatusParser(),
-            new CreateCalendarParser(),
-            new EditCalendarParser(),
-            new UseCalendarParser(),
-            new CopyEventParser()
-    );
+    this.byKeywords = new HashMap<>();
+    register(new CreateEventParser(), "create event");
+    register(new EditEventParser(), "edit event", "edit events", "edit series");
+    register(new DeleteEventParser(), "delete event", "delete events", "delete series");
+    register(new PrintEventsParser(), "print events");
+    register(new ShowStatusParser(), "show status");
+    register(new CreateCalendarParser(), "create calendar");
+    register(new EditCalendarParser(), "edit calendar");
+    register(new UseCalendarParser(), "use calendar");
+    register(new CopyEventParser(), "copy event", "copy events");
+    register(new MoveEventParser(), "move events");
+    register(new HistoryParser(), "undo", "redo");
+  }
+
+  //files the parser under the keywords of every command it parses
+  private void register(CommandParser parser, String... keywords) {
+    for (String keyword : keywords) {
+      this.byKeywords.put(keyword, parser);
+    }
   }
 
   /**
    * Parse any command by delegating to appropriate parser.
    */
   public static ParseResult parseCommand(String input) {
-    return new CommandParserCoordinator().parse(input);
+    return CACHE.get(input, SHARED::parse);
+  }
+
+  /**
+   * Gets the cache of parsed command lines, to read how well it is working.
+   * @return the shared parse cache
+   */
+  public static ParseCache cache() {
+    return CACHE;
+  }
+
+  /**
+   * Parses many commands at once, spread over the available cores. Parsing has no side effects
+   * and the parsers keep no state, so the commands can be parsed in any order; the results still
+   * come back in the order of the inputs.
+   * @param inputs the commands to parse
+   * @return the result of parsing each command, in the order of the inputs
+   */
+  public static List<ParseResult> parseAll(List<String> inputs) {
+    return inputs.parallelStream().map(CommandParserCoordinator::parseCommand)
+            .collect(Collectors.toList());
   }
 
   private ParseResult parse(String input) {
@@ -50,12 +88,23 @@ public class CommandParserCoordinator {
     }
 
     // finds the appropriate parser for the command
-    for (CommandParser parser : parsers) {
-      if (parser.canHandle(trimmed)) {
-        return parser.parse(trimmed); // calls the parsers parse method
-      }
+    CommandParser parser = parserFor(trimmed);
+    if (parser != null) {
+      return parser.parse(trimmed); // calls the parsers parse method
     }
 
     return ParseResult.error("Unknown command: " + trimmed);
   }
-}
\ No newline at end of file
+
+  //finds the parser filed under the first one or two words of the input, or null if there is
+  //none. Only those words are lower cased, not the whole input.
+  private CommandParser parserFor(String input) {
+    int firstSpace = input.indexOf(' ');
+    if (firstSpace == -1) {
+      return this.byKeywords.get(input.toLowerCase());
+    }
+    int secondSpace = input.indexOf(' ', firstSpace + 1);
+    int end = secondSpace == -1 ? input.length() : secondSpace;
+    return this.byKeywords.get(input.substring(0, end).toLowerCase());
+  }
+}
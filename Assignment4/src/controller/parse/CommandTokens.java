@@ -0,0 +1,321 @@
+package controller.parse;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * The tokens of one command line, found in a single pass over it. A token is either a run of
+ * characters up to the next whitespace or a quoted string, which keeps its spaces and can't be
+ * mistaken for a keyword. Tokens are kept as offsets into the line and keywords are matched in
+ * place ignoring case, so parsing a command doesn't lower case or cut up the whole line; only
+ * the values a parser actually keeps become strings.
+ */
+public final class CommandTokens {
+
+  /**
+   * The kinds of tokens, decided from their shape alone. A date or datetime token still has to
+   * be parsed to know that it is valid.
+   */
+  public enum Type {
+    WORD, QUOTED, DATE, DATETIME
+  }
+
+  private final CharSequence input;
+  private int size;
+  private int[] starts;
+  private int[] ends;
+  private Type[] types;
+  // the hash of each word ignoring case, see keywordHash
+  private int[] hashes;
+  // true if the last quoted string was never closed, in which case it runs to the end of the line
+  private boolean unclosedQuote;
+
+  private CommandTokens(CharSequence input) {
+    this.input = input;
+    this.starts = new int[16];
+    this.ends = new int[16];
+    this.types = new Type[16];
+    this.hashes = new int[16];
+    scan();
+  }
+
+  /**
+   * Splits a command line into tokens.
+   * @param input the command line
+   * @return the tokens of the line
+   */
+  public static CommandTokens of(CharSequence input) {
+    return new CommandTokens(input);
+  }
+
+  //finds every token in one pass over the line
+  private void scan() {
+    int length = input.length();
+    int i = 0;
+    while (i < length) {
+      char c = input.charAt(i);
+      if (Character.isWhitespace(c)) {
+        i++;
+        continue;
+      }
+      int start = i;
+      if (c == '"') {
+        i++;
+        while (i < length && input.charAt(i) != '"') {
+          i++;
+        }
+        if (i < length) {
+          i++;
+        } else {
+          this.unclosedQuote = true;
+        }
+        add(start, i, Type.QUOTED, 0);
+      } else {
+        int hash = 0;
+        while (i < length && !Character.isWhitespace(c = input.charAt(i))) {
+          hash = 31 * hash + lowerAscii(c);
+          i++;
+        }
+        add(start, i, typeOf(start, i), hash);
+      }
+    }
+  }
+
+  //records a token, growing the arrays when they are full
+  private void add(int start, int end, Type type, int hash) {
+    if (size == starts.length) {
+      starts = Arrays.copyOf(starts, size * 2);
+      ends = Arrays.copyOf(ends, size * 2);
+      types = Arrays.copyOf(types, size * 2);
+      hashes = Arrays.copyOf(hashes, size * 2);
+    }
+    starts[size] = start;
+    ends[size] = end;
+    types[size] = type;
+    hashes[size] = hash;
+    size++;
+  }
+
+  /**
+   * Hashes a keyword the way the words of a line are hashed, so that a word can only be the
+   * keyword if their hashes are equal.
+   * @param keyword the keyword
+   * @return the hash of the keyword, ignoring the case of ASCII letters
+   */
+  public static int keywordHash(CharSequence keyword) {
+    int hash = 0;
+    for (int i = 0; i < keyword.length(); i++) {
+      hash = 31 * hash + lowerAscii(keyword.charAt(i));
+    }
+    return hash;
+  }
+
+  //lower cases ASCII letters only, which is all keywords are made of
+  private static char lowerAscii(char c) {
+    return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+  }
+
+  //tells dates (yyyy-MM-dd) and datetimes (yyyy-MM-ddTHH:mm) from other words by their shape
+  private Type typeOf(int start, int end) {
+    int length = end - start;
+    if (length != 10 && length != 16) {
+      return Type.WORD;
+    }
+    for (int k = 0; k < length; k++) {
+      char c = input.charAt(start + k);
+      boolean expected;
+      switch (k) {
+        case 4:
+        case 7:
+          expected = c == '-';
+          break;
+        case 10:
+          expected = c == 'T';
+          break;
+        case 13:
+          expected = c == ':';
+          break;
+        default:
+          expected = c >= '0' && c <= '9';
+      }
+      if (!expected) {
+        return Type.WORD;
+      }
+    }
+    return length == 10 ? Type.DATE : Type.DATETIME;
+  }
+
+  /**
+   * Gets the number of tokens.
+   * @return the number of tokens
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Gets the kind of a token.
+   * @param index the index of the token
+   * @return the kind of the token
+   */
+  public Type type(int index) {
+    return types[index];
+  }
+
+  /**
+   * Gets where a token starts in the line, including the opening quote of a quoted string.
+   * @param index the index of the token
+   * @return the offset of the first character of the token
+   */
+  public int start(int index) {
+    return starts[index];
+  }
+
+  /**
+   * Gets where a token ends in the line, after the closing quote of a quoted string.
+   * @param index the index of the token
+   * @return the offset just past the last character of the token
+   */
+  public int end(int index) {
+    return ends[index];
+  }
+
+  /**
+   * Gets the hash of a token, which is the same as the keywordHash of the keyword it might be.
+   * Quoted strings have no hash, since they are never keywords.
+   * @param index the index of the token
+   * @return the hash of the token
+   */
+  public int keywordHash(int index) {
+    return hashes[index];
+  }
+
+  /**
+   * Checks if a quoted string in the line was never closed.
+   * @return true or false
+   */
+  public boolean hasUnclosedQuote() {
+    return unclosedQuote;
+  }
+
+  /**
+   * Checks if a token is the given keyword, ignoring case. Quoted strings are never keywords.
+   * @param index the index of the token
+   * @param keyword the keyword, without spaces
+   * @return true or false
+   */
+  public boolean isKeyword(int index, String keyword) {
+    if (index < 0 || index >= size || types[index] == Type.QUOTED) {
+      return false;
+    }
+    int start = starts[index];
+    int length = ends[index] - start;
+    if (length != keyword.length()) {
+      return false;
+    }
+    for (int k = 0; k < length; k++) {
+      char a = input.charAt(start + k);
+      char b = keyword.charAt(k);
+      if (a != b && Character.toLowerCase(a) != Character.toLowerCase(b)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Finds the first token at or after an index that is the given keyword.
+   * @param keyword the keyword, without spaces
+   * @param from the index to start looking at
+   * @return the index of the keyword, or -1 if it isn't there
+   */
+  public int find(String keyword, int from) {
+    for (int i = Math.max(from, 0); i < size; i++) {
+      if (isKeyword(i, keyword)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Finds the last token at or after an index that is the given keyword.
+   * @param keyword the keyword, without spaces
+   * @param from the lowest index to look at
+   * @return the index of the keyword, or -1 if it isn't there
+   */
+  public int findLast(String keyword, int from) {
+    for (int i = size - 1; i >= Math.max(from, 0); i--) {
+      if (isKeyword(i, keyword)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Gets the text of the line from the start of one token to the end of another, as it was
+   * typed, quotes and spaces included.
+   * @param from the index of the first token
+   * @param to the index just past the last token
+   * @return the text, or an empty string if there are no tokens in the range
+   */
+  public String text(int from, int to) {
+    if (from >= to || from >= size) {
+      return "";
+    }
+    return input.subSequence(starts[from], ends[Math.min(to, size) - 1]).toString();
+  }
+
+  /**
+   * Gets the value of a range of tokens: the inside of a quoted string if the range is just one
+   * closed quoted string, otherwise the text as it was typed.
+   * @param from the index of the first token
+   * @param to the index just past the last token
+   * @return the value, or an empty string if there are no tokens in the range
+   */
+  public String value(int from, int to) {
+    if (to == from + 1 && from < size && types[from] == Type.QUOTED && isClosed(from)) {
+      return input.subSequence(starts[from] + 1, ends[from] - 1).toString();
+    }
+    return text(from, to);
+  }
+
+  /**
+   * Parses a range of tokens as a date, reading it straight from the line.
+   * @param from the index of the first token
+   * @param to the index just past the last token
+   * @return the date
+   * @throws java.time.format.DateTimeParseException if the range is not a valid date
+   */
+  public LocalDate date(int from, int to) {
+    return IsoDates.parseDate(input, rangeStart(from, to), rangeEnd(from, to));
+  }
+
+  /**
+   * Parses a range of tokens as a datetime, reading it straight from the line.
+   * @param from the index of the first token
+   * @param to the index just past the last token
+   * @return the datetime
+   * @throws java.time.format.DateTimeParseException if the range is not a valid datetime
+   */
+  public LocalDateTime dateTime(int from, int to) {
+    return IsoDates.parseDateTime(input, rangeStart(from, to), rangeEnd(from, to));
+  }
+
+  //the offset where a range of tokens starts, which is the end of the line for an empty range
+  private int rangeStart(int from, int to) {
+    return from >= to || from >= size ? input.length() : starts[from];
+  }
+
+  //the offset just past a range of tokens
+  private int rangeEnd(int from, int to) {
+    return from >= to || from >= size ? input.length() : ends[Math.min(to, size) - 1];
+  }
+
+  //checks that a quoted token ends with its closing quote
+  private boolean isClosed(int index) {
+    return ends[index] - starts[index] >= 2 && input.charAt(ends[index] - 1) == '"';
+  }
+}
@@ -7,5 +7,7 @@ public enum CommandType {
   CREATE_EVENT, EDIT_EVENT, EDIT_EVENTS, EDIT_SERIES,
   PRINT_EVENTS, SHOW_STATUS, EXIT,
   CREATE_CALENDAR, EDIT_CALENDAR, USE_CALENDAR,
-  COPY_SINGLE_EVENT, COPY_EVENTS_ON_DAY, COPY_EVENTS_BETWEEN
+  COPY_SINGLE_EVENT, COPY_EVENTS_ON_DAY, COPY_EVENTS_BETWEEN, MOVE_EVENTS,
+  DELETE_EVENT, DELETE_EVENTS, DELETE_SERIES,
+  UNDO, REDO
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package controller.parse;
+
+/**
+ * Handles each kind of parsed command in its own method. Every command in {@link ParseResult}
+ * calls the method for its kind, so adding a command means adding a method here, and every
+ * visitor then has to handle it.
+ * @param <T> the type of what the visitor returns
+ */
+public interface CommandVisitor<T> {
+  T visit(ParseResult.CreateEvent command);
+
+  T visit(ParseResult.EditEvent command);
+
+  T visit(ParseResult.EditEvents command);
+
+  T visit(ParseResult.EditSeries command);
+
+  T visit(ParseResult.DeleteEvent command);
+
+  T visit(ParseResult.DeleteEvents command);
+
+  T visit(ParseResult.DeleteSeries command);
+
+  T visit(ParseResult.PrintDay command);
+
+  T visit(ParseResult.PrintInterval command);
+
+  T visit(ParseResult.ShowStatus command);
+
+  T visit(ParseResult.CreateCalendar command);
+
+  T visit(ParseResult.EditCalendar command);
+
+  T visit(ParseResult.UseCalendar command);
+
+  T visit(ParseResult.CopyEvent command);
+
+  T visit(ParseResult.CopyOnDay command);
+
+  T visit(ParseResult.CopyBetween command);
+
+  T visit(ParseResult.MoveEvents command);
+
+  T visit(ParseResult.Undo command);
+
+  T visit(ParseResult.Redo command);
+
+  T visit(ParseResult.Exit command);
+}
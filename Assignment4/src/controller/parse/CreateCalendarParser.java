@@ -7,19 +7,16 @@ import java.time.ZoneId;
  */
 public class CreateCalendarParser implements CommandParser {
 
-  @Override
-  public boolean canHandle(String input) {
-    return input.toLowerCase().startsWith("create calendar ");
-  }
-
   @Override
   public ParseResult parse(String input) {
     try {
+      CommandGrammar.Match match = ParsingTools.match(input);
+
       // Extract calendar name
-      String calendarName = extractCalendarName(input);
+      String calendarName = ParsingTools.extractName(match, "name", "Calendar name");
 
       // Extract timezone
-      ZoneId timezone = extractTimezone(input);
+      ZoneId timezone = extractTimezone(match);
 
       return ParseResult.createCalendar(calendarName, timezone);
 
@@ -28,55 +25,17 @@ public class CreateCalendarParser implements CommandParser {
     }
   }
 
-  /**
-   * Extracts calendar name from the command.
-   */
-  private String extractCalendarName(String input) {
-    int nameIndex = input.indexOf("--name ");
-    if (nameIndex == -1) {
-      throw new IllegalArgumentException("Missing --name parameter");
-    }
-
-    int nameStart = nameIndex + "--name ".length();
-    int timezoneIndex = input.indexOf(" --timezone ", nameStart);
-
-    if (timezoneIndex == -1) {
-      throw new IllegalArgumentException("Missing --timezone parameter");
-    }
-
-    String name = input.substring(nameStart, timezoneIndex).trim();
-
-    // Handle quoted names
-    if (name.startsWith("\"") && name.endsWith("\"")) {
-      name = name.substring(1, name.length() - 1);
-    }
-
-    if (name.isEmpty()) {
-      throw new IllegalArgumentException("Calendar name cannot be empty");
-    }
-
-    return name;
-  }
-
   /**
    * Extracts timezone from the command.
    */
-  private ZoneId extractTimezone(String input) {
-    int tzIndex = input.indexOf("--timezone ");
-    if (tzIndex == -1) {
-      throw new IllegalArgumentException("Missing --timezone parameter");
-    }
-
-    String timezone = input.substring(tzIndex + "--timezone ".length()).trim();
-
-    if (timezone.isEmpty()) {
-      throw new IllegalArgumentException("Timezone cannot be empty");
-    }
+  private ZoneId extractTimezone(CommandGrammar.Match match) {
+    String timezone = match.text("timezone");
 
     try {
       return ZoneId.of(timezone);
     } catch (Exception e) {
-      throw new IllegalArgumentException("Invalid timezone: " + timezone);
+      throw new IllegalArgumentException("Invalid timezone: " + timezone + " at column "
+              + match.column("timezone"));
     }
   }
-}
\ No newline at end of file
+}
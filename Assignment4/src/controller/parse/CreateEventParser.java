@@ -9,18 +9,23 @@ import java.time.LocalDateTime;
  * to the model to create the event(s).
  */
 public class CreateEventParser implements CommandParser {
-  @Override
-  public boolean canHandle(String input) {
-    return input.toLowerCase().startsWith("create event");
-  }
-
   @Override
   public ParseResult parse(String input) {
     try {
-      String subject = ParsingTools.extractSubject(input, "create event ");
-      LocalDateTime startTime = extractStartTime(input);
-      LocalDateTime endTime = extractEndTime(input);
-      RepeatInfo repeatInfo = extractRepeatInfo(input);
+      CommandGrammar.Match match = ParsingTools.match(input);
+      String subject = ParsingTools.extractSubject(match);
+      LocalDateTime startTime;
+      LocalDateTime endTime = null;
+      if (match.has("date")) {
+        // 8 am default
+        startTime = ParsingTools.extractDate(match, "date").atTime(8, 0);
+      } else {
+        startTime = ParsingTools.extractDateTime(match, "start");
+        if (match.has("end")) {
+          endTime = ParsingTools.extractDateTime(match, "end");
+        }
+      }
+      RepeatInfo repeatInfo = extractRepeatInfo(match);
 
       return ParseResult.createEvent(subject, startTime, endTime, repeatInfo);
     } catch (Exception e) {
@@ -28,87 +33,45 @@ public class CreateEventParser implements CommandParser {
     }
   }
 
-  private LocalDateTime extractStartTime(String input) {
-    if (input.contains(" from ")) {
-      return ParsingTools.extractDateTime(input, " from ", " to ");
-    } else if (input.contains(" on ")) {
-      return ParsingTools.extractDate(input, " on ");
-    } else {
-      throw new IllegalArgumentException("Missing start time information");
-    }
-  }
-
-  private LocalDateTime extractEndTime(String input) {
-    if (input.contains(" to ")) {
-      return ParsingTools.extractDateTime(input, " to ", " repeats ");
-    }
-    return null;
-  }
-
-  private RepeatInfo extractRepeatInfo(String input) {
-    if (!input.toLowerCase().contains(" repeats ")) {
+  private RepeatInfo extractRepeatInfo(CommandGrammar.Match match) {
+    if (!match.has("days")) {
       return null;
     }
 
-    String repeatDays = extractRepeatDays(input);
+    String repeatDays = extractRepeatDays(match);
 
-    if (input.toLowerCase().contains(" for ") && input.toLowerCase().contains(" times")) {
-      int repeatTimes = extractRepeatTimes(input);
+    if (match.has("times")) {
+      int repeatTimes = extractRepeatTimes(match);
       return new RepeatInfo(repeatDays, repeatTimes, null);
-    } else if (input.toLowerCase().contains(" until ")) {
-      LocalDate repeatUntil = extractRepeatUntil(input);
-      return new RepeatInfo(repeatDays, null, repeatUntil);
     } else {
-      throw new IllegalArgumentException("Invalid repeat format");
+      LocalDate repeatUntil = ParsingTools.extractDate(match, "until");
+      return new RepeatInfo(repeatDays, null, repeatUntil);
     }
   }
 
-  private String extractRepeatDays(String input) {
-    int start = input.toLowerCase().indexOf(" repeats ") + " repeats ".length();
-    int forPos = input.toLowerCase().indexOf(" for ", start);
-    int untilPos = input.toLowerCase().indexOf(" until ", start);
-
-    int end;
-    if (forPos != -1 && untilPos != -1) {
-      end = Math.min(forPos, untilPos);
-    } else if (forPos != -1) {
-      end = forPos;
-    } else if (untilPos != -1) {
-      end = untilPos;
-    } else {
-      throw new IllegalArgumentException("Invalid repeat format");
-    }
-
-    String repeatDays = input.substring(start, end).trim();
-    if (repeatDays.isEmpty() || !repeatDays.matches("[MTWRFSU]+")) {
-      throw new IllegalArgumentException("Invalid repeat days: " + repeatDays);
+  private String extractRepeatDays(CommandGrammar.Match match) {
+    String repeatDays = match.text("days");
+    if (!repeatDays.matches("[MTWRFSU]+")) {
+      throw new IllegalArgumentException("Invalid repeat days: " + repeatDays + " at column "
+              + match.column("days"));
     }
 
     return repeatDays;
   }
 
-  private int extractRepeatTimes(String input) {
-    String timesStr = ParsingTools.extractAfterKeyword(input, " for ").split(" ")[0];
+  private int extractRepeatTimes(CommandGrammar.Match match) {
+    String timesStr = match.text("times");
     try {
       int times = Integer.parseInt(timesStr);
       if (times <= 0) {
-        throw new IllegalArgumentException("Repeat times must be positive: " + times);
+        throw new IllegalArgumentException("Repeat times must be positive: " + times
+                + " at column " + match.column("times"));
       }
       return times;
     } catch (NumberFormatException e) {
-      throw new IllegalArgumentException("Invalid repeat times: " + timesStr);
-    }
-  }
-
-  private LocalDate extractRepeatUntil(String input) {
-    String dateStr = ParsingTools.extractAfterKeyword(input, " until ");
-    try {
-      return LocalDate.parse(dateStr);
-    } catch (Exception e) {
-      throw new IllegalArgumentException("Invalid until date: " + dateStr);
+      throw new IllegalArgumentException("Invalid repeat times: " + timesStr + " at column "
+              + match.column("times"));
     }
   }
 
 }
-
-
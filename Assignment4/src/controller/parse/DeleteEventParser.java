@@ -0,0 +1,39 @@
+package controller.parse;
+
+import java.time.LocalDateTime;
+
+/**
+ * Takes the user input if it's a delete event command and extracts the necessary information to
+ * pass to the model to delete the event(s).
+ * (delete event <eventSubject> from <dateStringTtimeString> to <dateStringTtimeString>,
+ * delete events <eventSubject> from <dateStringTtimeString>,
+ * delete series <eventSubject> from <dateStringTtimeString>).
+ */
+public class DeleteEventParser implements CommandParser {
+  @Override
+  public ParseResult parse(String input) {
+    try {
+      CommandGrammar.Match match = ParsingTools.match(input);
+      CommandType deleteType = determineDeleteType(match);
+      String eventSubject = ParsingTools.extractSubject(match);
+      LocalDateTime eventStart = ParsingTools.extractDateTime(match, "start");
+      LocalDateTime eventEnd = null;
+      if (match.has("end")) {
+        eventEnd = ParsingTools.extractDateTime(match, "end");
+      }
+
+      return ParseResult.deleteEvent(deleteType, eventSubject, eventStart, eventEnd);
+    } catch (Exception e) {
+      return ParseResult.error("Delete command error: " + e.getMessage());
+    }
+  }
+
+  private CommandType determineDeleteType(CommandGrammar.Match match) {
+    switch (match.rule()) {
+      case "delete-event": return CommandType.DELETE_EVENT;
+      case "delete-events": return CommandType.DELETE_EVENTS;
+      case "delete-series": return CommandType.DELETE_SERIES;
+      default: throw new IllegalArgumentException("Unknown delete type");
+    }
+  }
+}
@@ -0,0 +1,18 @@
+package controller.parse;
+
+/**
+ * Parser for the commands that move through the calendar's history (undo, redo).
+ */
+public class HistoryParser implements CommandParser {
+
+  @Override
+  public ParseResult parse(String input) {
+    try {
+      CommandGrammar.Match match = ParsingTools.match(input);
+      return ParseResult.history(match.rule().equals("undo") ? CommandType.UNDO
+              : CommandType.REDO);
+    } catch (Exception e) {
+      return ParseResult.error("History command error: " + e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,104 @@
+package controller.parse;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+
+/**
+ * Parses the dates (yyyy-MM-dd) and datetimes (yyyy-MM-ddTHH:mm) that commands are written with.
+ * Text of exactly that shape is read digit by digit, which is much cheaper than going through
+ * a DateTimeFormatter. Anything else, such as a datetime with seconds or a date that doesn't
+ * exist, is handed to LocalDate.parse or LocalDateTime.parse, so the result and the exceptions
+ * thrown are the same as theirs.
+ */
+public final class IsoDates {
+  private IsoDates() {
+    throw new IllegalStateException("Utility class");
+  }
+
+  /**
+   * Parses a date.
+   * @param text the date, as yyyy-MM-dd
+   * @return the date
+   * @throws java.time.format.DateTimeParseException if the text is not a valid date
+   */
+  public static LocalDate parseDate(CharSequence text) {
+    return parseDate(text, 0, text.length());
+  }
+
+  /**
+   * Parses the date in part of some text, without copying that part out.
+   * @param text the text holding the date
+   * @param start the offset of the first character of the date
+   * @param end the offset just past the last character of the date
+   * @return the date
+   * @throws java.time.format.DateTimeParseException if that part is not a valid date
+   */
+  public static LocalDate parseDate(CharSequence text, int start, int end) {
+    if (end - start == 10) {
+      int year = digits(text, start, 4);
+      int month = digits(text, start + 5, 2);
+      int day = digits(text, start + 8, 2);
+      if (text.charAt(start + 4) == '-' && text.charAt(start + 7) == '-'
+              && isValidDate(year, month, day)) {
+        return LocalDate.of(year, month, day);
+      }
+    }
+    return LocalDate.parse(text.subSequence(start, end));
+  }
+
+  /**
+   * Parses a datetime.
+   * @param text the datetime, as yyyy-MM-ddTHH:mm
+   * @return the datetime
+   * @throws java.time.format.DateTimeParseException if the text is not a valid datetime
+   */
+  public static LocalDateTime parseDateTime(CharSequence text) {
+    return parseDateTime(text, 0, text.length());
+  }
+
+  /**
+   * Parses the datetime in part of some text, without copying that part out.
+   * @param text the text holding the datetime
+   * @param start the offset of the first character of the datetime
+   * @param end the offset just past the last character of the datetime
+   * @return the datetime
+   * @throws java.time.format.DateTimeParseException if that part is not a valid datetime
+   */
+  public static LocalDateTime parseDateTime(CharSequence text, int start, int end) {
+    if (end - start == 16) {
+      int year = digits(text, start, 4);
+      int month = digits(text, start + 5, 2);
+      int day = digits(text, start + 8, 2);
+      int hour = digits(text, start + 11, 2);
+      int minute = digits(text, start + 14, 2);
+      if (text.charAt(start + 4) == '-' && text.charAt(start + 7) == '-'
+              && text.charAt(start + 10) == 'T' && text.charAt(start + 13) == ':'
+              && isValidDate(year, month, day) && hour >= 0 && hour <= 23
+              && minute >= 0 && minute <= 59) {
+        return LocalDateTime.of(year, month, day, hour, minute);
+      }
+    }
+    return LocalDateTime.parse(text.subSequence(start, end));
+  }
+
+  //reads a number written with exactly the given count of digits, or -1 if any is not a digit
+  private static int digits(CharSequence text, int start, int count) {
+    int value = 0;
+    for (int i = start; i < start + count; i++) {
+      char c = text.charAt(i);
+      if (c < '0' || c > '9') {
+        return -1;
+      }
+      value = value * 10 + (c - '0');
+    }
+    return value;
+  }
+
+  //checks that the day exists in the month of that year
+  private static boolean isValidDate(int year, int month, int day) {
+    return year >= 0 && month >= 1 && month <= 12 && day >= 1
+            && day <= Month.of(month).length(Year.isLeap(year));
+  }
+}
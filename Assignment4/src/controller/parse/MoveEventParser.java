@@ -0,0 +1,31 @@
+package controller.parse;
+
+import java.time.LocalDate;
+
+/**
+ * Parser for move events commands
+ * (move events on <dateString> --target <calendarName>,
+ * move events between <dateString> and <dateString> --target <calendarName>).
+ *
+ */
+public class MoveEventParser implements CommandParser {
+
+  @Override
+  public ParseResult parse(String input) {
+    try {
+      CommandGrammar.Match match = ParsingTools.match(input);
+      String targetCalendar = ParsingTools.extractName(match, "calendar",
+              "Target calendar name");
+
+      if (match.has("date")) {
+        LocalDate date = ParsingTools.extractDate(match, "date");
+        return ParseResult.moveEvents(date, date, targetCalendar);
+      }
+      return ParseResult.moveEvents(ParsingTools.extractDate(match, "startDate"),
+              ParsingTools.extractDate(match, "endDate"), targetCalendar);
+
+    } catch (Exception e) {
+      return ParseResult.error("Move event error: " + e.getMessage());
+    }
+  }
+}
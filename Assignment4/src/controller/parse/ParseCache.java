@@ -0,0 +1,190 @@
+package controller.parse;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of parsed commands, keyed by the command text with surrounding whitespace
+ * removed. Parsed commands can't be changed, so the same result is safely handed to every
+ * caller, from any thread. The cache counts its hits, misses and evictions so that its use can
+ * be measured.
+ *
+ * <p>The cache is split into segments by the hash of the command, each with its own lock and
+ * its own share of the capacity, so threads looking up different commands rarely wait for each
+ * other. When a segment is full the command it used least recently is dropped, which makes the
+ * cache as a whole only roughly least recently used. A cache too small to give every segment a
+ * fair share has a single segment and is exactly least recently used.</p>
+ *
+ * <p>Two threads that miss the same command at the same time both parse it and both count as
+ * misses. Only the first result is kept, and both threads get it, so callers still share one
+ * result per command.</p>
+ */
+public final class ParseCache {
+  // the most segments a cache is split into, a power of two
+  private static final int MAX_SEGMENTS = 16;
+  // the fewest commands a segment holds, so that a small cache isn't split into tiny ones
+  private static final int MIN_SEGMENT_CAPACITY = 64;
+
+  private final int capacity;
+  private final Segment[] segments;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * A share of the cache, kept in access order so that the eldest entry is the least recently
+   * used. Guarded by itself.
+   */
+  private final class Segment extends LinkedHashMap<String, ParseResult> {
+    private static final long serialVersionUID = 1L;
+    private final int segmentCapacity;
+
+    private Segment(int segmentCapacity) {
+      super(16, 0.75f, true);
+      this.segmentCapacity = segmentCapacity;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, ParseResult> eldest) {
+      if (size() > segmentCapacity) {
+        evictions.increment();
+        return true;
+      }
+      return false;
+    }
+  }
+
+  /**
+   * Creates an empty cache.
+   * @param capacity the most commands the cache holds
+   * @throws IllegalArgumentException if the capacity is not positive
+   */
+  public ParseCache(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Cache capacity must be positive: " + capacity);
+    }
+    this.capacity = capacity;
+    int count = 1;
+    while (count < MAX_SEGMENTS && capacity / (count * 2) >= MIN_SEGMENT_CAPACITY) {
+      count *= 2;
+    }
+    this.segments = new Segment[count];
+    for (int i = 0; i < count; i++) {
+      // the capacities add up to the capacity of the cache
+      segments[i] = new Segment(capacity / count + (i < capacity % count ? 1 : 0));
+    }
+  }
+
+  //gets the segment a command belongs to
+  private Segment segmentFor(String key) {
+    int hash = key.hashCode();
+    return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+  }
+
+  /**
+   * Gets the parsed command for an input, parsing it only if it isn't cached. The parse runs
+   * outside the lock of the cache, so a slow parse doesn't hold up other threads.
+   * @param input the command text
+   * @param parser parses the command text when it isn't cached
+   * @return the parsed command
+   */
+  public ParseResult get(String input, Function<String, ParseResult> parser) {
+    if (input == null) {
+      return parser.apply(null);
+    }
+    String key = input.trim();
+    Segment segment = segmentFor(key);
+    ParseResult cached;
+    synchronized (segment) {
+      cached = segment.get(key);
+    }
+    if (cached != null) {
+      hits.increment();
+      return cached;
+    }
+    misses.increment();
+    ParseResult parsed = parser.apply(key);
+    synchronized (segment) {
+      ParseResult raced = segment.putIfAbsent(key, parsed);
+      return raced != null ? raced : parsed;
+    }
+  }
+
+  /**
+   * Gets the most commands the cache holds.
+   * @return the capacity
+   */
+  public int capacity() {
+    return capacity;
+  }
+
+  /**
+   * Gets the number of commands in the cache.
+   * @return the size
+   */
+  public int size() {
+    int size = 0;
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        size += segment.size();
+      }
+    }
+    return size;
+  }
+
+  /**
+   * Gets how many lookups found their command in the cache.
+   * @return the number of hits
+   */
+  public long hits() {
+    return hits.sum();
+  }
+
+  /**
+   * Gets how many lookups had to parse their command.
+   * @return the number of misses
+   */
+  public long misses() {
+    return misses.sum();
+  }
+
+  /**
+   * Gets how many commands were dropped to make room for others.
+   * @return the number of evictions
+   */
+  public long evictions() {
+    return evictions.sum();
+  }
+
+  /**
+   * Gets the share of lookups that were hits.
+   * @return the hit rate between 0 and 1, or 0 if there were no lookups
+   */
+  public double hitRate() {
+    long hit = hits.sum();
+    long total = hit + misses.sum();
+    return total == 0 ? 0 : (double) hit / total;
+  }
+
+  /**
+   * Empties the cache and resets its counts.
+   */
+  public void clear() {
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        segment.clear();
+      }
+    }
+    hits.reset();
+    misses.reset();
+    evictions.reset();
+  }
+
+  @Override
+  public String toString() {
+    return String.format("ParseCache[size=%d/%d, hits=%d, misses=%d, evictions=%d]",
+            size(), capacity, hits(), misses(), evictions());
+  }
+}
@@ -5,85 +5,17 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 
 /**
- * Contains a mass of values extracted from the parsing that will be passed into the model methods.
+ * The result of parsing a command: either an error or one of the commands nested in this class,
+ * each of which holds only the values its own command needs and can't be changed. The constructor
+ * is private, so these are the only kinds of results there are, and code that runs commands
+ * handles each kind through a {@link CommandVisitor} instead of switching on the command type.
+ *
+ * <p>The getters of every command are also declared here for code that doesn't know which
+ * command it has. A getter that doesn't belong to the command returns null.</p>
  */
-public class ParseResult {
-  private final boolean success;
-  private final CommandType commandType;
-  private final String errorMessage;
-
-  // CREATE event fields
-  private final String subject;
-  private final LocalDateTime startTime;
-  private final LocalDateTime endTime;
-  private final RepeatInfo repeatInfo;
-
-  // EDIT command fields
-  private final PropertyType property;
-  private final String eventSubject;
-  private final LocalDateTime eventStart;
-  private final LocalDateTime eventEnd;
-  private final String newValue;
-
-  // PRINT command fields
-  private final LocalDateTime printStartDate;
-  private final LocalDateTime printEndDate;
-
-  // SHOW STATUS command fields
-  private final LocalDateTime statusDateTime;
-
-  // CALENDAR command fields
-  private final String calendarName;
-  private final ZoneId timezone;
-  private final String propertyName;
-  private final String propertyValue;
-
-  // COPY command fields
-  private final String targetCalendarName;
-  private final LocalDateTime targetDateTime;
-  private final LocalDate sourceDate;
-  private final LocalDate targetDate;
-  private final LocalDate copyStartDate;
-  private final LocalDate copyEndDate;
-
-  private ParseResult(boolean success, CommandType commandType, String errorMessage,
-                      String subject, LocalDateTime startTime,
-                      LocalDateTime endTime, RepeatInfo repeatInfo,
-                      PropertyType property, String eventSubject,
-                      LocalDateTime eventStart,
-                      LocalDateTime eventEnd, String newValue,
-                      LocalDateTime printStartDate, LocalDateTime printEndDate,
-                      LocalDateTime statusDateTime,
-                      String calendarName, ZoneId timezone,
-                      String propertyName, String propertyValue,
-                      String targetCalendarName, LocalDateTime targetDateTime,
-                      LocalDate sourceDate, LocalDate targetDate,
-                      LocalDate copyStartDate, LocalDate copyEndDate) {
-    this.success = success;
-    this.commandType = commandType;
-    this.errorMessage = errorMessage;
-    this.subject = subject;
-    this.startTime = startTime;
-    this.endTime = endTime;
-    this.repeatInfo = repeatInfo;
-    this.property = property;
-    this.eventSubject = eventSubject;
-    this.eventStart = eventStart;
-    this.eventEnd = eventEnd;
-    this.newValue = newValue;
-    this.printStartDate = printStartDate;
-    this.printEndDate = printEndDate;
-    this.statusDateTime = statusDateTime;
-    this.calendarName = calendarName;
-    this.timezone = timezone;
-    this.propertyName = propertyName;
-    this.propertyValue = propertyValue;
-    this.targetCalendarName = targetCalendarName;
-    this.targetDateTime = targetDateTime;
-    this.sourceDate = sourceDate;
-    this.targetDate = targetDate;
-    this.copyStartDate = copyStartDate;
-    this.copyEndDate = copyEndDate;
+public abstract class ParseResult {
+
+  private ParseResult() {
   }
 
   /**
@@ -94,15 +26,9 @@ public class ParseResult {
    * @param repeatInfo the repeat days
    * @return a new event
    */
-  public static ParseResult createEvent(String subject, LocalDateTime startTime,
+  public static CreateEvent createEvent(String subject, LocalDateTime startTime,
                                         LocalDateTime endTime, RepeatInfo repeatInfo) {
-    return new ParseResult(true, CommandType.CREATE_EVENT, null,
-            subject, startTime, endTime, repeatInfo,
-            null, null, null, null, null,
-            null, null, null,
-            null, null, null, null,
-            null, null, null, null,
-            null, null);
+    return new CreateEvent(subject, startTime, endTime, repeatInfo);
   }
 
   /**
@@ -118,13 +44,38 @@ public class ParseResult {
   public static ParseResult editEvent(CommandType editType, PropertyType property,
                                       String eventSubject, LocalDateTime eventStart,
                                       LocalDateTime eventEnd, String newValue) {
-    return new ParseResult(true, editType, null,
-            null, null, null, null,
-            property, eventSubject, eventStart, eventEnd, newValue,
-            null, null, null,
-            null, null, null, null,
-            null, null, null, null,
-            null, null);
+    switch (editType) {
+      case EDIT_EVENT:
+        return new EditEvent(property, eventSubject, eventStart, eventEnd, newValue);
+      case EDIT_EVENTS:
+        return new EditEvents(property, eventSubject, eventStart, newValue);
+      case EDIT_SERIES:
+        return new EditSeries(property, eventSubject, eventStart, newValue);
+      default:
+        throw new IllegalArgumentException("Unknown edit type: " + editType);
+    }
+  }
+
+  /**
+   * Deletes the event(s) depending on the constraints.
+   * @param deleteType the type of delete being made
+   * @param eventSubject the event subject
+   * @param eventStart the event start time
+   * @param eventEnd the event end time, only used when deleting a single event
+   * @return delete event command result
+   */
+  public static ParseResult deleteEvent(CommandType deleteType, String eventSubject,
+                                        LocalDateTime eventStart, LocalDateTime eventEnd) {
+    switch (deleteType) {
+      case DELETE_EVENT:
+        return new DeleteEvent(eventSubject, eventStart, eventEnd);
+      case DELETE_EVENTS:
+        return new DeleteEvents(eventSubject, eventStart);
+      case DELETE_SERIES:
+        return new DeleteSeries(eventSubject, eventStart);
+      default:
+        throw new IllegalArgumentException("Unknown delete type: " + deleteType);
+    }
   }
 
   /**
@@ -133,15 +84,9 @@ public class ParseResult {
    * @param endDate the end date of the event
    * @return the event to be printed
    */
-  public static ParseResult printEventsInterval(LocalDateTime startDate,
-                                                LocalDateTime endDate) {
-    return new ParseResult(true, CommandType.PRINT_EVENTS, null,
-            null, null, null, null,
-            null, null, null, null, null,
-            startDate, endDate, null,
-            null, null, null, null,
-            null, null, null, null,
-            null, null);
+  public static PrintInterval printEventsInterval(LocalDateTime startDate,
+                                                  LocalDateTime endDate) {
+    return new PrintInterval(startDate, endDate);
   }
 
   /**
@@ -149,14 +94,8 @@ public class ParseResult {
    * @param startDate the start date of the event
    * @return the event to be printed
    */
-  public static ParseResult printEventsDay(LocalDate startDate) {
-    return new ParseResult(true, CommandType.PRINT_EVENTS, null,
-            null, null, null, null,
-            null, null, null, null, null,
-            startDate.atStartOfDay(), null, null,
-            null, null, null, null,
-            null, null, null, null,
-            null, null);
+  public static PrintDay printEventsDay(LocalDate startDate) {
+    return new PrintDay(startDate);
   }
 
   /**
@@ -164,14 +103,8 @@ public class ParseResult {
    * @param dateTime the day to check
    * @return the status of the date
    */
-  public static ParseResult showStatus(LocalDateTime dateTime) {
-    return new ParseResult(true, CommandType.SHOW_STATUS, null,
-            null, null, null, null,
-            null, null, null, null, null,
-            null, null, dateTime,
-            null, null, null, null,
-            null, null, null, null,
-            null, null);
+  public static ShowStatus showStatus(LocalDateTime dateTime) {
+    return new ShowStatus(dateTime);
   }
 
   /**
@@ -180,14 +113,8 @@ public class ParseResult {
    * @param timezone the timezone of the calendar
    * @return create calendar command result
    */
-  public static ParseResult createCalendar(String calendarName, ZoneId timezone) {
-    return new ParseResult(true, CommandType.CREATE_CALENDAR, null,
-            null, null, null, null,
-            null, null, null, null, null,
-            null, null, null,
-            calendarName, timezone, null, null,
-            null, null, null, null,
-            null, null);
+  public static CreateCalendar createCalendar(String calendarName, ZoneId timezone) {
+    return new CreateCalendar(calendarName, timezone);
   }
 
   /**
@@ -197,15 +124,9 @@ public class ParseResult {
    * @param propertyValue the new value
    * @return edit calendar command result
    */
-  public static ParseResult editCalendar(String calendarName, String propertyName,
-                                         String propertyValue) {
-    return new ParseResult(true, CommandType.EDIT_CALENDAR, null,
-            null, null, null, null,
-            null, null, null, null, null,
-            null, null, null,
-            calendarName, null, propertyName, propertyValue,
-            null, null, null, null,
-            null, null);
+  public static EditCalendar editCalendar(String calendarName, String propertyName,
+                                          String propertyValue) {
+    return new EditCalendar(calendarName, propertyName, propertyValue);
   }
 
   /**
@@ -213,14 +134,8 @@ public class ParseResult {
    * @param calendarName the name of the calendar to use
    * @return use calendar command result
    */
-  public static ParseResult useCalendar(String calendarName) {
-    return new ParseResult(true, CommandType.USE_CALENDAR, null,
-            null, null, null, null,
-            null, null, null, null, null,
-            null, null, null,
-            calendarName, null, null, null,
-            null, null, null, null,
-            null, null);
+  public static UseCalendar useCalendar(String calendarName) {
+    return new UseCalendar(calendarName);
   }
 
   /**
@@ -231,16 +146,10 @@ public class ParseResult {
    * @param targetDateTime the target date/time
    * @return copy event command result
    */
-  public static ParseResult copySingleEvent(String eventName, LocalDateTime sourceDateTime,
-                                            String targetCalendarName,
-                                            LocalDateTime targetDateTime) {
-    return new ParseResult(true, CommandType.COPY_SINGLE_EVENT, null,
-            eventName, sourceDateTime, null, null,
-            null, null, null, null, null,
-            null, null, null,
-            null, null, null, null,
-            targetCalendarName, targetDateTime, null, null,
-            null, null);
+  public static CopyEvent copySingleEvent(String eventName, LocalDateTime sourceDateTime,
+                                          String targetCalendarName,
+                                          LocalDateTime targetDateTime) {
+    return new CopyEvent(eventName, sourceDateTime, targetCalendarName, targetDateTime);
   }
 
   /**
@@ -250,15 +159,9 @@ public class ParseResult {
    * @param targetDate the target date
    * @return copy events command result
    */
-  public static ParseResult copyEventsOnDay(LocalDate sourceDate, String targetCalendarName,
-                                            LocalDate targetDate) {
-    return new ParseResult(true, CommandType.COPY_EVENTS_ON_DAY, null,
-            null, null, null, null,
-            null, null, null, null, null,
-            null, null, null,
-            null, null, null, null,
-            targetCalendarName, null, sourceDate, targetDate,
-            null, null);
+  public static CopyOnDay copyEventsOnDay(LocalDate sourceDate, String targetCalendarName,
+                                          LocalDate targetDate) {
+    return new CopyOnDay(sourceDate, targetCalendarName, targetDate);
   }
 
   /**
@@ -269,28 +172,45 @@ public class ParseResult {
    * @param targetDate the target start date
    * @return copy events between command result
    */
-  public static ParseResult copyEventsBetween(LocalDate startDate, LocalDate endDate,
+  public static CopyBetween copyEventsBetween(LocalDate startDate, LocalDate endDate,
                                               String targetCalendarName, LocalDate targetDate) {
-    return new ParseResult(true, CommandType.COPY_EVENTS_BETWEEN, null,
-            null, null, null, null,
-            null, null, null, null, null,
-            null, null, null,
-            null, null, null, null,
-            targetCalendarName, null, null, targetDate, startDate, endDate);
+    return new CopyBetween(startDate, endDate, targetCalendarName, targetDate);
+  }
+
+  /**
+   * Moves events between dates to another calendar.
+   * @param startDate the start date
+   * @param endDate the end date
+   * @param targetCalendarName the target calendar
+   * @return move events command result
+   */
+  public static MoveEvents moveEvents(LocalDate startDate, LocalDate endDate,
+                                      String targetCalendarName) {
+    return new MoveEvents(startDate, endDate, targetCalendarName);
+  }
+
+  /**
+   * Moves through the history of the calendars.
+   * @param historyType either undo or redo
+   * @return history command result
+   */
+  public static ParseResult history(CommandType historyType) {
+    switch (historyType) {
+      case UNDO:
+        return Undo.INSTANCE;
+      case REDO:
+        return Redo.INSTANCE;
+      default:
+        throw new IllegalArgumentException("Unknown history type: " + historyType);
+    }
   }
 
   /**
    * Exits the application.
    * @return exit command
    */
-  public static ParseResult exit() {
-    return new ParseResult(true, CommandType.EXIT, null,
-            null, null, null, null,
-            null, null, null, null, null,
-            null, null, null,
-            null, null, null, null,
-            null, null, null, null,
-            null, null);
+  public static Exit exit() {
+    return Exit.INSTANCE;
   }
 
   /**
@@ -298,40 +218,38 @@ public class ParseResult {
    * @param errorMessage the error message
    * @return the error parsed
    */
-  public static ParseResult error(String errorMessage) {
-    return new ParseResult(false, null, errorMessage,
-            null, null, null, null,
-            null, null, null, null, null,
-            null, null, null,
-            null, null, null, null,
-            null, null, null, null,
-            null, null);
+  public static Error error(String errorMessage) {
+    return new Error(errorMessage);
   }
 
-  // Existing getters...
+  /**
+   * Hands this command to the method of the visitor for its kind.
+   * @param visitor the visitor
+   * @param <T> the type the visitor returns
+   * @return what the visitor returned
+   */
+  public abstract <T> T accept(CommandVisitor<T> visitor);
 
   /**
    * returns whether or not it's a success.
    * @return true or false
    */
   public boolean isSuccess() {
-    return success;
+    return true;
   }
 
   /**
    * returns the command type being passed.
-   * @return the command type
+   * @return the command type, or null for an error
    */
-  public CommandType getCommandType() {
-    return commandType;
-  }
+  public abstract CommandType getCommandType();
 
   /**
    * gets the error message.
    * @return the error message as a string
    */
   public String getErrorMessage() {
-    return errorMessage;
+    return null;
   }
 
   // CREATE event getters
@@ -341,7 +259,7 @@ public class ParseResult {
    * @return a string of the subject
    */
   public String getSubject() {
-    return subject;
+    return null;
   }
 
   /**
@@ -349,7 +267,7 @@ public class ParseResult {
    * @return the localDateTime of the start time
    */
   public LocalDateTime getStartTime() {
-    return startTime;
+    return null;
   }
 
   /**
@@ -357,7 +275,7 @@ public class ParseResult {
    * @return the localDateTime of the end time
    */
   public LocalDateTime getEndTime() {
-    return endTime;
+    return null;
   }
 
   /**
@@ -365,65 +283,65 @@ public class ParseResult {
    * @return the repeat info
    */
   public RepeatInfo getRepeatInfo() {
-    return repeatInfo;
+    return null;
   }
 
   /**
-   * Returns whether or not the end time exists or not. If it does, it's a full day.
+   * Checks if the event being made is all day.
    * @return true or false
    */
   public boolean isAllDay() {
-    return endTime == null;
+    return false;
   }
 
   /**
-   * Returns whether or not the event repeats.
+   * Checks if the event being made repeats.
    * @return true or false
    */
   public boolean isRepeating() {
-    return repeatInfo != null;
+    return false;
   }
 
-  // EDIT command getters
+  // EDIT and DELETE command getters
 
   /**
-   * gets the property type that is to be changed.
+   * Gets the property that is being edited.
    * @return the property type
    */
   public PropertyType getProperty() {
-    return property;
+    return null;
   }
 
   /**
-   * The event's subject.
+   * Gets the subject of the event being edited or deleted.
    * @return string of the subject
    */
   public String getEventSubject() {
-    return eventSubject;
+    return null;
   }
 
   /**
-   * the event's start time.
+   * Gets the start time of the event being edited or deleted.
    * @return the localDateTime of the event
    */
   public LocalDateTime getEventStart() {
-    return eventStart;
+    return null;
   }
 
   /**
-   * the event's end time.
+   * Gets the end time of the event being edited or deleted.
    * @return the localDateTime of the end time
    */
   public LocalDateTime getEventEnd() {
-    return eventEnd;
+    return null;
   }
 
   /**
-   * the new value to be changed into.
+   * Gets the new value of the edited property.
    * @return the string of the new value
    */
   public String getNewValue() {
-    return newValue;
+    return null;
   }
 
   // PRINT command getters
@@ -433,7 +351,7 @@ public class ParseResult {
    * @return the start time as a localDate
    */
   public LocalDateTime getPrintStartDate() {
-    return printStartDate;
+    return null;
   }
 
   /**
@@ -441,7 +359,7 @@ public class ParseResult {
    * @return the end time as a localDate
    */
   public LocalDateTime getPrintEndDate() {
-    return printEndDate;
+    return null;
   }
 
   /**
@@ -449,7 +367,7 @@ public class ParseResult {
    * @return true or false
    */
   public boolean isPrintRange() {
-    return printEndDate != null;
+    return false;
   }
 
   // SHOW STATUS command getters
@@ -459,7 +377,7 @@ public class ParseResult {
    * @return the localDateTime of the day
    */
   public LocalDateTime getStatusDateTime() {
-    return statusDateTime;
+    return null;
   }
 
   // CALENDAR command getters
@@ -469,7 +387,7 @@ public class ParseResult {
    * @return the calendar name
    */
   public String getCalendarName() {
-    return calendarName;
+    return null;
   }
 
   /**
@@ -477,72 +395,792 @@ public class ParseResult {
    * @return the timezone
    */
   public ZoneId getTimezone() {
-    return timezone;
+    return null;
   }
 
   /**
-   * Gets the property name for edit calendar.
+   * Gets the property name.
    * @return the property name
    */
   public String getPropertyName() {
-    return propertyName;
+    return null;
   }
 
   /**
-   * Gets the property value for edit calendar.
+   * Gets the property value.
    * @return the property value
    */
   public String getPropertyValue() {
-    return propertyValue;
+    return null;
   }
 
-  // COPY command getters
+  // COPY and MOVE command getters
 
   /**
    * Gets the target calendar name.
    * @return the target calendar name
    */
   public String getTargetCalendarName() {
-    return targetCalendarName;
+    return null;
   }
 
   /**
-   * Gets the target date/time for copy event.
+   * Gets the target date/time.
    * @return the target date/time
    */
   public LocalDateTime getTargetDateTime() {
-    return targetDateTime;
+    return null;
   }
 
   /**
-   * Gets the source date for copy events.
+   * Gets the source date.
    * @return the source date
    */
   public LocalDate getSourceDate() {
-    return sourceDate;
+    return null;
   }
 
   /**
-   * Gets the target date for copy events.
+   * Gets the target date.
    * @return the target date
    */
   public LocalDate getTargetDate() {
-    return targetDate;
+    return null;
   }
 
   /**
-   * Gets the start date for copy between.
+   * Gets the start date of the events copied or moved.
    * @return the start date
    */
   public LocalDate getCopyStartDate() {
-    return copyStartDate;
+    return null;
   }
 
   /**
-   * Gets the end date for copy between.
+   * Gets the end date of the events copied or moved.
    * @return the end date
    */
   public LocalDate getCopyEndDate() {
-    return copyEndDate;
+    return null;
+  }
+
+  /**
+   * A command that couldn't be parsed.
+   */
+  public static final class Error extends ParseResult {
+    private final String errorMessage;
+
+    private Error(String errorMessage) {
+      this.errorMessage = errorMessage;
+    }
+
+    /**
+     * An error can't be run, so this always throws.
+     * @throws IllegalArgumentException with the error message
+     */
+    @Override
+    public <T> T accept(CommandVisitor<T> visitor) {
+      throw new IllegalArgumentException(errorMessage);
+    }
+
+    @Override
+    public boolean isSuccess() {
+      return false;
+    }
+
+    @Override
+    public CommandType getCommandType() {
+      return null;
+    }
+
+    @Override
+    public String getErrorMessage() {
+      return errorMessage;
+    }
+  }
+
+  /**
+   * Creates an event, or a series of them if it repeats.
+   */
+  public static final class CreateEvent extends ParseResult {
+    private final String subject;
+    private final LocalDateTime startTime;
+    private final LocalDateTime endTime;
+    private final RepeatInfo repeatInfo;
+
+    private CreateEvent(String subject, LocalDateTime startTime, LocalDateTime endTime,
+                        RepeatInfo repeatInfo) {
+      this.subject = subject;
+      this.startTime = startTime;
+      this.endTime = endTime;
+      this.repeatInfo = repeatInfo;
+    }
+
+    @Override
+    public <T> T accept(CommandVisitor<T> visitor) {
+      return visitor.visit(this);
+    }
+
+    @Override
+    public CommandType getCommandType() {
+      return CommandType.CREATE_EVENT;
+    }
+
+    @Override
+    public String getSubject() {
+      return subject;
+    }
+
+    @Override
+    public LocalDateTime getStartTime() {
+      return startTime;
+    }
+
+    @Override
+    public LocalDateTime getEndTime() {
+      return endTime;
+    }
+
+    @Override
+    public RepeatInfo getRepeatInfo() {
+      return repeatInfo;
+    }
+
+    @Override
+    public boolean isAllDay() {
+      return endTime == null;
+    }
+
+    @Override
+    public boolean isRepeating() {
+      return repeatInfo != null;
+    }
+  }
+
+  /**
+   * The values every edit of events shares: which property, of which events, and to what.
+   */
+  public abstract static class EventEdit extends ParseResult {
+    private final PropertyType property;
+    private final String eventSubject;
+    private final LocalDateTime eventStart;
+    private final String newValue;
+
+    private EventEdit(PropertyType property, String eventSubject, LocalDateTime eventStart,
+                      String newValue) {
+      this.property = property;
+      this.eventSubject = eventSubject;
+      this.eventStart = eventStart;
+      this.newValue = newValue;
+    }
+
+    @Override
+    public PropertyType getProperty() {
+      return property;
+    }
+
+    @Override
+    public String getEventSubject() {
+      return eventSubject;
+    }
+
+    @Override
+    public LocalDateTime getEventStart() {
+      return eventStart;
+    }
+
+    @Override
+    public String getNewValue() {
+      return newValue;
+    }
+  }
+
+  /**
+   * Edits one event.
+   */
+  public static final class EditEvent extends EventEdit {
+    private final LocalDateTime eventEnd;
+
+    private EditEvent(PropertyType property, String eventSubject, LocalDateTime eventStart,
+                      LocalDateTime eventEnd, String newValue) {
+      super(property, eventSubject, eventStart, newValue);
+      this.eventEnd = eventEnd;
+    }
+
+    @Override
+    public <T> T accept(CommandVisitor<T> visitor) {
+      return visitor.visit(this);
+    }
+
+    @Override
+    public CommandType getCommandType() {
+      return CommandType.EDIT_EVENT;
+    }
+
+    @Override
+    public LocalDateTime getEventEnd() {
+      return eventEnd;
+    }
+  }
+
+  /**
+   * Edits an event and the events after it in its series.
+   */
+  public static final class EditEvents extends EventEdit {
+    private EditEvents(PropertyType property, String eventSubject, LocalDateTime eventStart,
+                       String newValue) {
+      super(property, eventSubject, eventStart, newValue);
+    }
+
+    @Override
+    public <T> T accept(CommandVisitor<T> visitor) {
+      return visitor.visit(this);
+    }
+
+    @Override
+    public CommandType getCommandType() {
+      return CommandType.EDIT_EVENTS;
+    }
+  }
+
+  /**
+   * Edits every event in the series of an event.
+   */
+  public static final class EditSeries extends EventEdit {
+    private EditSeries(PropertyType property, String eventSubject, LocalDateTime eventStart,
+                       String newValue) {
+      super(property, eventSubject, eventStart, newValue);
+    }
+
+    @Override
+    public <T> T accept(CommandVisitor<T> visitor) {
+      return visitor.visit(this);
+    }
+
+    @Override
+    public CommandType getCommandType() {
+      return CommandType.EDIT_SERIES;
+    }
+  }
+
+  /**
+   * The values every deletion of events shares: the subject and start of the first event.
+   */
+  public abstract static class EventDelete extends ParseResult {
+    private final String eventSubject;
+    private final LocalDateTime eventStart;
+
+    private EventDelete(String eventSubject, LocalDateTime eventStart) {
+      this.eventSubject = eventSubject;
+      this.eventStart = eventStart;
+    }
+
+    @Override
+    public String getEventSubject() {
+      return eventSubject;
+    }
+
+    @Override
+    public LocalDateTime getEventStart() {
+      return eventStart;
+    }
+  }
+
+  /**
+   * Deletes one event.
+   */
+  public static final class DeleteEvent extends EventDelete {
+    private final LocalDateTime eventEnd;
+
+    private DeleteEvent(String eventSubject, LocalDateTime eventStart, LocalDateTime eventEnd) {
+      super(eventSubject, eventStart);
+      this.eventEnd = eventEnd;
+    }
+
+    @Override
+    public <T> T accept(CommandVisitor<T> visitor) {
+      return visitor.visit(this);
+    }
+
+    @Override
+    public CommandType getCommandType() {
+      return CommandType.DELETE_EVENT;
+    }
+
+    @Override
+    public LocalDateTime getEventEnd() {
+      return eventEnd;
+    }
+  }
+
+  /**
+   * Deletes an event and the events after it in its series.
+   */
+  public static final class DeleteEvents extends EventDelete {
+    private DeleteEvents(String eventSubject, LocalDateTime eventStart) {
+      super(eventSubject, eventStart);
+    }
+
+    @Override
+    public <T> T accept(CommandVisitor<T> visitor) {
+      return visitor.visit(this);
+    }
+
+    @Override
+    public CommandType getCommandType() {
+      return CommandType.DELETE_EVENTS;
+    }
+  }
+
+  /**
+   * Deletes every event in the series of an event.
+   */
+  public static final class DeleteSeries extends EventDelete {
+    private DeleteSeries(String eventSubject, LocalDateTime eventStart) {
+      super(eventSubject, eventStart);
+    }
+
+    @Override
+    public <T> T accept(CommandVisitor<T> visitor) {
+      return visitor.visit(this);
+    }
+
+    @Override
+    public CommandType getCommandType() {
+      return CommandType.DELETE_SERIES;
+    }
+  }
+
+  /**
+   * Prints the events of one day.
+   */
+  public static final class PrintDay extends ParseResult {
+    private final LocalDate date;
+
+    private PrintDay(LocalDate date) {
+      this.date = date;
+    }
+
+    @Override
+    public <T> T accept(CommandVisitor<T> visitor) {
+      return visitor.visit(this);
+    }
+
+    @Override
+    public CommandType getCommandType() {
+      return CommandType.PRINT_EVENTS;
+    }
+
+    /**
+     * Gets the day to print.
+     * @return the date
+     */
+    public LocalDate getDate() {
+      return date;
+    }
+
+    @Override
+    public LocalDateTime getPrintStartDate() {
+      return date.atStartOfDay();
+    }
+  }
+
+  /**
+   * Prints the events between two times.
+   */
+  public static final class PrintInterval extends ParseResult {
+    private final LocalDateTime printStartDate;
+    private final LocalDateTime printEndDate;
+
+    private PrintInterval(LocalDateTime printStartDate, LocalDateTime printEndDate) {
+      this.printStartDate = printStartDate;
+      this.printEndDate = printEndDate;
+    }
+
+    @Override
+    public <T> T accept(CommandVisitor<T> visitor) {
+      return visitor.visit(this);
+    }
+
+    @Override
+    public CommandType getCommandType() {
+      return CommandType.PRINT_EVENTS;
+    }
+
+    @Override
+    public LocalDateTime getPrintStartDate() {
+      return printStartDate;
+    }
+
+    @Override
+    public LocalDateTime getPrintEndDate() {
+      return printEndDate;
+    }
+
+    @Override
+    public boolean isPrintRange() {
+      return printEndDate != null;
+    }
+  }
+
+  /**
+   * Shows whether the user is busy at a time.
+   */
+  public static final class ShowStatus extends ParseResult {
+    private final LocalDateTime statusDateTime;
+
+    private ShowStatus(LocalDateTime statusDateTime) {
+      this.statusDateTime = statusDateTime;
+    }
+
+    @Override
+    public <T> T accept(CommandVisitor<T> visitor) {
+      return visitor.visit(this);
+    }
+
+    @Override
+    public CommandType getCommandType() {
+      return CommandType.SHOW_STATUS;
+    }
+
+    @Override
+    public LocalDateTime getStatusDateTime() {
+      return statusDateTime;
+    }
+  }
+
+  /**
+   * Creates a calendar.
+   */
+  public static final class CreateCalendar extends ParseResult {
+    private final String calendarName;
+    private final ZoneId timezone;
+
+    private CreateCalendar(String calendarName, ZoneId timezone) {
+      this.calendarName = calendarName;
+      this.timezone = timezone;
+    }
+
+    @Override
+    public <T> T accept(CommandVisitor<T> visitor) {
+      return visitor.visit(this);
+    }
+
+    @Override
+    public CommandType getCommandType() {
+      return CommandType.CREATE_CALENDAR;
+    }
+
+    @Override
+    public String getCalendarName() {
+      return calendarName;
+    }
+
+    @Override
+    public ZoneId getTimezone() {
+      return timezone;
+    }
+  }
+
+  /**
+   * Changes the name or timezone of a calendar.
+   */
+  public static final class EditCalendar extends ParseResult {
+    private final String calendarName;
+    private final String propertyName;
+    private final String propertyValue;
+
+    private EditCalendar(String calendarName, String propertyName, String propertyValue) {
+      this.calendarName = calendarName;
+      this.propertyName = propertyName;
+      this.propertyValue = propertyValue;
+    }
+
+    @Override
+    public <T> T accept(CommandVisitor<T> visitor) {
+      return visitor.visit(this);
+    }
+
+    @Override
+    public CommandType getCommandType() {
+      return CommandType.EDIT_CALENDAR;
+    }
+
+    @Override
+    public String getCalendarName() {
+      return calendarName;
+    }
+
+    @Override
+    public String getPropertyName() {
+      return propertyName;
+    }
+
+    @Override
+    public String getPropertyValue() {
+      return propertyValue;
+    }
+  }
+
+  /**
+   * Makes a calendar the one commands act on.
+   */
+  public static final class UseCalendar extends ParseResult {
+    private final String calendarName;
+
+    private UseCalendar(String calendarName) {
+      this.calendarName = calendarName;
+    }
+
+    @Override
+    public <T> T accept(CommandVisitor<T> visitor) {
+      return visitor.visit(this);
+    }
+
+    @Override
+    public CommandType getCommandType() {
+      return CommandType.USE_CALENDAR;
+    }
+
+    @Override
+    public String getCalendarName() {
+      return calendarName;
+    }
+  }
+
+  /**
+   * Copies one event to another calendar.
+   */
+  public static final class CopyEvent extends ParseResult {
+    private final String subject;
+    private final LocalDateTime startTime;
+    private final String targetCalendarName;
+    private final LocalDateTime targetDateTime;
+
+    private CopyEvent(String subject, LocalDateTime startTime, String targetCalendarName,
+                      LocalDateTime targetDateTime) {
+      this.subject = subject;
+      this.startTime = startTime;
+      this.targetCalendarName = targetCalendarName;
+      this.targetDateTime = targetDateTime;
+    }
+
+    @Override
+    public <T> T accept(CommandVisitor<T> visitor) {
+      return visitor.visit(this);
+    }
+
+    @Override
+    public CommandType getCommandType() {
+      return CommandType.COPY_SINGLE_EVENT;
+    }
+
+    @Override
+    public String getSubject() {
+      return subject;
+    }
+
+    @Override
+    public LocalDateTime getStartTime() {
+      return startTime;
+    }
+
+    @Override
+    public String getTargetCalendarName() {
+      return targetCalendarName;
+    }
+
+    @Override
+    public LocalDateTime getTargetDateTime() {
+      return targetDateTime;
+    }
+  }
+
+  /**
+   * Copies the events of one day to another calendar.
+   */
+  public static final class CopyOnDay extends ParseResult {
+    private final LocalDate sourceDate;
+    private final String targetCalendarName;
+    private final LocalDate targetDate;
+
+    private CopyOnDay(LocalDate sourceDate, String targetCalendarName, LocalDate targetDate) {
+      this.sourceDate = sourceDate;
+      this.targetCalendarName = targetCalendarName;
+      this.targetDate = targetDate;
+    }
+
+    @Override
+    public <T> T accept(CommandVisitor<T> visitor) {
+      return visitor.visit(this);
+    }
+
+    @Override
+    public CommandType getCommandType() {
+      return CommandType.COPY_EVENTS_ON_DAY;
+    }
+
+    @Override
+    public LocalDate getSourceDate() {
+      return sourceDate;
+    }
+
+    @Override
+    public String getTargetCalendarName() {
+      return targetCalendarName;
+    }
+
+    @Override
+    public LocalDate getTargetDate() {
+      return targetDate;
+    }
+  }
+
+  /**
+   * Copies the events between two dates to another calendar.
+   */
+  public static final class CopyBetween extends ParseResult {
+    private final LocalDate copyStartDate;
+    private final LocalDate copyEndDate;
+    private final String targetCalendarName;
+    private final LocalDate targetDate;
+
+    private CopyBetween(LocalDate copyStartDate, LocalDate copyEndDate,
+                        String targetCalendarName, LocalDate targetDate) {
+      this.copyStartDate = copyStartDate;
+      this.copyEndDate = copyEndDate;
+      this.targetCalendarName = targetCalendarName;
+      this.targetDate = targetDate;
+    }
+
+    @Override
+    public <T> T accept(CommandVisitor<T> visitor) {
+      return visitor.visit(this);
+    }
+
+    @Override
+    public CommandType getCommandType() {
+      return CommandType.COPY_EVENTS_BETWEEN;
+    }
+
+    @Override
+    public LocalDate getCopyStartDate() {
+      return copyStartDate;
+    }
+
+    @Override
+    public LocalDate getCopyEndDate() {
+      return copyEndDate;
+    }
+
+    @Override
+    public String getTargetCalendarName() {
+      return targetCalendarName;
+    }
+
+    @Override
+    public LocalDate getTargetDate() {
+      return targetDate;
+    }
+  }
+
+  /**
+   * Moves the events between two dates to another calendar.
+   */
+  public static final class MoveEvents extends ParseResult {
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final String targetCalendarName;
+
+    private MoveEvents(LocalDate startDate, LocalDate endDate, String targetCalendarName) {
+      this.startDate = startDate;
+      this.endDate = endDate;
+      this.targetCalendarName = targetCalendarName;
+    }
+
+    @Override
+    public <T> T accept(CommandVisitor<T> visitor) {
+      return visitor.visit(this);
+    }
+
+    @Override
+    public CommandType getCommandType() {
+      return CommandType.MOVE_EVENTS;
+    }
+
+    @Override
+    public LocalDate getCopyStartDate() {
+      return startDate;
+    }
+
+    @Override
+    public LocalDate getCopyEndDate() {
+      return endDate;
+    }
+
+    @Override
+    public String getTargetCalendarName() {
+      return targetCalendarName;
+    }
+  }
+
+  /**
+   * Undoes the last command. It has no values, so there is only one.
+   */
+  public static final class Undo extends ParseResult {
+    private static final Undo INSTANCE = new Undo();
+
+    private Undo() {
+    }
+
+    @Override
+    public <T> T accept(CommandVisitor<T> visitor) {
+      return visitor.visit(this);
+    }
+
+    @Override
+    public CommandType getCommandType() {
+      return CommandType.UNDO;
+    }
+  }
+
+  /**
+   * Redoes the last undone command. It has no values, so there is only one.
+   */
+  public static final class Redo extends ParseResult {
+    private static final Redo INSTANCE = new Redo();
+
+    private Redo() {
+    }
+
+    @Override
+    public <T> T accept(CommandVisitor<T> visitor) {
+      return visitor.visit(this);
+    }
+
+    @Override
+    public CommandType getCommandType() {
+      return CommandType.REDO;
+    }
+  }
+
+  /**
+   * Exits the application. It has no values, so there is only one.
+   */
+  public static final class Exit extends ParseResult {
+    private static final Exit INSTANCE = new Exit();
+
+    private Exit() {
+    }
+
+    @Override
+    public <T> T accept(CommandVisitor<T> visitor) {
+      return visitor.visit(this);
+    }
+
+    @Override
+    public CommandType getCommandType() {
+      return CommandType.EXIT;
+    }
   }
-}
\ No newline at end of file
+}
@@ -4,7 +4,9 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 /**
- * Class that contains tools for parsing the string commands that the user will input.
+ * Class that contains tools for parsing the string commands that the user will input. The shape
+ * of a command is checked by {@link CommandGrammar}; these tools turn the slots of the command
+ * it matched into values, reporting the column of any slot that isn't a valid value.
  */
 public class ParsingTools {
   private ParsingTools() {
@@ -12,153 +14,72 @@ public class ParsingTools {
   }
 
   /**
-   * Extract quoted or unquoted subject from input.
+   * Matches a command against the command grammar.
    * @param input the user input
-   * @param prefix the prefix of the command
-   * @return the subject name
+   * @return the rule the command matched and its slots
    */
-  public static String extractSubject(String input, String prefix) {
-    if (!input.toLowerCase().startsWith(prefix.toLowerCase())) {
-      throw new IllegalArgumentException("Invalid command format");
-    }
-
-    int subjectStart = prefix.length();
-
-    if (subjectStart < input.length() && input.charAt(subjectStart) == '"') {
-      return extractQuotedSubject(input, subjectStart);
-    } else {
-      return extractUnquotedSubject(input, subjectStart);
-    }
+  public static CommandGrammar.Match match(String input) {
+    return CommandGrammar.COMMANDS.match(CommandTokens.of(input));
   }
 
   /**
-   * Extract datetime between two pointers.
-   * @param input the user input
-   * @param startPointer the starting pointer
-   * @param endPointer the ending pointer
-   * @return the date time between the two pointers
+   * Extract the quoted or unquoted subject of a command.
+   * @param match the matched command
+   * @return the subject name
    */
-  public static LocalDateTime extractDateTime(String input, String startPointer,
-                                              String endPointer) {
-    int start = input.toLowerCase().indexOf(startPointer.toLowerCase());
-    if (start == -1) {
-      throw new IllegalArgumentException("Missing pointer: " + startPointer);
-    }
-    start += startPointer.length();
-
-    int end;
-    if (endPointer != null) {
-      end = input.toLowerCase().indexOf(endPointer.toLowerCase(), start);
-      if (end == -1) {
-        end = input.length();
-      }
-    } else {
-      end = input.length();
-    }
-
-    String dateTimeStr = input.substring(start, end).trim();
-    if (dateTimeStr.isEmpty()) {
-      throw new IllegalArgumentException("Empty datetime value");
+  public static String extractSubject(CommandGrammar.Match match) {
+    String subject = match.value("subject");
+    if (subject.trim().isEmpty()) {
+      throw new IllegalArgumentException("Subject cannot be empty at column "
+              + match.column("subject"));
     }
+    return subject;
+  }
 
+  /**
+   * Extract the datetime in a slot of a command.
+   * @param match the matched command
+   * @param slot the slot holding the datetime
+   * @return the datetime
+   */
+  public static LocalDateTime extractDateTime(CommandGrammar.Match match, String slot) {
     try {
-      return LocalDateTime.parse(dateTimeStr);
+      return match.dateTime(slot);
     } catch (Exception e) {
-      throw new IllegalArgumentException("Invalid datetime format: " + dateTimeStr);
+      throw new IllegalArgumentException("Invalid datetime format: " + match.text(slot)
+              + " at column " + match.column(slot));
     }
   }
 
   /**
-   * Extract date and convert to datetime - exclusively for all-day events.
-   * @param input the user input
-   * @param pointer the pointer word to help extract
-   * @return the extracted date
+   * Extract the date in a slot of a command.
+   * @param match the matched command
+   * @param slot the slot holding the date
+   * @return the date
    */
-  public static LocalDateTime extractDate(String input, String pointer) {
-    int start = input.toLowerCase().indexOf(pointer.toLowerCase());
-    if (start == -1) {
-      throw new IllegalArgumentException("Missing pointer: " + pointer);
-    }
-    start += pointer.length();
-
-    int end = input.indexOf(" ", start);
-    if (end == -1) {
-      end = input.length();
-    }
-
-    String dateStr = input.substring(start, end).trim();
-    if (dateStr.isEmpty()) {
-      throw new IllegalArgumentException("Empty date value");
-    }
-
+  public static LocalDate extractDate(CommandGrammar.Match match, String slot) {
     try {
-      LocalDate date = LocalDate.parse(dateStr);
-      // 8 am default
-      return date.atTime(8, 0);
+      return match.date(slot);
     } catch (Exception e) {
-      throw new IllegalArgumentException("Invalid date format: " + dateStr);
+      throw new IllegalArgumentException("Invalid date format: " + match.text(slot)
+              + " at column " + match.column(slot));
     }
   }
 
   /**
-   * Extracts the keyword from the user input.
-   * @param input the user input
-   * @param keyword the keyword to be looked for
-   * @return A string of the value that was found
+   * Extract the name in a slot of a command, such as the name of a calendar.
+   * @param match the matched command
+   * @param slot the slot holding the name
+   * @param description what the name is of, for the error message
+   * @return the name, without quotes
    */
-  public static String extractAfterKeyword(String input, String keyword) {
-    int start = input.toLowerCase().indexOf(keyword.toLowerCase()) + keyword.length();
-    if (start == keyword.length() - 1) {
-      throw new IllegalArgumentException("Missing keyword: " + keyword);
-    }
-
-    String value = input.substring(start).trim();
-    if (value.isEmpty()) {
-      throw new IllegalArgumentException("Empty value after: " + keyword);
-    }
-
-    return value;
-  }
-
-
-  // private helper method
-  private static String extractQuotedSubject(String input, int startPos) {
-    int quoteEnd = input.indexOf('"', startPos + 1);
-    if (quoteEnd == -1) {
-      throw new IllegalArgumentException("Quotation must close");
-    }
-
-    String subject = input.substring(startPos + 1, quoteEnd);
-    if (subject.trim().isEmpty()) {
-      throw new IllegalArgumentException("Subject cannot be empty");
-    }
-
-    return subject;
-  }
-
-  //private helper method
-  private static String extractUnquotedSubject(String input, int startPos) {
-    int fromPos = input.toLowerCase().indexOf(" from ", startPos);
-    int onPos = input.toLowerCase().indexOf(" on ", startPos);
-
-    int endPos = -1;
-    if (fromPos != -1 && onPos != -1) {
-      endPos = Math.min(fromPos, onPos);
-    } else if (fromPos != -1) {
-      endPos = fromPos;
-    } else if (onPos != -1) {
-      endPos = onPos;
-    }
-
-    if (endPos == -1) {
-      throw new IllegalArgumentException("Cannot determine subject boundaries");
-    }
-
-    String subject = input.substring(startPos, endPos).trim();
-    if (subject.isEmpty()) {
-      throw new IllegalArgumentException("Subject can't be empty");
-    }
-
-    return subject;
+  public static String extractName(CommandGrammar.Match match, String slot,
+                                   String description) {
+    String name = match.value(slot);
+    if (name.isEmpty()) {
+      throw new IllegalArgumentException(description + " cannot be empty at column "
+              + match.column(slot));
+    }
+    return name;
   }
 }
@@ -7,15 +7,11 @@ import java.time.LocalDateTime;
  * (show status on <dateStringTtimeString>).
  */
 public class ShowStatusParser implements CommandParser {
-  @Override
-  public boolean canHandle(String input) {
-    return input.toLowerCase().startsWith("show status ");
-  }
-
   @Override
   public ParseResult parse(String input) {
     try {
-      LocalDateTime dateTime = ParsingTools.extractDateTime(input, " on ", null);
+      CommandGrammar.Match match = ParsingTools.match(input);
+      LocalDateTime dateTime = ParsingTools.extractDateTime(match, "time");
       return ParseResult.showStatus(dateTime);
     } catch (Exception e) {
       return ParseResult.error("Show status error: " + e.getMessage());
@@ -6,6 +6,7 @@ import java.time.LocalTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -19,32 +20,94 @@ import model.enums.WeekDays;
  * This implementation correctly handles multi-day events while maintaining compatibility.
  */
 public class Calendar implements ICalendar {
+  private static final IEvent[] NO_EVENTS = new IEvent[0];
   private final Map<LocalDate, List<IEvent>> calendar;
-  private Map<LocalDateTime, List<IEvent>> series;
+  private Map<SeriesKey, List<IEvent>> series;
+  // the series made at each start time, in the order they came into the calendar, so that a
+  // series can be found by the time it starts
+  private final Map<LocalDateTime, List<SeriesKey>> seriesStarts;
+  // the key of the series each event in a series belongs to, so that finding it doesn't need a
+  // pass over every series
+  private final Map<IEvent, SeriesKey> seriesKeys;
+  private final CalendarEventBus bus;
+  private final CalendarLock lock;
 
   /**
    * Creates a calendar object that takes in a year as an argument to account for leap years.
    */
   public Calendar() {
     this.calendar = new HashMap<LocalDate, List<IEvent>>();
-    this.series = new HashMap<LocalDateTime, List<IEvent>>();
+    this.series = new HashMap<SeriesKey, List<IEvent>>();
+    this.seriesStarts = new HashMap<LocalDateTime, List<SeriesKey>>();
+    this.seriesKeys = new IdentityHashMap<IEvent, SeriesKey>();
+    this.bus = new CalendarEventBus();
+    this.lock = new CalendarLock();
+  }
+
+  @Override
+  public void addListener(ICalendarListener listener) {
+    this.bus.subscribe(listener);
+  }
+
+  @Override
+  public void removeListener(ICalendarListener listener) {
+    this.bus.unsubscribe(listener);
+  }
+
+  //tells the listeners that an event was added, only building the change if someone listens
+  protected void fireAdded(IEvent event, SeriesKey seriesKey) {
+    if (this.bus.hasListeners()) {
+      this.bus.publish(CalendarChange.added(this, event, seriesKey));
+    }
+  }
+
+  //tells the listeners that an event's start time, and with it its days, changed
+  private void fireMoved(IEvent event, LocalDateTime previousStart, LocalDateTime previousEnd,
+                         SeriesKey previousSeriesKey, SeriesKey seriesKey) {
+    if (this.bus.hasListeners()) {
+      this.bus.publish(CalendarChange.moved(this, event, previousStart, previousEnd,
+              previousSeriesKey, seriesKey));
+    }
+  }
+
+  //tells the listeners that a single field of an event changed in place
+  private void fireFieldChanged(IEvent event, PropertyType property, Object previousValue,
+                                Object newValue) {
+    if (this.bus.hasListeners()) {
+      this.bus.publish(CalendarChange.fieldChanged(this, event, property, previousValue,
+              newValue));
+    }
   }
 
   @Override
   public Event createEvent(String subject, LocalDateTime startTime, LocalDateTime endTime) {
-    Event event;
+    this.lock.writeLock().lock();
+    try {
+      Event event = buildEvent(subject, startTime, endTime);
+      addEventHelper(event, startTime);
+      return event;
+    } finally {
+      this.lock.writeLock().unlock();
+    }
+  }
+
+  //builds an event, making it a full day event if there is no end time
+  private Event buildEvent(String subject, LocalDateTime startTime, LocalDateTime endTime) {
     if (endTime == null) {
-      event = new Event(subject, startTime);
-    } else {
-      checkEndTimeAfterStart(endTime, startTime);
-      event = new Event.EventBuilder(subject, startTime).end(endTime).build();
+      return new Event(subject, startTime);
     }
-    addEventHelper(event, startTime);
-    return event;
+    checkEndTimeAfterStart(endTime, startTime);
+    return new Event.EventBuilder(subject, startTime).end(endTime).build();
   }
 
   //adds the event to the calendar date
   protected void addEventHelper(Event event, LocalDateTime startTime) {
+    indexEvent(event, startTime);
+    fireAdded(event, null);
+  }
+
+  //adds the event to every date it spans, checking for duplicates on its start date
+  private void indexEvent(IEvent event, LocalDateTime startTime) {
     LocalDate startDate = startTime.toLocalDate();
     LocalDate endDate = event.getEnd().toLocalDate();
 
@@ -67,7 +130,33 @@ public class Calendar implements ICalendar {
     }
   }
 
+  //checks the event against the events already on its start date
+  protected void checkNotDuplicate(IEvent event) {
+    List<IEvent> events = this.calendar.get(event.getStart().toLocalDate());
+    if (events != null) {
+      alreadyExistsInCalendar(events, event);
+    }
+  }
+
+  //checks an event against the events on the day it would start on if it had the given times,
+  //before it gets them
+  protected void checkNotDuplicate(IEvent event, LocalDateTime start, LocalDateTime end) {
+    List<IEvent> events = this.calendar.get(start.toLocalDate());
+    if (events == null) {
+      return;
+    }
+    for (IEvent e : events) {
+      if (e != event && e.getStart().equals(start) && e.getEnd().equals(end)
+              && e.getSubject().equals(event.getSubject()) && e.getDesc().equals(event.getDesc())
+              && e.getLocation() == event.getLocation() && e.getStatus() == event.getStatus()) {
+        throw new IllegalArgumentException("Event already exists");
+      }
+    }
+  }
+
   //checks if there's an event with the same fields
+  //compares fields rather than using equals, so that a shared copy is also a duplicate of an
+  //event with the same fields
   private void alreadyExistsInCalendar(List<IEvent> events, IEvent event) {
     for (IEvent e : events) {
       if (e != event && e.equals(event)) {
@@ -79,45 +168,24 @@ public class Calendar implements ICalendar {
   @Override
   public void createSeriesTimes(String subject, LocalDateTime startTime, LocalDateTime endTime,
                                 List<String> repeatDays, int times) {
-    if (this.series.containsKey(startTime)) {
-      throw new IllegalArgumentException("Series already exists at this startTime");
-    }
-    this.series.put(startTime, new ArrayList<IEvent>());
-    LocalDateTime[][] weekdayRanges = createSeriesHelper(repeatDays, startTime, endTime);
-
-    for (LocalDateTime[] day : weekdayRanges) {
-      LocalDateTime start = day[0];
-      LocalDateTime end = day[1];
-
-      for (int t = 0; t < times; t++) {
-        this.series.get(startTime).add(createEvent(subject, start, end));
-        start = start.plusDays(7);
-        if (end != null) {
-          end = end.plusDays(7);
-        }
-      }
+    this.lock.writeLock().lock();
+    try {
+      // every repeat day occurs exactly the given number of times in the first 7 * times days
+      LocalDate last = startTime.toLocalDate().plusDays(7L * times - 1);
+      createSeriesHelper(subject, startTime, endTime, repeatDays, last);
+    } finally {
+      this.lock.writeLock().unlock();
     }
   }
 
   @Override
   public void createSeriesUntil(String subject, LocalDateTime startTime, LocalDateTime endTime,
                                 List<String> repeatDays, LocalDate until) {
-    if (this.series.containsKey(startTime)) {
-      throw new IllegalArgumentException("Series already exists at this startTime");
-    }
-    this.series.put(startTime, new ArrayList<IEvent>());
-    LocalDateTime[][] weekdayRanges = createSeriesHelper(repeatDays, startTime, endTime);
-
-    for (LocalDateTime[] day : weekdayRanges) {
-      while (!day[0].toLocalDate().isAfter(until)) {
-        this.series.get(startTime).add(createEvent(subject, day[0], day[1]));
-        day[0] = day[0].plusDays(7);
-        if (endTime == null) {
-          day[1] = null;
-        } else {
-          day[1] = day[1].plusDays(7);
-        }
-      }
+    this.lock.writeLock().lock();
+    try {
+      createSeriesHelper(subject, startTime, endTime, repeatDays, until);
+    } finally {
+      this.lock.writeLock().unlock();
     }
   }
 
@@ -130,45 +198,77 @@ public class Calendar implements ICalendar {
     }
   }
 
-  //Gets the repeated local dates that are stored in a 2d array
-  private LocalDateTime[][] createSeriesHelper(List<String> repeatDays, LocalDateTime startTime,
-                                               LocalDateTime endTime) {
-    LocalDateTime[][] weekdayRanges = new LocalDateTime[repeatDays.size()][2];
+  //builds every occurrence of the series in one chronological pass up to the last date, checks
+  //them against the events already in the calendar, then adds them all to the series at once
+  private void createSeriesHelper(String subject, LocalDateTime startTime, LocalDateTime endTime,
+                                  List<String> repeatDays, LocalDate last) {
+    if (seriesAt(startTime) != null) {
+      throw new IllegalArgumentException("Series already exists at this startTime");
+    }
+    int mask = WeekDays.toMask(repeatDays);
+    if (mask != 0 && endTime != null) {
+      checkEventIsOneDay(startTime, endTime);
+    }
 
-    for (int i = 0; i < repeatDays.size(); i++) {
-      int dayNum = WeekDays.getDay(repeatDays.get(i));
-      // Check for invalid weekday abbreviation
-      if (dayNum == -1) {
-        throw new IllegalArgumentException("Invalid weekday abbreviation: " + repeatDays.get(i));
-      }
-      int currentDay = startTime.getDayOfWeek().getValue();
-
-      int difference = (dayNum - currentDay + 7) % 7;
-
-      weekdayRanges[i][0] = LocalDateTime.of(startTime.toLocalDate().plusDays(difference),
-              startTime.toLocalTime());
-      if (endTime == null) {
-        weekdayRanges[i][1] = null;
-      } else {
-        checkEventIsOneDay(startTime, endTime);
-        weekdayRanges[i][1] = LocalDateTime.of(endTime.toLocalDate().plusDays(difference),
-                endTime.toLocalTime());
+    List<List<IEvent>> byDay = new ArrayList<List<IEvent>>(7);
+    for (int i = 0; i < 7; i++) {
+      byDay.add(new ArrayList<IEvent>());
+    }
+    List<IEvent> occurrences = new ArrayList<IEvent>();
+    LocalDate date = startTime.toLocalDate();
+    int dayNum = date.getDayOfWeek().getValue();
+    while (mask != 0 && !date.isAfter(last)) {
+      if (WeekDays.inMask(mask, dayNum)) {
+        LocalDateTime end = endTime == null ? null : LocalDateTime.of(date, endTime.toLocalTime());
+        Event event = buildEvent(subject, LocalDateTime.of(date, startTime.toLocalTime()), end);
+        List<IEvent> existing = this.calendar.get(date);
+        if (existing != null) {
+          alreadyExistsInCalendar(existing, event);
+        }
+        occurrences.add(event);
+        byDay.get(dayNum - 1).add(event);
       }
+      date = date.plusDays(1);
+      dayNum = dayNum == 7 ? 1 : dayNum + 1;
+    }
+
+    // the series keeps its events grouped by repeat day in the order the days were given
+    List<IEvent> seriesEvents = new ArrayList<IEvent>(occurrences.size());
+    for (String day : repeatDays) {
+      List<IEvent> dayEvents = byDay.get(WeekDays.getDay(day) - 1);
+      seriesEvents.addAll(dayEvents);
+      dayEvents.clear();
+    }
+    SeriesKey key = new SeriesKey(startTime);
+    fileSeries(key, seriesEvents);
+    for (IEvent event : seriesEvents) {
+      this.seriesKeys.put(event, key);
+    }
+
+    // occurrences fall on distinct days, so they can't be duplicates of each other
+    for (IEvent event : occurrences) {
+      this.calendar.computeIfAbsent(event.getStart().toLocalDate(),
+          k -> new ArrayList<IEvent>()).add(event);
+      fireAdded(event, key);
     }
-    return weekdayRanges;
   }
 
   @Override
   public void editEvent(PropertyType property, String subject, LocalDateTime startTime,
                         LocalDateTime endTime, String value) {
-    List<IEvent> events = this.calendar.get(startTime.toLocalDate());
-    for (IEvent e : events) {
-      if (e.getSubject().equals(subject) && e.getStart().equals(startTime)
-              && e.getEnd().equals(endTime)) {
-        editEventHelper(e, property, value);
-        alreadyExistsInCalendar(events, e);
-        break;
+    this.lock.writeLock().lock();
+    try {
+      List<IEvent> events = this.calendar.get(startTime.toLocalDate());
+      for (IEvent e : events) {
+        if (e.getSubject().equals(subject) && e.getStart().equals(startTime)
+                && e.getEnd().equals(endTime)) {
+          editEventHelper(e, property, value);
+          alreadyExistsInCalendar(events, e);
+          break;
+        }
       }
+    } finally {
+      this.lock.writeLock().unlock();
     }
   }
 
@@ -176,7 +276,9 @@ public class Calendar implements ICalendar {
   private void editEventHelper(IEvent e, PropertyType property, String value) {
     switch (property) {
       case SUBJECT:
+        String previousSubject = e.getSubject();
         e.setSubject(value);
+        fireFieldChanged(e, property, previousSubject, value);
         break;
       case START:
         setStartHelper(e, value);
@@ -185,13 +287,19 @@ public class Calendar implements ICalendar {
         setEndHelper(e, value);
         break;
       case DESCRIPTION:
+        String previousDesc = e.getDesc();
         e.setDesc(value);
+        fireFieldChanged(e, property, previousDesc, value);
         break;
       case LOCATION:
+        Location previousLocation = e.getLocation();
         e.setLocation(Location.valueOf(value.toUpperCase()));
+        fireFieldChanged(e, property, previousLocation, e.getLocation());
         break;
       case STATUS:
+        Status previousStatus = e.getStatus();
         e.setStatus(Status.valueOf(value.toUpperCase()));
+        fireFieldChanged(e, property, previousStatus, e.getStatus());
         break;
       default: //will have no default because it can only take in specified property
     }
@@ -201,6 +309,7 @@ public class Calendar implements ICalendar {
   private void setStartHelper(IEvent e, String value) {
     LocalDateTime start = LocalDateTime.parse(value);
     LocalDateTime original = e.getStart();
+    LocalDateTime originalEnd = e.getEnd();
 
     //updates the end time as well
     if (start.isAfter(original)) {
@@ -208,89 +317,258 @@ public class Calendar implements ICalendar {
     }
 
     //removes the event from the series
-    if (this.series.containsKey(original)) {
-      this.series.get(original).remove(e);
+    SeriesKey previousSeriesKey = seriesAt(original);
+    if (!removeFromSeries(previousSeriesKey, e)) {
+      previousSeriesKey = null;
     }
 
     //removes from the calendar key to a new one
     removeAndAddToCalendar(original, e, start);
     e.setStart(start);
+    fireMoved(e, original, originalEnd, previousSeriesKey, null);
   }
 
   //Helper method to set the event's end time to value
   private void setEndHelper(IEvent e, String value) {
     LocalDateTime end = LocalDateTime.parse(value);
     checkEndTimeAfterStart(end, e.getStart());
+    LocalDateTime previousEnd = e.getEnd();
     e.setEnd(end);
+    fireFieldChanged(e, PropertyType.END, previousEnd, end);
   }
 
   //removes an event from a current date to another date
   private void removeAndAddToCalendar(LocalDateTime original, IEvent e, LocalDateTime newDate) {
+    removeFromDays(original, e);
+
+    LocalDate newStartDate = newDate.toLocalDate();
+
+    if (!this.calendar.containsKey(newStartDate)) {
+      this.calendar.put(newStartDate, new ArrayList<>());
+    }
+    this.calendar.get(newStartDate).add(e);
+  }
+
+  //removes an event from every day it spans, dropping the days that are left empty
+  private void removeFromDays(LocalDateTime original, IEvent e) {
     LocalDate originalEndDate = e.getEnd().toLocalDate();
 
     LocalDate currentDate = original.toLocalDate();
     while (!currentDate.isAfter(originalEndDate)) {
-      if (this.calendar.containsKey(currentDate)) {
-        this.calendar.get(currentDate).remove(e);
-        if (this.calendar.get(currentDate).isEmpty()) {
+      List<IEvent> events = this.calendar.get(currentDate);
+      if (events != null) {
+        events.remove(e);
+        if (events.isEmpty()) {
           this.calendar.remove(currentDate);
         }
       }
       currentDate = currentDate.plusDays(1);
     }
+  }
 
-    LocalDate newStartDate = newDate.toLocalDate();
+  @Override
+  public void deleteEvent(String subject, LocalDateTime startTime, LocalDateTime endTime) {
+    this.lock.writeLock().lock();
+    try {
+      List<IEvent> events = this.calendar.get(startTime.toLocalDate());
+      if (events != null) {
+        for (IEvent e : events) {
+          if (e.getSubject().equals(subject) && e.getStart().equals(startTime)
+                  && e.getEnd().equals(endTime)) {
+            deleteHelper(e, findSeriesKey(e));
+            return;
+          }
+        }
+      }
+      throw new IllegalArgumentException("Event not found");
+    } finally {
+      this.lock.writeLock().unlock();
+    }
+  }
 
-    if (!this.calendar.containsKey(newStartDate)) {
-      this.calendar.put(newStartDate, new ArrayList<>());
+  @Override
+  public void deleteEvents(String subject, LocalDateTime startTime) {
+    this.lock.writeLock().lock();
+    try {
+      IEvent first = findEventByStart(subject, startTime);
+      SeriesKey key = findSeriesKey(first);
+      if (key == null) {
+        deleteHelper(first, null);
+        return;
+      }
+      List<IEvent> events = this.series.get(key);
+      for (int i = events.size() - 1; i >= 0; i--) {
+        IEvent e = events.get(i);
+        if (!e.getStart().isBefore(startTime) && e.getSubject().equals(subject)) {
+          deleteHelper(e, key);
+        }
+      }
+    } finally {
+      this.lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void deleteSeries(String subject, LocalDateTime startTime) {
+    this.lock.writeLock().lock();
+    try {
+      IEvent first = findEventByStart(subject, startTime);
+      SeriesKey key = findSeriesKey(first);
+      if (key == null) {
+        deleteHelper(first, null);
+        return;
+      }
+      List<IEvent> events = this.series.get(key);
+      for (int i = events.size() - 1; i >= 0; i--) {
+        IEvent e = events.get(i);
+        if (e.getSubject().equals(subject)) {
+          deleteHelper(e, key);
+        }
+      }
+    } finally {
+      this.lock.writeLock().unlock();
+    }
+  }
+
+  //finds the event on the start time's day with the given subject and start time
+  private IEvent findEventByStart(String subject, LocalDateTime startTime) {
+    List<IEvent> events = this.calendar.get(startTime.toLocalDate());
+    if (events != null) {
+      for (IEvent e : events) {
+        if (e.getSubject().equals(subject) && e.getStart().equals(startTime)) {
+          return e;
+        }
+      }
+    }
+    throw new IllegalArgumentException("Event not found");
+  }
+
+  //finds the key of the series that the event belongs to, or null if it isn't in one
+  protected SeriesKey findSeriesKey(IEvent e) {
+    return this.seriesKeys.get(e);
+  }
+
+  //finds the series that was made at the given start time first, or null if none starts then
+  private SeriesKey seriesAt(LocalDateTime start) {
+    List<SeriesKey> keys = this.seriesStarts.get(start);
+    return keys == null ? null : keys.get(0);
+  }
+
+  //files a new series under its key and its start time
+  private void fileSeries(SeriesKey key, List<IEvent> events) {
+    this.series.put(key, events);
+    this.seriesStarts.computeIfAbsent(key.getStart(), k -> new ArrayList<>(1)).add(key);
+  }
+
+  //gets the events of the series with the given key, starting the series if it isn't here yet
+  protected List<IEvent> seriesList(SeriesKey key) {
+    List<IEvent> events = this.series.get(key);
+    if (events == null) {
+      events = new ArrayList<>();
+      fileSeries(key, events);
+    }
+    return events;
+  }
+
+  //drops the series with the given key from the calendar if it has no events left
+  private void dropIfEmpty(SeriesKey key) {
+    List<IEvent> events = this.series.get(key);
+    if (events == null || !events.isEmpty()) {
+      return;
+    }
+    this.series.remove(key);
+    List<SeriesKey> keys = this.seriesStarts.get(key.getStart());
+    keys.remove(key);
+    if (keys.isEmpty()) {
+      this.seriesStarts.remove(key.getStart());
+    }
+  }
+
+  //adds the event to a series list, which is the one filed under the key
+  protected void addToSeries(List<IEvent> seriesList, SeriesKey seriesKey, IEvent e) {
+    seriesList.add(e);
+    this.seriesKeys.put(e, seriesKey);
+  }
+
+  //takes the event out of the series with the given key, if it's in it, leaving the series
+  //even if it's empty
+  private boolean removeFromSeries(SeriesKey seriesKey, IEvent e) {
+    List<IEvent> events = seriesKey == null ? null : this.series.get(seriesKey);
+    if (events == null || !events.remove(e)) {
+      return false;
+    }
+    this.seriesKeys.remove(e, seriesKey);
+    return true;
+  }
+
+  //removes the event from its days and from its series, dropping the series once it's empty
+  protected void deleteHelper(IEvent e, SeriesKey seriesKey) {
+    removeFromDays(e.getStart(), e);
+    if (seriesKey != null) {
+      removeFromSeries(seriesKey, e);
+      dropIfEmpty(seriesKey);
+    }
+    if (this.bus.hasListeners()) {
+      this.bus.publish(CalendarChange.removed(this, e, seriesKey));
     }
-    this.calendar.get(newStartDate).add(e);
   }
 
   @Override
   public void editEvents(PropertyType property, String subject,
                          LocalDateTime startTime, String value) {
-    for (Map.Entry<LocalDateTime, List<IEvent>> entry : series.entrySet()) {
-      List<IEvent> events = entry.getValue();
-      for (IEvent e : events) {
-        if (e.getStart().equals(startTime) && e.getSubject().equals(subject)) {
-          for (int i = events.size() - 1; i >= 0; i--) {
-            IEvent event = events.get(i);
-            if (!event.getStart().isBefore(startTime) && event.getSubject().equals(subject)) {
-              editEventsHelper(event, property, entry.getKey(), startTime, value);
-              // Only check for duplicates if the event is still on the same date
-              if (this.calendar.get(event.getStart().toLocalDate()) != null) {
-                alreadyExistsInCalendar(this.calendar.get(event.getStart().toLocalDate()), event);
+    this.lock.writeLock().lock();
+    try {
+      // moving events starts new series, so the series are gone through from a copy of the map
+      for (Map.Entry<SeriesKey, List<IEvent>> entry : new ArrayList<>(series.entrySet())) {
+        List<IEvent> events = entry.getValue();
+        for (IEvent e : events) {
+          if (e.getStart().equals(startTime) && e.getSubject().equals(subject)) {
+            for (int i = events.size() - 1; i >= 0; i--) {
+              IEvent event = events.get(i);
+              if (!event.getStart().isBefore(startTime) && event.getSubject().equals(subject)) {
+                editEventsHelper(event, property, entry.getKey(), startTime, value);
+                // Only check for duplicates if the event is still on the same date
+                if (this.calendar.get(event.getStart().toLocalDate()) != null) {
+                  alreadyExistsInCalendar(this.calendar.get(event.getStart().toLocalDate()), event);
+                }
               }
             }
+            break;
           }
-          break;
         }
       }
+    } finally {
+      this.lock.writeLock().unlock();
     }
   }
 
   @Override
   public void editSeries(PropertyType property, String subject,
                          LocalDateTime startTime, String value) {
-    if (this.series.containsKey(startTime)) {
-      List<IEvent> events = this.series.get(startTime);
-      for (int i = events.size() - 1; i >= 0; i--) {
-        IEvent e = events.get(i);
-        if (e.getSubject().equals(subject)) {
-          editEventsHelper(e, property, startTime, startTime, value);
-          // Only check for duplicates if the event is still on the same date
-          if (this.calendar.get(e.getStart().toLocalDate()) != null) {
-            alreadyExistsInCalendar(this.calendar.get(e.getStart().toLocalDate()), e);
+    this.lock.writeLock().lock();
+    try {
+      SeriesKey key = seriesAt(startTime);
+      if (key != null) {
+        List<IEvent> events = this.series.get(key);
+        for (int i = events.size() - 1; i >= 0; i--) {
+          IEvent e = events.get(i);
+          if (e.getSubject().equals(subject)) {
+            editEventsHelper(e, property, key, startTime, value);
+            // Only check for duplicates if the event is still on the same date
+            if (this.calendar.get(e.getStart().toLocalDate()) != null) {
+              alreadyExistsInCalendar(this.calendar.get(e.getStart().toLocalDate()), e);
+            }
           }
         }
+        removeSeries(property, key);
       }
-      removeSeries(property, startTime);
+    } finally {
+      this.lock.writeLock().unlock();
     }
   }
 
   //switch case for series
-  private void editEventsHelper(IEvent e, PropertyType property, LocalDateTime key,
+  private void editEventsHelper(IEvent e, PropertyType property, SeriesKey key,
                                 LocalDateTime base, String value) {
     long between;
     switch (property) {
@@ -311,28 +589,30 @@ public class Calendar implements ICalendar {
   }
 
   //sets a series of events to a new start time and putting it into a new series
-  private void setStarterEventsHelper(IEvent e, String value, long between, LocalDateTime key) {
+  private void setStarterEventsHelper(IEvent e, String value, long between, SeriesKey key) {
     LocalDateTime start = LocalDateTime.parse(value);
+    LocalDateTime previousStart = e.getStart();
+    LocalDateTime previousEnd = e.getEnd();
     LocalDateTime newDate = e.getStart().plusMinutes(between);
 
-    if (this.series.containsKey(key)) {
-      this.series.get(key).remove(e);
-    }
+    removeFromSeries(key, e);
 
     // Check if target series already exists
-    if (this.series.containsKey(start)) {
+    SeriesKey target = seriesAt(start);
+    if (target != null) {
       // Check if any existing event in target series is from a different original series
-      for (IEvent existingEvent : this.series.get(start)) {
-        if (existingEvent.getSeriesKey() != null && !key.equals(existingEvent.getSeriesKey())) {
+      for (IEvent existingEvent : this.series.get(target)) {
+        if (existingEvent.getSeriesKey() != null
+                && !key.getStart().equals(existingEvent.getSeriesKey())) {
           throw new IllegalArgumentException("Cannot add event from different series. " +
                   "Target series contains events from series: " + existingEvent.getSeriesKey());
         }
       }
     } else {
       // Create new series if it doesn't exist
-      this.series.put(start, new ArrayList<>());
+      target = new SeriesKey(start);
     }
-    this.series.get(start).add(e);
+    addToSeries(seriesList(target), target, e);
 
     removeAndAddToCalendar(e.getStart(), e, newDate);
 
@@ -343,6 +623,7 @@ public class Calendar implements ICalendar {
     } else {
       e.setEnd(LocalDateTime.of(newDate.toLocalDate(), e.getEnd().toLocalTime()));
     }
+    fireMoved(e, previousStart, previousEnd, key, target);
   }
 
   //sets a series of event's end times
@@ -354,14 +635,15 @@ public class Calendar implements ICalendar {
     checkEndTimeAfterStart(end, e.getStart());
     checkEventIsOneDay(e.getStart().plusMinutes(between), end);
 
+    LocalDateTime previousEnd = e.getEnd();
     e.setEnd(LocalDateTime.of(e.getEnd().toLocalDate(), endTime));
+    fireFieldChanged(e, PropertyType.END, previousEnd, e.getEnd());
   }
 
   //removes a series
-  private void removeSeries(PropertyType property, LocalDateTime start) {
-    if (property == PropertyType.START && this.series.get(start) != null
-            && this.series.get(start).isEmpty()) {
-      this.series.remove(start);
+  private void removeSeries(PropertyType property, SeriesKey key) {
+    if (property == PropertyType.START) {
+      dropIfEmpty(key);
     }
   }
 
@@ -374,42 +656,55 @@ public class Calendar implements ICalendar {
 
   @Override
   public String printEvents(LocalDate day) {
-    if (!this.calendar.containsKey(day) || this.calendar.get(day).isEmpty()) {
-      return "No events on this day";
-    }
+    return this.lock.optimisticRead(() -> eventsOn(day), eventList -> {
+      if (eventList.length == 0) {
+        return "No events on this day";
+      }
 
-    List<String> events = new ArrayList<>();
-    List<IEvent> eventList = this.calendar.get(day);
-    for (IEvent e : eventList) {
-      events.add(printHelper(e));
-    }
-    return String.join("\n", events);
+      List<String> events = new ArrayList<>();
+      for (IEvent e : eventList) {
+        events.add(printHelper(e));
+      }
+      return String.join("\n", events);
+    });
+  }
+
+  //copies the events listed under a day, to be read once the copy is known to be whole
+  private IEvent[] eventsOn(LocalDate day) {
+    List<IEvent> events = this.calendar.get(day);
+    return events == null ? NO_EVENTS : events.toArray(NO_EVENTS);
   }
 
   @Override
   public String printEventsInterval(LocalDateTime start, LocalDateTime end) {
-    LocalDate day = start.toLocalDate();
-    List<String> events = new ArrayList<>();
-    int count = 0;
-
-    // If end is provided, no limit. If end is null, limit to 10 events.
-    while ((end == null && count < 10) || (end != null && !day.isAfter(end.toLocalDate()))) {
-      if (this.calendar.containsKey(day)) {
-        List<IEvent> eventList = this.calendar.get(day);
-        for (IEvent e : eventList) {
-          if (!e.getStart().isBefore(start)) {
-            events.add(printHelper(e));
-            count++;
-            if (end == null && count == 10) {
-              break;
+    // a scan of many days holds the read lock rather than copying every day it visits
+    this.lock.readLock().lock();
+    try {
+      LocalDate day = start.toLocalDate();
+      List<String> events = new ArrayList<>();
+      int count = 0;
+
+      // If end is provided, no limit. If end is null, limit to 10 events.
+      while ((end == null && count < 10) || (end != null && !day.isAfter(end.toLocalDate()))) {
+        if (this.calendar.containsKey(day)) {
+          List<IEvent> eventList = this.calendar.get(day);
+          for (IEvent e : eventList) {
+            if (!e.getStart().isBefore(start)) {
+              events.add(printHelper(e));
+              count++;
+              if (end == null && count == 10) {
+                break;
+              }
             }
           }
         }
+        day = day.plusDays(1);
       }
-      day = day.plusDays(1);
-    }
 
-    return String.join("\n", events);
+      return String.join("\n", events);
+    } finally {
+      this.lock.readLock().unlock();
+    }
   }
 
   //creates the string to return
@@ -422,26 +717,158 @@ public class Calendar implements ICalendar {
 
   @Override
   public String showStatus(LocalDateTime queryTime) {
-    LocalDate queryDate = queryTime.toLocalDate();
+    // an event is listed under every day it spans, so this also finds events that started
+    // on an earlier day and end on a later one
+    return this.lock.optimisticRead(() -> eventsOn(queryTime.toLocalDate()), events -> {
+      for (IEvent e : events) {
+        // Check if query time falls within event time range [start, end)
+        if (!queryTime.isBefore(e.getStart()) && queryTime.isBefore(e.getEnd())) {
+          return "busy";
+        }
 
-    if (!this.calendar.containsKey(queryDate)) {
+        // Also check the original logic for backward compatibility
+        if (e.getStart().equals(queryTime)) {
+          return "busy";
+        }
+      }
       return "available";
+    });
+  }
+
+  //undoes a change that was made to this calendar without telling the listeners, given the
+  //event in this calendar that the change applies to
+  void revert(CalendarChange change, IEvent e) {
+    switch (change.getType()) {
+      case ADDED:
+        detach(e, change.getSeriesKey());
+        break;
+      case REMOVED:
+        // an event moved to another calendar has other times by now
+        restoreTimes(e, change);
+        attach(e, change.getSeriesKey());
+        break;
+      case MOVED:
+        detach(e, change.getSeriesKey());
+        e.setStart(change.getPreviousStart());
+        e.setEnd(change.getPreviousEnd());
+        attach(e, change.getPreviousSeriesKey());
+        break;
+      default:
+        applyValue(e, change.getProperty(), change.getPreviousValue());
     }
+  }
 
-    List<IEvent> events = this.calendar.get(queryDate);
+  //makes a change that was undone again without telling the listeners, given the event in this
+  //calendar that the change applies to
+  void reapply(CalendarChange change, IEvent e) {
+    switch (change.getType()) {
+      case ADDED:
+        restoreTimes(e, change);
+        attach(e, change.getSeriesKey());
+        break;
+      case REMOVED:
+        detach(e, change.getSeriesKey());
+        break;
+      case MOVED:
+        detach(e, change.getPreviousSeriesKey());
+        e.setStart(change.getStart());
+        e.setEnd(change.getEnd());
+        attach(e, change.getSeriesKey());
+        break;
+      default:
+        applyValue(e, change.getProperty(), change.getNewValue());
+    }
+  }
 
-    for (IEvent e : events) {
-      // Check if query time falls within event time range [start, end)
-      if (!queryTime.isBefore(e.getStart()) && queryTime.isBefore(e.getEnd())) {
-        return "busy";
-      }
+  //gives the event back the times it had right after the change, if it has other times now
+  private void restoreTimes(IEvent e, CalendarChange change) {
+    if (!e.getStart().equals(change.getStart())) {
+      e.setStart(change.getStart());
+    }
+    if (!e.getEnd().equals(change.getEnd())) {
+      e.setEnd(change.getEnd());
+    }
+  }
 
-      // Also check the original logic for backward compatibility
-      if (e.getStart().equals(queryTime)) {
-        return "busy";
+  //takes the event out of its days and out of the series with the given key
+  private void detach(IEvent e, SeriesKey seriesKey) {
+    removeFromDays(e.getStart(), e);
+    if (removeFromSeries(seriesKey, e)) {
+      dropIfEmpty(seriesKey);
+    }
+  }
+
+  //puts the event back into every day it spans and into the series with the given key
+  protected void attach(IEvent e, SeriesKey seriesKey) {
+    LocalDate currentDate = e.getStart().toLocalDate();
+    while (!currentDate.isAfter(e.getEnd().toLocalDate())) {
+      this.calendar.computeIfAbsent(currentDate, k -> new ArrayList<>()).add(e);
+      currentDate = currentDate.plusDays(1);
+    }
+    if (seriesKey != null) {
+      addToSeries(seriesList(seriesKey), seriesKey, e);
+    }
+  }
+
+  //sets a property of the event to a value that was recorded in a change
+  private void applyValue(IEvent e, PropertyType property, Object value) {
+    switch (property) {
+      case SUBJECT:
+        e.setSubject((String) value);
+        break;
+      case END:
+        e.setEnd((LocalDateTime) value);
+        break;
+      case DESCRIPTION:
+        e.setDesc((String) value);
+        break;
+      case LOCATION:
+        e.setLocation((Location) value);
+        break;
+      case STATUS:
+        e.setStatus((Status) value);
+        break;
+      default: //start times only change through moves
+    }
+  }
+
+  //copies the days and series of this calendar into a new calendar, keeping track of which copy
+  //was made for which event so that events spanning several days are only copied once
+  Calendar copy(Map<IEvent, IEvent> copies) {
+    Calendar copy = new Calendar();
+    for (Map.Entry<LocalDate, List<IEvent>> entry : this.calendar.entrySet()) {
+      copy.calendar.put(entry.getKey(), copyAll(entry.getValue(), copies));
+    }
+    for (List<SeriesKey> keys : this.seriesStarts.values()) {
+      for (SeriesKey key : keys) {
+        List<IEvent> copied = copyAll(this.series.get(key), copies);
+        copy.fileSeries(key, copied);
+        for (IEvent e : copied) {
+          copy.seriesKeys.put(e, key);
+        }
       }
     }
-    return "available";
+    return copy;
+  }
+
+  //copies each event in the list, reusing the copies that were already made
+  private static List<IEvent> copyAll(List<IEvent> events, Map<IEvent, IEvent> copies) {
+    List<IEvent> copied = new ArrayList<>(events.size());
+    for (IEvent e : events) {
+      copied.add(copies.computeIfAbsent(e, Calendar::copyEvent));
+    }
+    return copied;
+  }
+
+  //makes a new event with the same fields as the given one
+  static IEvent copyEvent(IEvent e) {
+    return new Event.EventBuilder(e.getSubject(), e.getStart()).end(e.getEnd()).desc(e.getDesc())
+            .location(e.getLocation()).status(e.getStatus()).build();
+  }
+
+  @Override
+  public CalendarLock getLock() {
+    return lock;
   }
 
   @Override
@@ -450,7 +877,13 @@ public class Calendar implements ICalendar {
   }
 
   @Override
-  public Map<LocalDateTime, List<IEvent>> getSeries() {
+  public Map<SeriesKey, List<IEvent>> getSeries() {
     return series;
   }
+
+  @Override
+  public List<IEvent> getSeriesAt(LocalDateTime startTime) {
+    return this.lock.optimisticRead(() -> seriesAt(startTime),
+            key -> key == null ? null : this.series.get(key));
+  }
 }
\ No newline at end of file
@@ -0,0 +1,201 @@
+package model.calendar;
+
+import java.time.LocalDateTime;
+
+import controller.parse.PropertyType;
+import model.enums.ChangeType;
+
+/**
+ * An immutable description of a single change made to a calendar. Every change carries the event
+ * it applies to and the event's start and end times right after the change. Moves also carry the
+ * times the event had before, and field changes carry the property along with its old and new
+ * values, so that listeners can update what they derived from the calendar without rescanning it.
+ * Additions, removals and moves carry the key of the series the change put the event into or took
+ * it out of, which is null when the change did not touch any series.
+ */
+public class CalendarChange {
+  private final ICalendar source;
+  private final ChangeType type;
+  private final IEvent event;
+  private final LocalDateTime start;
+  private final LocalDateTime end;
+  private final LocalDateTime previousStart;
+  private final LocalDateTime previousEnd;
+  private final PropertyType property;
+  private final Object previousValue;
+  private final Object newValue;
+  private final SeriesKey seriesKey;
+  private final SeriesKey previousSeriesKey;
+
+  private CalendarChange(ICalendar source, ChangeType type, IEvent event,
+                         LocalDateTime previousStart, LocalDateTime previousEnd,
+                         PropertyType property, Object previousValue, Object newValue,
+                         SeriesKey seriesKey, SeriesKey previousSeriesKey) {
+    this.source = source;
+    this.type = type;
+    this.event = event;
+    this.start = event.getStart();
+    this.end = event.getEnd();
+    this.previousStart = previousStart;
+    this.previousEnd = previousEnd;
+    this.property = property;
+    this.previousValue = previousValue;
+    this.newValue = newValue;
+    this.seriesKey = seriesKey;
+    this.previousSeriesKey = previousSeriesKey;
+  }
+
+  /**
+   * Creates the change for an event that was added to a calendar.
+   * @param source the calendar that changed
+   * @param event the added event
+   * @param seriesKey the key of the series the event was added to, or null
+   * @return the change
+   */
+  public static CalendarChange added(ICalendar source, IEvent event, SeriesKey seriesKey) {
+    return new CalendarChange(source, ChangeType.ADDED, event, null, null, null, null, null,
+            seriesKey, null);
+  }
+
+  /**
+   * Creates the change for an event that was removed from a calendar.
+   * @param source the calendar that changed
+   * @param event the removed event
+   * @param seriesKey the key of the series the event was removed from, or null
+   * @return the change
+   */
+  public static CalendarChange removed(ICalendar source, IEvent event, SeriesKey seriesKey) {
+    return new CalendarChange(source, ChangeType.REMOVED, event, event.getStart(),
+            event.getEnd(), null, null, null, seriesKey, null);
+  }
+
+  /**
+   * Creates the change for an event whose start time, and with it its days, changed.
+   * @param source the calendar that changed
+   * @param event the moved event
+   * @param previousStart the start time before the move
+   * @param previousEnd the end time before the move
+   * @param previousSeriesKey the key of the series the move took the event out of, or null
+   * @param seriesKey the key of the series the move put the event into, or null
+   * @return the change
+   */
+  public static CalendarChange moved(ICalendar source, IEvent event,
+                                     LocalDateTime previousStart, LocalDateTime previousEnd,
+                                     SeriesKey previousSeriesKey, SeriesKey seriesKey) {
+    return new CalendarChange(source, ChangeType.MOVED, event, previousStart, previousEnd,
+            PropertyType.START, previousStart, event.getStart(), seriesKey, previousSeriesKey);
+  }
+
+  /**
+   * Creates the change for an event that had a single field changed in place.
+   * @param source the calendar that changed
+   * @param event the changed event
+   * @param property the property that changed
+   * @param previousValue the value before the change
+   * @param newValue the value after the change
+   * @return the change
+   */
+  public static CalendarChange fieldChanged(ICalendar source, IEvent event, PropertyType property,
+                                            Object previousValue, Object newValue) {
+    LocalDateTime previousEnd = property == PropertyType.END
+            ? (LocalDateTime) previousValue : event.getEnd();
+    return new CalendarChange(source, ChangeType.FIELD_CHANGED, event, event.getStart(),
+            previousEnd, property, previousValue, newValue, null, null);
+  }
+
+  /**
+   * Gets the calendar that changed.
+   * @return the calendar
+   */
+  public ICalendar getSource() {
+    return source;
+  }
+
+  /**
+   * Gets the type of change.
+   * @return the change type
+   */
+  public ChangeType getType() {
+    return type;
+  }
+
+  /**
+   * Gets the event that the change applies to.
+   * @return the event
+   */
+  public IEvent getEvent() {
+    return event;
+  }
+
+  /**
+   * Gets the start time of the event right after the change.
+   * @return the start time
+   */
+  public LocalDateTime getStart() {
+    return start;
+  }
+
+  /**
+   * Gets the end time of the event right after the change.
+   * @return the end time
+   */
+  public LocalDateTime getEnd() {
+    return end;
+  }
+
+  /**
+   * Gets the start time of the event before the change, or null for additions.
+   * @return the previous start time
+   */
+  public LocalDateTime getPreviousStart() {
+    return previousStart;
+  }
+
+  /**
+   * Gets the end time of the event before the change, or null for additions.
+   * @return the previous end time
+   */
+  public LocalDateTime getPreviousEnd() {
+    return previousEnd;
+  }
+
+  /**
+   * Gets the property that changed, or null for additions.
+   * @return the property
+   */
+  public PropertyType getProperty() {
+    return property;
+  }
+
+  /**
+   * Gets the value of the property before the change.
+   * @return the previous value
+   */
+  public Object getPreviousValue() {
+    return previousValue;
+  }
+
+  /**
+   * Gets the value of the property after the change.
+   * @return the new value
+   */
+  public Object getNewValue() {
+    return newValue;
+  }
+
+  /**
+   * Gets the key of the series the event was added to, removed from or moved into.
+   * @return the series key, or null if no series was touched
+   */
+  public SeriesKey getSeriesKey() {
+    return seriesKey;
+  }
+
+  /**
+   * Gets the key of the series a move took the event out of.
+   * @return the previous series key, or null if the move did not leave a series
+   */
+  public SeriesKey getPreviousSeriesKey() {
+    return previousSeriesKey;
+  }
+}
@@ -0,0 +1,68 @@
+package model.calendar;
+
+/**
+ * Publishes calendar changes to the listeners subscribed to a calendar. The listeners are kept in
+ * an array that is replaced on every subscribe or unsubscribe, so publishing never locks or
+ * allocates, and callers can check hasListeners() before building a change at all.
+ */
+public class CalendarEventBus {
+  private static final ICalendarListener[] NONE = new ICalendarListener[0];
+  private volatile ICalendarListener[] listeners;
+
+  /**
+   * Constructs an event bus with no listeners.
+   */
+  public CalendarEventBus() {
+    this.listeners = NONE;
+  }
+
+  /**
+   * Subscribes a listener to the changes published on this bus.
+   * @param listener the listener to add
+   */
+  public synchronized void subscribe(ICalendarListener listener) {
+    if (listener == null) {
+      throw new IllegalArgumentException("Listener cannot be null");
+    }
+    ICalendarListener[] current = this.listeners;
+    ICalendarListener[] updated = new ICalendarListener[current.length + 1];
+    System.arraycopy(current, 0, updated, 0, current.length);
+    updated[current.length] = listener;
+    this.listeners = updated;
+  }
+
+  /**
+   * Unsubscribes a listener. Does nothing if the listener was never subscribed.
+   * @param listener the listener to remove
+   */
+  public synchronized void unsubscribe(ICalendarListener listener) {
+    ICalendarListener[] current = this.listeners;
+    for (int i = 0; i < current.length; i++) {
+      if (current[i] == listener) {
+        ICalendarListener[] updated = new ICalendarListener[current.length - 1];
+        System.arraycopy(current, 0, updated, 0, i);
+        System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+        this.listeners = current.length == 1 ? NONE : updated;
+        return;
+      }
+    }
+  }
+
+  /**
+   * Checks if anything is listening, so that changes don't have to be built when nobody is.
+   * @return true or false
+   */
+  public boolean hasListeners() {
+    return this.listeners.length != 0;
+  }
+
+  /**
+   * Sends the change to every subscribed listener in the order they subscribed.
+   * @param change the change to send
+   */
+  public void publish(CalendarChange change) {
+    for (ICalendarListener listener : this.listeners) {
+      listener.calendarChanged(change);
+    }
+  }
+}
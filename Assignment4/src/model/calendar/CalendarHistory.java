@@ -0,0 +1,217 @@
+package model.calendar;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the versions of the calendars it listens to so that commands can be undone and redone and
+ * older versions can be looked at. A version is only the list of changes one command made, and
+ * every event that a command didn't touch is shared between all versions, so keeping the whole
+ * history costs memory in proportion to what changed rather than to the size of the calendars.
+ * Undoing walks a version's changes backwards and puts each event back the way it was.
+ *
+ * <p>Calendars publish their changes on the thread that makes them, while it holds their write
+ * locks. The changes are kept with that thread, and become a version just before the thread
+ * releases the last write lock it holds, so a version is everything one command changed under its
+ * locks. No other thread can change those calendars before the version is saved, so versions are
+ * kept in the order their changes were made, and commands run at the same time on different
+ * threads become separate versions.</p>
+ */
+public class CalendarHistory implements ICalendarListener {
+  private final Clock clock;
+  private final List<Version> versions;
+  private final Deque<Version> undone;
+  // the changes not yet in a version, of every thread, in the order they were made
+  private final List<PendingChange> pending;
+  // saves the calling thread's changes as a version, handed to the lock once per section
+  private final Runnable saveOnWritesEnd = this::saveVersion;
+
+  /**
+   * Constructs an empty history that timestamps versions with the system clock.
+   */
+  public CalendarHistory() {
+    this(Clock.systemUTC());
+  }
+
+  /**
+   * Constructs an empty history that timestamps versions with the given clock.
+   * @param clock the clock used to timestamp versions
+   */
+  public CalendarHistory(Clock clock) {
+    this.clock = clock;
+    this.versions = new ArrayList<>();
+    this.undone = new ArrayDeque<>();
+    this.pending = new ArrayList<>();
+  }
+
+  @Override
+  public synchronized void calendarChanged(CalendarChange change) {
+    // only calendars that can put their events back can be part of the history
+    if (change.getSource() instanceof Calendar) {
+      this.pending.add(new PendingChange(Thread.currentThread(), change));
+      CalendarLock.beforeWritesEnd(saveOnWritesEnd);
+    }
+  }
+
+  //groups the changes the calling thread made since it last saved a version into a new version,
+  //if it changed anything. Saving a version drops the versions that were undone, so they can't
+  //be redone
+  private synchronized void saveVersion() {
+    Thread thread = Thread.currentThread();
+    List<CalendarChange> changes = new ArrayList<>();
+    Iterator<PendingChange> it = this.pending.iterator();
+    while (it.hasNext()) {
+      PendingChange next = it.next();
+      if (next.thread == thread) {
+        changes.add(next.change);
+        it.remove();
+      }
+    }
+    if (changes.isEmpty()) {
+      return;
+    }
+    this.versions.add(new Version(this.clock.instant(), changes));
+    this.undone.clear();
+  }
+
+  /**
+   * Undoes the latest version, saving the calling thread's pending changes as a version first.
+   * Other threads must not use the calendars of the version meanwhile, so callers hold the write
+   * locks of every calendar, taken before calling this so that the locks are always taken before
+   * the history's monitor. No other thread can then be in the middle of a command, so every
+   * other change is already in a version.
+   * @return true if a version was undone, false if there was nothing to undo
+   */
+  public synchronized boolean undo() {
+    saveVersion();
+    if (this.versions.isEmpty()) {
+      return false;
+    }
+    Version version = this.versions.remove(this.versions.size() - 1);
+    List<CalendarChange> changes = version.changes;
+    for (int i = changes.size() - 1; i >= 0; i--) {
+      CalendarChange change = changes.get(i);
+      ((Calendar) change.getSource()).revert(change, change.getEvent());
+    }
+    this.undone.push(version);
+    return true;
+  }
+
+  /**
+   * Redoes the version that was undone last. Callers hold the write locks of the calendars the
+   * same way as for undo.
+   * @return true if a version was redone, false if there was nothing to redo, or the calling
+   *         thread changed the calendars since the undo
+   */
+  public synchronized boolean redo() {
+    saveVersion();
+    if (this.undone.isEmpty()) {
+      return false;
+    }
+    Version version = this.undone.pop();
+    for (CalendarChange change : version.changes) {
+      ((Calendar) change.getSource()).reapply(change, change.getEvent());
+    }
+    this.versions.add(version);
+    return true;
+  }
+
+  /**
+   * Gets the number of the current version, where 0 is the state before any saved changes.
+   * @return the current version number
+   */
+  public synchronized int getVersion() {
+    return this.versions.size();
+  }
+
+  /**
+   * Finds the latest version that was saved at or before the given time.
+   * @param time the time to look at
+   * @return the version number, 0 if nothing was saved by then
+   */
+  public synchronized int versionAt(Instant time) {
+    int low = 0;
+    int high = this.versions.size();
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (this.versions.get(mid).time.isAfter(time)) {
+        high = mid;
+      } else {
+        low = mid + 1;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Makes a read-only view of a calendar as it was at the given version. The view is a new
+   * calendar built from the current one by undoing the later versions on a copy, so the calendar
+   * itself is left alone.
+   * @param calendar the calendar to look at, which must be one this history listens to
+   * @param version the version number to look at
+   * @return the calendar as it was at that version
+   */
+  public synchronized ICalendar viewAt(ICalendar calendar, int version) {
+    if (!(calendar instanceof Calendar)) {
+      throw new IllegalArgumentException("Calendar has no history");
+    }
+    if (version < 0 || version > this.versions.size()) {
+      throw new IllegalArgumentException("Version " + version + " does not exist");
+    }
+    Map<IEvent, IEvent> copies = new IdentityHashMap<>();
+    Calendar view = ((Calendar) calendar).copy(copies);
+    List<CalendarChange> unsaved = new ArrayList<>(this.pending.size());
+    for (PendingChange next : this.pending) {
+      unsaved.add(next.change);
+    }
+    revertCopy(calendar, view, unsaved, copies);
+    for (int v = this.versions.size() - 1; v >= version; v--) {
+      revertCopy(calendar, view, this.versions.get(v).changes, copies);
+    }
+    return view;
+  }
+
+  //undoes the changes that were made to the calendar on its copy
+  private void revertCopy(ICalendar calendar, Calendar view, List<CalendarChange> changes,
+                          Map<IEvent, IEvent> copies) {
+    for (int i = changes.size() - 1; i >= 0; i--) {
+      CalendarChange change = changes.get(i);
+      if (change.getSource() == calendar) {
+        view.revert(change, copies.computeIfAbsent(change.getEvent(), Calendar::copyEvent));
+      }
+    }
+  }
+
+  /**
+   * A change that isn't in a version yet, along with the thread that made it.
+   */
+  private static class PendingChange {
+    private final Thread thread;
+    private final CalendarChange change;
+
+    private PendingChange(Thread thread, CalendarChange change) {
+      this.thread = thread;
+      this.change = change;
+    }
+  }
+
+  /**
+   * The changes of one version along with the time it was saved.
+   */
+  private static class Version {
+    private final Instant time;
+    private final List<CalendarChange> changes;
+
+    private Version(Instant time, List<CalendarChange> changes) {
+      this.time = time;
+      this.changes = changes;
+    }
+  }
+}
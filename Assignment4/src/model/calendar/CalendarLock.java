@@ -0,0 +1,267 @@
+package model.calendar;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The read-write lock that guards the events of one calendar. Every lock gets a number when it is
+ * made, and code that needs the locks of several calendars at once takes them in the order of
+ * those numbers, so two threads can never each hold a lock the other is waiting for.
+ *
+ * <p>Queries of a single day don't take the read lock at all. The write lock also holds the
+ * write stamp of a {@link StampedLock} while it is taken, so such a query can copy the day
+ * optimistically and then check that no writer came in between, which costs readers no shared
+ * writes. Only a query that overlapped a write takes the read lock and runs again. Queries that
+ * scan many days take the read lock.</p>
+ *
+ * <p>The write locks a thread holds on any calendars at once make up one section of writes, from
+ * the first one it takes to the last one it releases. Code can ask to run a task just before a
+ * section ends, which the history uses to turn each section's changes into one version.</p>
+ */
+public class CalendarLock extends ReentrantReadWriteLock {
+  private static final long serialVersionUID = 1L;
+  private static final AtomicLong NEXT_ORDER = new AtomicLong();
+  private static final ThreadLocal<Section> SECTION = ThreadLocal.withInitial(Section::new);
+
+  private final long order;
+  private final StampedLock stamps;
+  private final StampedWriteLock writer;
+
+  /**
+   * Constructor for a calendar lock, numbered after every lock made before it.
+   */
+  public CalendarLock() {
+    this.order = NEXT_ORDER.getAndIncrement();
+    this.stamps = new StampedLock();
+    this.writer = new StampedWriteLock(this);
+  }
+
+  /**
+   * The write locks a thread holds on any calendar, from the first one it takes to the last one
+   * it releases, and the tasks to run just before that last release. Only used by its thread.
+   */
+  private static class Section {
+    // every hold of a write lock, counting each reentrant hold
+    private int writes;
+    private final Set<Runnable> beforeEnd = new LinkedHashSet<>();
+  }
+
+  /**
+   * The write lock of a calendar, which takes the write stamp when a thread first takes it and
+   * gives the stamp back when that thread releases it for the last time. Since it is exclusive,
+   * taking the stamp never waits.
+   */
+  private static class StampedWriteLock extends ReentrantReadWriteLock.WriteLock {
+    private static final long serialVersionUID = 1L;
+    private final CalendarLock owner;
+    // only read and written by the thread holding the write lock, and meaningless once it's
+    // released, so never serialized
+    private transient long stamp;
+
+    StampedWriteLock(CalendarLock owner) {
+      super(owner);
+      this.owner = owner;
+    }
+
+    //takes the write stamp if the write lock was just taken by this thread, and counts the hold
+    //in the thread's section
+    private void stampIfFirst() {
+      if (getHoldCount() == 1) {
+        this.stamp = owner.stamps.writeLock();
+      }
+      SECTION.get().writes++;
+    }
+
+    @Override
+    public void lock() {
+      super.lock();
+      stampIfFirst();
+    }
+
+    @Override
+    public void lockInterruptibly() throws InterruptedException {
+      super.lockInterruptibly();
+      stampIfFirst();
+    }
+
+    @Override
+    public boolean tryLock() {
+      boolean taken = super.tryLock();
+      if (taken) {
+        stampIfFirst();
+      }
+      return taken;
+    }
+
+    @Override
+    public boolean tryLock(long timeout, TimeUnit unit) throws InterruptedException {
+      boolean taken = super.tryLock(timeout, unit);
+      if (taken) {
+        stampIfFirst();
+      }
+      return taken;
+    }
+
+    @Override
+    public void unlock() {
+      Section section = SECTION.get();
+      try {
+        if (section.writes == 1 && isHeldByCurrentThread()) {
+          endSection(section);
+        }
+      } finally {
+        if (getHoldCount() == 1) {
+          owner.stamps.unlockWrite(this.stamp);
+        }
+        super.unlock();
+        section.writes--;
+      }
+    }
+  }
+
+  @Override
+  public ReentrantReadWriteLock.WriteLock writeLock() {
+    return writer;
+  }
+
+  /**
+   * Runs a query of the calendar in two steps without locking it if no write overlaps it, and
+   * under the read lock otherwise. The first step only copies what the query needs out of the
+   * calendar, such as the events of one day into an array, and is checked against writes before
+   * its copy is used. The second step works on the copy, and is checked again afterwards since
+   * the events it reads can still change. Either step may see the calendar halfway through a
+   * write on the first try, so they must only read, and anything they throw on that try is
+   * ignored unless no write overlapped it.
+   * @param snapshot copies what the query needs out of the calendar
+   * @param use answers the query from the copy
+   * @param <S> the type of the copy
+   * @param <T> the type of the result
+   * @return the result of the query
+   */
+  public <S, T> T optimisticRead(Supplier<S> snapshot, Function<S, T> use) {
+    long stamp = stamps.tryOptimisticRead();
+    if (stamp != 0) {
+      try {
+        S copy = snapshot.get();
+        if (stamps.validate(stamp)) {
+          T result = use.apply(copy);
+          if (stamps.validate(stamp)) {
+            return result;
+          }
+        }
+      } catch (RuntimeException | Error e) {
+        // a write changed the calendar under the query, so the failure can't be trusted
+        if (stamps.validate(stamp)) {
+          throw e;
+        }
+      }
+    }
+
+    readLock().lock();
+    try {
+      return use.apply(snapshot.get());
+    } finally {
+      readLock().unlock();
+    }
+  }
+
+  /**
+   * Gets the number that decides when this lock is taken among several.
+   * @return the lock order
+   */
+  public long getOrder() {
+    return order;
+  }
+
+  /**
+   * Takes the read locks of some calendars and the write locks of others in lock order. A
+   * calendar in both groups only gets its write lock, which also allows reading it.
+   * @param reads the locks of the calendars that are only read
+   * @param writes the locks of the calendars that are changed
+   * @return the locks that were taken, to be given to unlockAll
+   */
+  public static List<Lock> lockInOrder(Collection<CalendarLock> reads,
+                                       Collection<CalendarLock> writes) {
+    TreeMap<Long, Lock> ordered = new TreeMap<>();
+    for (CalendarLock lock : reads) {
+      ordered.putIfAbsent(lock.order, lock.readLock());
+    }
+    for (CalendarLock lock : writes) {
+      ordered.put(lock.order, lock.writeLock());
+    }
+
+    List<Lock> taken = new ArrayList<>(ordered.size());
+    try {
+      for (Lock lock : ordered.values()) {
+        lock.lock();
+        taken.add(lock);
+      }
+    } catch (RuntimeException e) {
+      unlockAll(taken);
+      throw e;
+    }
+    return taken;
+  }
+
+  /**
+   * Releases locks taken by lockInOrder, in the reverse order they were taken. If they are the
+   * last write locks the thread holds, the tasks waiting for the end of its writes run before any
+   * of them is released, so that no other thread can change those calendars in between.
+   * @param locks the locks to release
+   */
+  public static void unlockAll(List<Lock> locks) {
+    Section section = SECTION.get();
+    int writes = 0;
+    for (Lock lock : locks) {
+      if (lock instanceof StampedWriteLock) {
+        writes++;
+      }
+    }
+    try {
+      if (writes > 0 && writes == section.writes) {
+        endSection(section);
+      }
+    } finally {
+      for (int i = locks.size() - 1; i >= 0; i--) {
+        locks.get(i).unlock();
+      }
+    }
+  }
+
+  /**
+   * Runs a task just before the calling thread releases the last write lock it holds on any
+   * calendar, while every calendar it changed is still locked, or right away if it holds none.
+   * A task given several times before then runs once.
+   * @param task the task to run
+   */
+  public static void beforeWritesEnd(Runnable task) {
+    Section section = SECTION.get();
+    if (section.writes == 0) {
+      task.run();
+    } else {
+      section.beforeEnd.add(task);
+    }
+  }
+
+  //runs the tasks waiting for the end of the section, including any they add themselves
+  private static void endSection(Section section) {
+    while (!section.beforeEnd.isEmpty()) {
+      List<Runnable> tasks = new ArrayList<>(section.beforeEnd);
+      section.beforeEnd.clear();
+      for (Runnable task : tasks) {
+        task.run();
+      }
+    }
+  }
+}
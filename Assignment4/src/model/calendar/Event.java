@@ -19,6 +19,8 @@ public class Event implements IEvent {
   private Location location;
   private Status status;
   private LocalDateTime seriesKey;
+  // the fields handed to shared copies, made when first asked for and dropped when one changes
+  private EventDetails shared;
 
   /**
    * constructor that always takes in subject and start date while setting everything else to their
@@ -94,6 +96,7 @@ public class Event implements IEvent {
   @Override
   public void setSubject(String subject) {
     this.subject = subject;
+    this.shared = null;
   }
 
   @Override
@@ -109,16 +112,29 @@ public class Event implements IEvent {
   @Override
   public void setDesc(String desc) {
     this.desc = desc;
+    this.shared = null;
   }
 
   @Override
   public void setLocation(Location location) {
     this.location = location;
+    this.shared = null;
   }
 
   @Override
   public void setStatus(Status status) {
     this.status = status;
+    this.shared = null;
+  }
+
+  //gets the fields of the event other than its times, the same details until one of them changes
+  EventDetails sharedDetails() {
+    EventDetails details = this.shared;
+    if (details == null) {
+      details = new EventDetails(subject, desc, location, status);
+      this.shared = details;
+    }
+    return details;
   }
 
   /**
@@ -193,21 +209,27 @@ public class Event implements IEvent {
 
   @Override
   public boolean equals(Object o) {
-    if (!(o instanceof Event)) {
-      return false;
-    }
-    Event event = (Event) o;
-
-    return subject.equals(event.subject)
-            && start.equals(event.start)
-            && end.equals(event.end)
-            && desc.equals(event.desc)
-            && location == event.location
-            && status == event.status;
+    // a shared copy with the same fields is equal too, see SharedEvent
+    return o instanceof IEvent && sameFields(this, (IEvent) o);
   }
 
   @Override
   public int hashCode() {
-    return java.util.Objects.hash(subject, start, end);
+    return hashFields(this);
+  }
+
+  //checks if two events have the same fields, whatever kind of event they are
+  static boolean sameFields(IEvent a, IEvent b) {
+    return a.getSubject().equals(b.getSubject())
+            && a.getStart().equals(b.getStart())
+            && a.getEnd().equals(b.getEnd())
+            && a.getDesc().equals(b.getDesc())
+            && a.getLocation() == b.getLocation()
+            && a.getStatus() == b.getStatus();
+  }
+
+  //hashes the fields of an event the same way for every kind of event
+  static int hashFields(IEvent e) {
+    return java.util.Objects.hash(e.getSubject(), e.getStart(), e.getEnd());
   }
 }
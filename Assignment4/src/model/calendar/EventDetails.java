@@ -0,0 +1,116 @@
+package model.calendar;
+
+import model.enums.Location;
+import model.enums.Status;
+
+/**
+ * The fields of an event other than its times, which can't be changed once made. Shared copies
+ * of an event all hold the same details, and a copy that edits one of these fields replaces its
+ * own details with a changed one, so the edit never shows in the event or in the other copies.
+ */
+public final class EventDetails {
+  private final String subject;
+  private final String desc;
+  private final Location location;
+  private final Status status;
+
+  /**
+   * Constructor for the details of an event.
+   * @param subject the subject
+   * @param desc the description
+   * @param location the location
+   * @param status the status
+   */
+  public EventDetails(String subject, String desc, Location location, Status status) {
+    this.subject = subject;
+    this.desc = desc;
+    this.location = location;
+    this.status = status;
+  }
+
+  /**
+   * Gets the details of an event as they are now, to be shared by copies of it. An event hands
+   * out the same details until one of these fields of it changes. The caller holds the lock of
+   * the event's calendar.
+   * @param event the event
+   * @return the details of the event
+   */
+  public static EventDetails of(IEvent event) {
+    if (event instanceof SharedEvent) {
+      return ((SharedEvent) event).getDetails();
+    }
+    if (event instanceof Event) {
+      return ((Event) event).sharedDetails();
+    }
+    return new EventDetails(event.getSubject(), event.getDesc(), event.getLocation(),
+            event.getStatus());
+  }
+
+  /**
+   * Gets the subject.
+   * @return the subject
+   */
+  public String getSubject() {
+    return subject;
+  }
+
+  /**
+   * Gets the description.
+   * @return the description
+   */
+  public String getDesc() {
+    return desc;
+  }
+
+  /**
+   * Gets the location.
+   * @return the location
+   */
+  public Location getLocation() {
+    return location;
+  }
+
+  /**
+   * Gets the status.
+   * @return the status
+   */
+  public Status getStatus() {
+    return status;
+  }
+
+  /**
+   * Gets these details with another subject.
+   * @param subject the new subject
+   * @return the changed details
+   */
+  public EventDetails withSubject(String subject) {
+    return new EventDetails(subject, desc, location, status);
+  }
+
+  /**
+   * Gets these details with another description.
+   * @param desc the new description
+   * @return the changed details
+   */
+  public EventDetails withDesc(String desc) {
+    return new EventDetails(subject, desc, location, status);
+  }
+
+  /**
+   * Gets these details with another location.
+   * @param location the new location
+   * @return the changed details
+   */
+  public EventDetails withLocation(Location location) {
+    return new EventDetails(subject, desc, location, status);
+  }
+
+  /**
+   * Gets these details with another status.
+   * @param status the new status
+   * @return the changed details
+   */
+  public EventDetails withStatus(Status status) {
+    return new EventDetails(subject, desc, location, status);
+  }
+}
@@ -71,6 +71,30 @@ public interface ICalendar {
    */
   void editSeries(PropertyType property, String subject, LocalDateTime startTime, String value);
 
+  /**
+   * Deletes a single event that has the given subject, start time and end time.
+   * @param subject the subject of the event
+   * @param startTime the start time of the event
+   * @param endTime the end time of the event
+   */
+  void deleteEvent(String subject, LocalDateTime startTime, LocalDateTime endTime);
+
+  /**
+   * Deletes the events in a series starting at a specific date. If the event is not part of a
+   * series, only that event is deleted.
+   * @param subject the subject of the event
+   * @param startTime the starting time that the user wants to start deleting from
+   */
+  void deleteEvents(String subject, LocalDateTime startTime);
+
+  /**
+   * Deletes every event of the series that the identified event belongs to. If the event is not
+   * part of a series, only that event is deleted.
+   * @param subject the subject of the event
+   * @param startTime the start time of an event in the series
+   */
+  void deleteSeries(String subject, LocalDateTime startTime);
+
   /**
    * returns a string of all the events in the given day.
    * @param day the given day
@@ -99,9 +123,38 @@ public interface ICalendar {
    */
   Map<LocalDate, List<IEvent>> getCalendar();
 
+  /**
+   * Gets the lock that guards the events of this calendar. The methods of the calendar take it
+   * themselves; code that reads the maps from getCalendar or getSeries while other threads use
+   * the calendar holds its read lock, and code that needs several calendars at once takes their
+   * locks through CalendarLock.lockInOrder.
+   * @return the lock of the calendar
+   */
+  CalendarLock getLock();
+
   /**
    * returns the map of the events that are in series.
    * @return the map of the events that are in series
    */
-  Map<LocalDateTime, List<IEvent>> getSeries();
+  Map<SeriesKey, List<IEvent>> getSeries();
+
+  /**
+   * Gets the events of the series made at the given start time. If several series start then,
+   * this is the one that was in the calendar first.
+   * @param startTime the start time of the series
+   * @return the events of the series, or null if no series starts then
+   */
+  List<IEvent> getSeriesAt(LocalDateTime startTime);
+
+  /**
+   * Subscribes a listener to every change made to the events of this calendar.
+   * @param listener the listener to be notified
+   */
+  void addListener(ICalendarListener listener);
+
+  /**
+   * Unsubscribes a listener from this calendar.
+   * @param listener the listener to stop notifying
+   */
+  void removeListener(ICalendarListener listener);
 }
@@ -0,0 +1,15 @@
+package model.calendar;
+
+/**
+ * Listener that is notified whenever an event in a calendar is added, removed, moved or has one
+ * of its fields changed. Listeners are called on the thread that made the change, after the
+ * change has been applied.
+ */
+public interface ICalendarListener {
+
+  /**
+   * Called after a change has been applied to a calendar.
+   * @param change the change that was made
+   */
+  void calendarChanged(CalendarChange change);
+}
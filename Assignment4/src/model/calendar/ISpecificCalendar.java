@@ -2,6 +2,7 @@ package model.calendar;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.List;
 import java.util.Map;
 
 import model.enums.Location;
@@ -25,6 +26,40 @@ public interface ISpecificCalendar extends ICalendar {
   void fullCreate(String subject, LocalDateTime startDate, LocalDateTime endDate, String desc,
                   Location location, Status status);
 
+  /**
+   * Adds an already built event to the day of its start time and to the series with the given key
+   * without checking for duplicates. Used when copying an event that belongs to a series.
+   * @param event the event to add
+   * @param seriesKey the key of the series in this calendar that the event belongs to
+   */
+  void addSeriesCopy(IEvent event, SeriesKey seriesKey);
+
+  /**
+   * Adds already built events in one batch. Events without a series key are checked for
+   * duplicates against this calendar and each other before any event is added, and are added to
+   * every day they span. Events with a series key are added like addSeriesCopy.
+   * @param events the events to add
+   * @param seriesKeys the series key of each event, or null for an event that isn't in a series
+   */
+  void addCopies(List<IEvent> events, List<SeriesKey> seriesKeys);
+
+  /**
+   * Moves events of this calendar to another calendar without copying them. Every event is
+   * checked against the target at its new times before any of them moves, then each one leaves
+   * its days and series here, gets its new times and is put into the target, so the two
+   * calendars never both have it.
+   * @param events the events to move, which must be in this calendar
+   * @param target the calendar to move them to
+   * @param starts the start time of each event in the target
+   * @param ends the end time of each event in the target
+   * @param seriesKeys the series key of each event in the target, or null for an event that
+   *                   isn't in a series
+   * @throws IllegalArgumentException if the target already has one of the events, or the events
+   *                                  can't be moved to it
+   */
+  void moveTo(List<IEvent> events, ISpecificCalendar target, List<LocalDateTime> starts,
+              List<LocalDateTime> ends, List<SeriesKey> seriesKeys);
+
   /**
    * Gets the name of the specific calendar.
    * @return the String name
@@ -38,10 +73,11 @@ public interface ISpecificCalendar extends ICalendar {
   ZoneId getTimeZone();
 
   /**
-   * Gets the corresponding key of the target calendar to the current calendar's series.
-   * @return the corresponding key
+   * Gets the series of this calendar that each series of another calendar was copied into, keyed
+   * by the series that was copied.
+   * @return the key of the copy of each series that was copied here
    */
-  Map<LocalDateTime, LocalDateTime> getOldToNewSeries();
+  Map<SeriesKey, SeriesKey> getOldToNewSeries();
 
   /**
    * sets the name field to a new name.
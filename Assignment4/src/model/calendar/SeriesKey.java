@@ -0,0 +1,37 @@
+package model.calendar;
+
+import java.time.LocalDateTime;
+
+/**
+ * The identity of a series of events in a calendar. A series is still known by the start time it
+ * was made at, but every series has its own key, so two series that start at the same time, such
+ * as a copied series landing where the target already has one, are never merged or mistaken for
+ * each other. A key is only equal to itself.
+ */
+public final class SeriesKey {
+  private final LocalDateTime start;
+
+  /**
+   * Constructor for the key of a new series.
+   * @param start the start time the series is made at
+   */
+  public SeriesKey(LocalDateTime start) {
+    if (start == null) {
+      throw new IllegalArgumentException("Series start time cannot be null");
+    }
+    this.start = start;
+  }
+
+  /**
+   * Gets the start time the series was made at.
+   * @return the start time of the series
+   */
+  public LocalDateTime getStart() {
+    return start;
+  }
+
+  @Override
+  public String toString() {
+    return start.toString();
+  }
+}
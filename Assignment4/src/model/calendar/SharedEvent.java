@@ -0,0 +1,118 @@
+package model.calendar;
+
+import java.time.LocalDateTime;
+
+import model.enums.Location;
+import model.enums.Status;
+
+/**
+ * An event copied from another calendar that holds the fields of the event it was copied from
+ * in one {@link EventDetails} shared with the other copies of that event, instead of holding
+ * copies of them. Only its times are its own. The details are taken when the copy is made, so
+ * later edits to the source don't show in the copy, and an edit to the copy replaces its details
+ * with changed ones, so it doesn't show in the source or in other copies.
+ *
+ * <p>A shared copy is otherwise an event like any other: it equals any event with the same
+ * fields, so duplicates are found the same way, and its edits are checked and recorded by its own
+ * calendar.</p>
+ */
+public class SharedEvent implements IEvent {
+  private EventDetails details;
+  private LocalDateTime start;
+  private LocalDateTime end;
+
+  /**
+   * Constructor for a shared copy of an event.
+   * @param details the fields of the event that was copied
+   * @param start the start time of the copy
+   * @param end the end time of the copy
+   */
+  public SharedEvent(EventDetails details, LocalDateTime start, LocalDateTime end) {
+    this.details = details;
+    this.start = start;
+    this.end = end;
+  }
+
+  /**
+   * Gets the details the copy holds, which it shares with other copies until it is edited.
+   * @return the details
+   */
+  public EventDetails getDetails() {
+    return this.details;
+  }
+
+  @Override
+  public String getSubject() {
+    return details.getSubject();
+  }
+
+  @Override
+  public LocalDateTime getStart() {
+    return start;
+  }
+
+  @Override
+  public LocalDateTime getEnd() {
+    return end;
+  }
+
+  @Override
+  public String getDesc() {
+    return details.getDesc();
+  }
+
+  @Override
+  public Location getLocation() {
+    return details.getLocation();
+  }
+
+  @Override
+  public Status getStatus() {
+    return details.getStatus();
+  }
+
+  @Override
+  public LocalDateTime getSeriesKey() {
+    return null;
+  }
+
+  @Override
+  public void setSubject(String subject) {
+    this.details = details.withSubject(subject);
+  }
+
+  @Override
+  public void setStart(LocalDateTime start) {
+    this.start = start;
+  }
+
+  @Override
+  public void setEnd(LocalDateTime end) {
+    this.end = end;
+  }
+
+  @Override
+  public void setDesc(String desc) {
+    this.details = details.withDesc(desc);
+  }
+
+  @Override
+  public void setLocation(Location location) {
+    this.details = details.withLocation(location);
+  }
+
+  @Override
+  public void setStatus(Status status) {
+    this.details = details.withStatus(status);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof IEvent && Event.sameFields(this, (IEvent) o);
+  }
+
+  @Override
+  public int hashCode() {
+    return Event.hashFields(this);
+  }
+}
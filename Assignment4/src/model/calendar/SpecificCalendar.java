@@ -2,8 +2,15 @@ package model.calendar;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
 
 import model.enums.Location;
 import model.enums.Status;
@@ -14,9 +21,9 @@ import model.enums.Status;
  * additional methods and fields unique to itself.
  */
 public class SpecificCalendar extends Calendar implements ISpecificCalendar {
-  private String name;
-  private ZoneId timeZone;
-  private Map<LocalDateTime, LocalDateTime> oldToNewSeries;
+  private volatile String name;
+  private volatile ZoneId timeZone;
+  private Map<SeriesKey, SeriesKey> oldToNewSeries;
 
   /**
    * Constructor of a specific calendar that takes in a name and timezone.
@@ -34,9 +41,96 @@ public class SpecificCalendar extends Calendar implements ISpecificCalendar {
   @Override
   public void fullCreate(String subject, LocalDateTime startDate, LocalDateTime endDate,
                          String desc, Location location, Status status) {
-    Event event = new Event.EventBuilder(subject, startDate).end(endDate).desc(desc).
-            location(location).status(status).build();
-    addEventHelper(event, startDate);
+    getLock().writeLock().lock();
+    try {
+      Event event = new Event.EventBuilder(subject, startDate).end(endDate).desc(desc).
+              location(location).status(status).build();
+      addEventHelper(event, startDate);
+    } finally {
+      getLock().writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void addSeriesCopy(IEvent event, SeriesKey seriesKey) {
+    getLock().writeLock().lock();
+    try {
+      getCalendar().computeIfAbsent(event.getStart().toLocalDate(), k ->
+              new ArrayList<>()).add(event);
+      addToSeries(seriesList(seriesKey), seriesKey, event);
+      fireAdded(event, seriesKey);
+    } finally {
+      getLock().writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void addCopies(List<IEvent> events, List<SeriesKey> seriesKeys) {
+    getLock().writeLock().lock();
+    try {
+      // check every event that isn't in a series before adding any of them
+      Set<IEvent> singles = new HashSet<>();
+      for (int i = 0; i < events.size(); i++) {
+        if (seriesKeys.get(i) == null) {
+          IEvent event = events.get(i);
+          checkNotDuplicate(event);
+          if (!singles.add(event)) {
+            throw new IllegalArgumentException("Event already exists");
+          }
+        }
+      }
+
+      // each series list is looked up once, however many of its events are copied
+      Map<SeriesKey, List<IEvent>> seriesLists = new HashMap<>();
+      for (int i = 0; i < events.size(); i++) {
+        IEvent event = events.get(i);
+        SeriesKey seriesKey = seriesKeys.get(i);
+        if (seriesKey == null) {
+          attach(event, null);
+        } else {
+          List<IEvent> seriesList = seriesLists.get(seriesKey);
+          if (seriesList == null) {
+            seriesList = seriesList(seriesKey);
+            seriesLists.put(seriesKey, seriesList);
+          }
+          getCalendar().computeIfAbsent(event.getStart().toLocalDate(), k ->
+                  new ArrayList<>()).add(event);
+          addToSeries(seriesList, seriesKey, event);
+        }
+        fireAdded(event, seriesKey);
+      }
+    } finally {
+      getLock().writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void moveTo(List<IEvent> events, ISpecificCalendar target, List<LocalDateTime> starts,
+                     List<LocalDateTime> ends, List<SeriesKey> seriesKeys) {
+    if (target == this || !(target instanceof SpecificCalendar)) {
+      throw new IllegalArgumentException("Cannot move events to calendar " + target.getName());
+    }
+    SpecificCalendar to = (SpecificCalendar) target;
+    List<Lock> locks = CalendarLock.lockInOrder(Collections.emptyList(),
+            Arrays.asList(getLock(), to.getLock()));
+    try {
+      for (int i = 0; i < events.size(); i++) {
+        to.checkNotDuplicate(events.get(i), starts.get(i), ends.get(i));
+      }
+
+      for (IEvent event : events) {
+        deleteHelper(event, findSeriesKey(event));
+      }
+      for (int i = 0; i < events.size(); i++) {
+        IEvent event = events.get(i);
+        event.setStart(starts.get(i));
+        event.setEnd(ends.get(i));
+        to.attach(event, seriesKeys.get(i));
+        to.fireAdded(event, seriesKeys.get(i));
+      }
+    } finally {
+      CalendarLock.unlockAll(locks);
+    }
   }
 
   @Override
@@ -50,7 +144,7 @@ public class SpecificCalendar extends Calendar implements ISpecificCalendar {
   }
 
   @Override
-  public Map<LocalDateTime, LocalDateTime> getOldToNewSeries() {
+  public Map<SeriesKey, SeriesKey> getOldToNewSeries() {
     return this.oldToNewSeries;
   }
 
@@ -61,6 +155,11 @@ public class SpecificCalendar extends Calendar implements ISpecificCalendar {
 
   @Override
   public void setTimeZone(ZoneId timeZone) {
-    this.timeZone = timeZone;
+    getLock().writeLock().lock();
+    try {
+      this.timeZone = timeZone;
+    } finally {
+      getLock().writeLock().unlock();
+    }
   }
 }
@@ -0,0 +1,8 @@
+package model.enums;
+
+/**
+ * The kinds of changes a calendar can report to its listeners.
+ */
+public enum ChangeType {
+  ADDED, REMOVED, MOVED, FIELD_CHANGED;
+}
@@ -0,0 +1,10 @@
+package model.enums;
+
+/**
+ * How events are copied into another calendar, either as full copies of their own or as shared
+ * events that hold only their times and share the rest of their fields with the event they were
+ * copied from until they are edited.
+ */
+public enum CopyMode {
+  DEEP, SHARED;
+}
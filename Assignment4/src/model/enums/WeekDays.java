@@ -1,5 +1,7 @@
 package model.enums;
 
+import java.util.List;
+
 /**
  * The weekdays enum that are the days of the week with their specific abbreviation and
  * corresponding day number.
@@ -35,14 +37,48 @@ public enum WeekDays {
   /**
    * Static method that takes in an abbreviation and returns the corresponding day number.
    * @param abbreviation the weekday abbreviation
-   * @return the corresponding day number
+   * @return the corresponding day number, or -1 if it isn't an abbreviation
    */
   public static int getDay(String abbreviation) {
-    for (WeekDays day : WeekDays.values()) {
-      if (day.getAbbreviation().equalsIgnoreCase(abbreviation)) {
-        return day.getDayNum();
+    if (abbreviation == null || abbreviation.length() != 1) {
+      return -1;
+    }
+    switch (Character.toUpperCase(abbreviation.charAt(0))) {
+      case 'M': return 1;
+      case 'T': return 2;
+      case 'W': return 3;
+      case 'R': return 4;
+      case 'F': return 5;
+      case 'S': return 6;
+      case 'U': return 7;
+      default: return -1;
+    }
+  }
+
+  /**
+   * Turns weekday abbreviations into a 7-bit mask where bit (dayNum - 1) is set for every day.
+   * @param abbreviations the weekday abbreviations
+   * @return the weekday mask
+   */
+  public static int toMask(List<String> abbreviations) {
+    int mask = 0;
+    for (String abbreviation : abbreviations) {
+      int dayNum = getDay(abbreviation);
+      if (dayNum == -1) {
+        throw new IllegalArgumentException("Invalid weekday abbreviation: " + abbreviation);
       }
+      mask |= 1 << (dayNum - 1);
     }
-    return -1;
+    return mask;
+  }
+
+  /**
+   * Checks if the day with the given day number is set in a weekday mask.
+   * @param mask the weekday mask
+   * @param dayNum the day number, 1 for Monday through 7 for Sunday
+   * @return true or false
+   */
+  public static boolean inMask(int mask, int dayNum) {
+    return (mask & (1 << (dayNum - 1))) != 0;
   }
 }
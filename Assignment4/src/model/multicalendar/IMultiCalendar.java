@@ -1,12 +1,16 @@
 package model.multicalendar;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
 
 
+import model.calendar.ICalendar;
+import model.calendar.ICalendarListener;
 import model.calendar.ISpecificCalendar;
+import model.enums.CopyMode;
 
 /**
  * interface that represents a multitude of calendars that can be accessed and edited. Each calendar
@@ -54,26 +58,107 @@ public interface IMultiCalendar {
    */
   void copyEvents(LocalDate date, String calendarName, LocalDate targetDate);
 
+  /**
+   * Copies all events from the specified date to the new calendar and new date, either as full
+   * copies or as shared events that share the fields of the events they were copied from.
+   * @param date the specified date
+   * @param calendarName the calendar
+   * @param targetDate the new date
+   * @param mode how the events are copied
+   */
+  void copyEvents(LocalDate date, String calendarName, LocalDate targetDate, CopyMode mode);
+
   /**
    * Similar to copyEvents, except it copies all events between a certain interval
-   * to the new calendar and new date.
+   * to the new calendar and new date. An event spanning several days of the interval is copied
+   * once, and either every event is copied or none are.
    * @param startDate the starting date to copy events
    * @param endDate the ending date to copy events
    * @param calendarName the calendar to make copies to
    * @param targetDate the new date
+   * @return the number of events copied
    */
-  void copyEventsInterval(LocalDate startDate, LocalDate endDate, String calendarName,
+  int copyEventsInterval(LocalDate startDate, LocalDate endDate, String calendarName,
                           LocalDate targetDate);
 
+  /**
+   * Copies all events between a certain interval to the new calendar and new date, either as
+   * full copies or as shared events that share the fields of the events they were copied from.
+   * Shared copies are smaller when the same schedule is copied many times.
+   * @param startDate the starting date to copy events
+   * @param endDate the ending date to copy events
+   * @param calendarName the calendar to make copies to
+   * @param targetDate the new date
+   * @param mode how the events are copied
+   * @return the number of events copied
+   */
+  int copyEventsInterval(LocalDate startDate, LocalDate endDate, String calendarName,
+                         LocalDate targetDate, CopyMode mode);
+
+  /**
+   * Moves every event on the days between two dates from the current calendar to another
+   * calendar. The events themselves move rather than copies of them: each one keeps its instant,
+   * with its times converted to the timezone of the target, and events of a series stay a series.
+   * Either every event is moved or none are.
+   * @param startDate the first day to move events from
+   * @param endDate the last day to move events from
+   * @param calendarName the calendar to move the events to
+   * @return the number of events moved
+   */
+  int moveEvents(LocalDate startDate, LocalDate endDate, String calendarName);
+
   /**
    * Gets the list of calendars.
    * @return a list of calendars
    */
   List<ISpecificCalendar> getCalendars();
 
+  /**
+   * Gets the calendar with the given name.
+   * @param name the name of the calendar
+   * @return the calendar, or null if there is no calendar with that name
+   */
+  ISpecificCalendar getCalendar(String name);
+
+  /**
+   * Makes a read-only calendar that shows the events of several calendars as one schedule. The
+   * overlay isn't added to the list of calendars and always shows the members as they are.
+   * @param name the name of the overlay
+   * @param timezone the timezone the overlay shows its events in
+   * @param memberNames the names of the calendars to show
+   * @return the overlay calendar
+   */
+  ISpecificCalendar overlay(String name, ZoneId timezone, List<String> memberNames);
+
   /**
    * returns the calendar currently in use.
    * @return the SpecificCalendar
    */
   ISpecificCalendar getCurrent();
+
+  /**
+   * Subscribes a listener to the changes of every calendar, including calendars added later.
+   * @param listener the listener to be notified
+   */
+  void addListener(ICalendarListener listener);
+
+  /**
+   * Undoes the latest version, which is everything one command changed under its locks.
+   * @return true if something was undone
+   */
+  boolean undo();
+
+  /**
+   * Redoes the version that was undone last.
+   * @return true if something was redone
+   */
+  boolean redo();
+
+  /**
+   * Gets a read-only view of a calendar as it was at the given time.
+   * @param name the name of the calendar
+   * @param time the time to look at
+   * @return the calendar as it was at that time
+   */
+  ICalendar viewAsOf(String name, Instant time);
 }
@@ -1,67 +1,107 @@
 package model.multicalendar;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.locks.Lock;
 
 
+import model.calendar.CalendarHistory;
+import model.calendar.CalendarLock;
 import model.calendar.Event;
+import model.calendar.EventDetails;
+import model.calendar.ICalendar;
+import model.calendar.ICalendarListener;
 import model.calendar.IEvent;
 import model.calendar.ISpecificCalendar;
+import model.calendar.SeriesKey;
+import model.calendar.SharedEvent;
 import model.calendar.SpecificCalendar;
+import model.enums.CopyMode;
 import model.enums.Location;
 import model.enums.Status;
 
 /**
  * The class that represents multiple unique calendars and its ability to access each calendar as
- * well as the events that come with it.
+ * well as the events that come with it. It can be shared between threads: adding and renaming
+ * calendars is serialized, while each calendar has its own lock, so commands on different
+ * calendars run at the same time and only contend when they use the same calendar.
  */
 public class MultiCalendar implements IMultiCalendar {
+  // ranges with fewer events than this are copied on the calling thread
+  private static final int PARALLEL_COPY_THRESHOLD = 4096;
+  // the number of events each parallel copy task builds on its own
+  private static final int COPY_CHUNK_SIZE = 1024;
+
   private List<ISpecificCalendar> calendars;
-  private ISpecificCalendar current;
+  // the same calendars as the list, by name, which also guards adding and renaming calendars
+  private final Map<String, ISpecificCalendar> byName;
+  private volatile ISpecificCalendar current;
+  private final List<ICalendarListener> listeners;
+  private final CalendarHistory history;
 
   /**
    * Constructs a multi calendar with an empty list of calendars.
    */
   public MultiCalendar() {
-    calendars = new ArrayList<>();
+    this(new CalendarHistory());
+  }
+
+  /**
+   * Constructs a multi calendar with an empty list of calendars that keeps its versions in the
+   * given history.
+   * @param history the history to keep versions in
+   */
+  public MultiCalendar(CalendarHistory history) {
+    calendars = new CopyOnWriteArrayList<>();
+    byName = new ConcurrentHashMap<>();
+    listeners = new CopyOnWriteArrayList<>();
+    this.history = history;
+    addListener(history);
   }
 
   @Override
   public void addCalendar(String name, ZoneId timezone) {
-    // check if this calendar already exists
-    for (ISpecificCalendar cal: calendars) {
-      if (cal.getName().equals(name)) {
+    synchronized (byName) {
+      // check if this calendar already exists
+      if (byName.containsKey(name)) {
         throw new IllegalArgumentException("Calendar with name " + name + " already exists.");
       }
-    }
 
-    // throw if timezone isn't valid
-    try {
-      ZoneId.of(timezone.getId());
-    } catch (Exception e) {
-      throw new IllegalArgumentException("Invalid timezone: " + timezone);
-    }
+      // throw if timezone isn't valid
+      try {
+        ZoneId.of(timezone.getId());
+      } catch (Exception e) {
+        throw new IllegalArgumentException("Invalid timezone: " + timezone);
+      }
 
-    SpecificCalendar calendar = new SpecificCalendar(name, timezone);
-    this.calendars.add(calendar);
+      SpecificCalendar calendar = new SpecificCalendar(name, timezone);
+      for (ICalendarListener listener : listeners) {
+        calendar.addListener(listener);
+      }
+      this.calendars.add(calendar);
+      this.byName.put(name, calendar);
+    }
   }
 
   @Override
   public void editCalendar(String name, String property, String value) {
-    ISpecificCalendar found = null;
-    // find the calendar
-    for (ISpecificCalendar calendar : calendars) {
-      if (calendar.getName().equals(name)) {
-        found = calendar;
-        break;
-      }
-    }
+    ISpecificCalendar found = byName.get(name);
     // throw if it doesn't exist
     if (found == null) {
       throw new IllegalArgumentException("Calendar " + name + " not found.");
@@ -74,12 +114,17 @@ public class MultiCalendar implements IMultiCalendar {
           break;
         }
 
-        for (ISpecificCalendar cal : calendars) {
-          if (!cal.equals(found) && cal.getName().equals(value)) {
-            throw new IllegalArgumentException("Calendar with name " + value + " already exists.");
+        synchronized (byName) {
+          if (byName.containsKey(value)) {
+            throw new IllegalArgumentException("Calendar with name " + value
+                    + " already exists.");
           }
+          if (!byName.remove(name, found)) {
+            throw new IllegalArgumentException("Calendar " + name + " not found.");
+          }
+          found.setName(value);
+          byName.put(value, found);
         }
-        found.setName(value);
         break;
       case "timezone":
         try {
@@ -95,55 +140,71 @@ public class MultiCalendar implements IMultiCalendar {
 
   @Override
   public void useCalendar(String name) {
-    for (ISpecificCalendar calendar : calendars) {
-      if (calendar.getName().equals(name)) {
-        this.current = calendar;
-        return;
-      }
+    ISpecificCalendar calendar = byName.get(name);
+    if (calendar == null) {
+      throw new IllegalArgumentException("Calendar " + name + " not found");
     }
-    throw new IllegalArgumentException("Calendar " + name + " not found");
+    this.current = calendar;
   }
 
   @Override
   public void copyEvent(String eventName, LocalDateTime date, String calendarName,
                         LocalDateTime targetDate) {
+    isCalendarChosen();
+    List<Lock> locks = lockForCopy(this.current, byName.get(calendarName));
+    try {
+      copyEventLocked(eventName, date, calendarName, targetDate);
+    } finally {
+      CalendarLock.unlockAll(locks);
+    }
+  }
+
+  //takes the read lock of the calendar copied from and the write lock of the one copied to
+  private static List<Lock> lockForCopy(ISpecificCalendar source, ISpecificCalendar target) {
+    List<CalendarLock> writes = target == null ? Collections.emptyList()
+            : Collections.singletonList(target.getLock());
+    return CalendarLock.lockInOrder(Collections.singletonList(source.getLock()), writes);
+  }
+
+  //copies one event while holding the locks of both calendars
+  private void copyEventLocked(String eventName, LocalDateTime date, String calendarName,
+                               LocalDateTime targetDate) {
     IEvent event = getEventFromCurrent(eventName, date);
     LocalDateTime endTime = event.getEnd();
     String desc = event.getDesc();
     Location location = event.getLocation();
     Status status = event.getStatus();
 
-    ISpecificCalendar targetCalendar = null;
-    for (ISpecificCalendar calendar : calendars) {
-      if (calendar.getName().equals(calendarName)) {
-        targetCalendar = calendar;
-      }
-    }
-
+    ISpecificCalendar targetCalendar = byName.get(calendarName);
     if (targetCalendar == null) {
       throw new IllegalArgumentException("No target calendar found");
     }
 
-    long betweenDays = ChronoUnit.DAYS.between(date, targetDate);
-    long betweenMinutes = ChronoUnit.MINUTES.between(date.toLocalTime(),
-            targetDate.toLocalTime());
-    LocalDateTime newEndTime = endTime.plusDays(betweenDays).plusMinutes(betweenMinutes);
+    LocalDateTime newEndTime = shiftEnd(endTime, date, targetDate);
 
-    LocalDateTime originalSeriesKey = inSeries(eventName, date);
+    SeriesKey originalSeriesKey = inSeries(eventName, date);
     if (originalSeriesKey != null) {
       // If the event is part of a series then we should ONLY add to the series mechanism
       // and not create a single event to prevent bugs via duplication
       Event eventInSeries = new Event.EventBuilder(eventName, targetDate).end(newEndTime).
               desc(desc).location(location).status(status).build();
-      putIntoSeries(originalSeriesKey, eventInSeries, targetCalendar);
-      targetCalendar.getCalendar().computeIfAbsent(targetDate.toLocalDate(), k ->
-              new ArrayList<>()).add(eventInSeries);
+      SeriesKey seriesKey = findSeriesKey(originalSeriesKey, eventInSeries, targetCalendar);
+      targetCalendar.addSeriesCopy(eventInSeries, seriesKey);
     } else {
       // only create singl event if NOT part of series
       targetCalendar.fullCreate(eventName, targetDate, newEndTime, desc, location, status);
     }
   }
 
+  //moves the end time of an event by the days and minutes between its start and the target
+  private static LocalDateTime shiftEnd(LocalDateTime endTime, LocalDateTime date,
+                                        LocalDateTime targetDate) {
+    long betweenDays = ChronoUnit.DAYS.between(date, targetDate);
+    long betweenMinutes = ChronoUnit.MINUTES.between(date.toLocalTime(),
+            targetDate.toLocalTime());
+    return endTime.plusDays(betweenDays).plusMinutes(betweenMinutes);
+  }
+
   //gets the event from the current calendar
   private IEvent getEventFromCurrent(String eventName, LocalDateTime date) {
     isCalendarChosen();
@@ -173,10 +234,10 @@ public class MultiCalendar implements IMultiCalendar {
   }
 
   //checks whether an event is in a series
-  private LocalDateTime inSeries(String eventName, LocalDateTime date) {
+  private SeriesKey inSeries(String eventName, LocalDateTime date) {
     isCalendarChosen();
     ISpecificCalendar currentCalendar = this.current;
-    for (Map.Entry<LocalDateTime, List<IEvent>> series : currentCalendar.getSeries().entrySet()) {
+    for (Map.Entry<SeriesKey, List<IEvent>> series : currentCalendar.getSeries().entrySet()) {
       for (IEvent event : series.getValue()) {
         if (event.getSubject().equals(eventName) && event.getStart().equals(date)) {
           return series.getKey();
@@ -186,29 +247,19 @@ public class MultiCalendar implements IMultiCalendar {
     return null;
   }
 
-  //Checks if there's a corresponding key to the original key for the series, and if so, add the
-  //event to the existing series for the target calendar. Otherwise, create that new series with
-  //this event startTime as the key.
-  private void putIntoSeries(LocalDateTime originalSeriesKey, IEvent event,
-                             ISpecificCalendar targetCalendar) {
+  //Checks if there's a corresponding key to the original key for the series, and if so, the
+  //event goes into that existing series of the target calendar. Otherwise, a new series is
+  //started at this event's startTime.
+  private SeriesKey findSeriesKey(SeriesKey originalSeriesKey, IEvent event,
+                                  ISpecificCalendar targetCalendar) {
     if (targetCalendar.getOldToNewSeries().containsKey(originalSeriesKey)) {
-      LocalDateTime newKey = targetCalendar.getOldToNewSeries().get(originalSeriesKey);
-      // check if series exists in the target calendar
-      if (!targetCalendar.getSeries().containsKey(newKey)) {
-        targetCalendar.getSeries().put(newKey, new ArrayList<>());
-      }
-      targetCalendar.getSeries().get(newKey).add(event);
-    } else {
-      // For a new series being copied, we need to determine the correct key
-      // The key should be the start time of the very first event in the copied series
-      // And since we're copying in order the first event copied will establish the key
-      LocalDateTime seriesKey = event.getStart();
-      targetCalendar.getOldToNewSeries().put(originalSeriesKey, seriesKey);
-
-      List<IEvent> newSeries = new ArrayList<>();
-      newSeries.add(event);
-      targetCalendar.getSeries().put(seriesKey, newSeries);
+      return targetCalendar.getOldToNewSeries().get(originalSeriesKey);
     }
+    // For a new series being copied, the very first event copied sets the start of the series,
+    // and the series gets its own key even if the target already has a series starting then
+    SeriesKey seriesKey = new SeriesKey(event.getStart());
+    targetCalendar.getOldToNewSeries().put(originalSeriesKey, seriesKey);
+    return seriesKey;
   }
 
   //checks whether a calendar is chosen or being used
@@ -222,79 +273,326 @@ public class MultiCalendar implements IMultiCalendar {
 
   @Override
   public void copyEvents(LocalDate date, String calendarName, LocalDate targetDate) {
-    isCalendarChosen();
-    copyEventsHelper(date, calendarName, targetDate);
+    copyEvents(date, calendarName, targetDate, CopyMode.DEEP);
+  }
+
+  @Override
+  public void copyEvents(LocalDate date, String calendarName, LocalDate targetDate,
+                         CopyMode mode) {
+    copyEventsInterval(date, date, calendarName, targetDate, mode);
   }
 
 
   @Override
-  public void copyEventsInterval(LocalDate startDate, LocalDate endDate, String calendarName,
-                                 LocalDate targetDate) {
-    isCalendarChosen();
-    LocalDate currentSourceDate = startDate;
-    LocalDate currentTargetDate = targetDate;
+  public int copyEventsInterval(LocalDate startDate, LocalDate endDate, String calendarName,
+                                LocalDate targetDate) {
+    return copyEventsInterval(startDate, endDate, calendarName, targetDate, CopyMode.DEEP);
+  }
 
-    while (!currentSourceDate.isAfter(endDate)) {
-      copyEventsHelper(currentSourceDate, calendarName, currentTargetDate);
-      currentSourceDate = currentSourceDate.plusDays(1);
-      currentTargetDate = currentTargetDate.plusDays(1);
+  @Override
+  public int copyEventsInterval(LocalDate startDate, LocalDate endDate, String calendarName,
+                                LocalDate targetDate, CopyMode mode) {
+    isCalendarChosen();
+    ISpecificCalendar source = this.current;
+    List<Lock> locks = lockForCopy(source, byName.get(calendarName));
+    try {
+      return copyRange(source, startDate, endDate, calendarName, targetDate, mode);
+    } finally {
+      CalendarLock.unlockAll(locks);
     }
   }
 
-  //copies all events
-  private void copyEventsHelper(LocalDate date,
-                                String calendarName, LocalDate targetDate) {
-    List<IEvent> currentEvents = this.current.getCalendar().get(date);
+  //copies every event on the days from the start date to the end date so that the start date
+  //lands on the target date. The source days are read in one pass, events spanning several of
+  //them are copied once, and the copies are added to the target calendar together. The caller
+  //holds the locks of both calendars.
+  private int copyRange(ISpecificCalendar source, LocalDate startDate, LocalDate endDate,
+                        String calendarName, LocalDate targetDate, CopyMode mode) {
+    List<IEvent> sources = eventsBetween(source, startDate, endDate);
+    if (sources.isEmpty()) {
+      return 0;
+    }
 
-    // null check to prevent NullPointerException
-    if (currentEvents == null || currentEvents.isEmpty()) {
-      return;
+    // find target calendar and get its timezone
+    ISpecificCalendar targetCalendar = byName.get(calendarName);
+    if (targetCalendar == null) {
+      throw new IllegalArgumentException("Target calendar not found: " + calendarName);
+    }
+    ZoneId currentZoneID = source.getTimeZone();
+    ZoneId targetZoneID = targetCalendar.getTimeZone();
+    long dayOffset = ChronoUnit.DAYS.between(startDate, targetDate);
+
+    Map<IEvent, SeriesKey> sourceSeries = seriesOf(source);
+
+    // build the copies, splitting large ranges into chunks built in parallel
+    IEvent[] built = new IEvent[sources.size()];
+    CopyTask task = new CopyTask(sources, built, 0, built.length,
+            ZoneConverter.of(currentZoneID, targetZoneID), dayOffset, mode == CopyMode.SHARED);
+    if (built.length < PARALLEL_COPY_THRESHOLD) {
+      task.compute();
+    } else {
+      ForkJoinPool.commonPool().invoke(task);
+    }
+    List<IEvent> copies = Arrays.asList(built);
+
+    // series keys are assigned in source order, so the first copied event of a series sets the
+    // start of the series in the target no matter how the copies were built
+    List<SeriesKey> seriesKeys = new ArrayList<>(sources.size());
+    Map<SeriesKey, SeriesKey> newSeries = new HashMap<>();
+    for (int i = 0; i < built.length; i++) {
+      SeriesKey originalSeriesKey = sourceSeries.get(sources.get(i));
+      SeriesKey seriesKey = null;
+      if (originalSeriesKey != null) {
+        seriesKey = targetCalendar.getOldToNewSeries().get(originalSeriesKey);
+        if (seriesKey == null) {
+          seriesKey = newSeries.get(originalSeriesKey);
+        }
+        if (seriesKey == null) {
+          seriesKey = new SeriesKey(built[i].getStart());
+          newSeries.put(originalSeriesKey, seriesKey);
+        }
+      }
+      seriesKeys.add(seriesKey);
     }
 
-    // get source and target timezones
-    ZoneId currentZoneID = this.current.getTimeZone();
-    ZoneId targetZoneID = null;
+    targetCalendar.addCopies(copies, seriesKeys);
+    targetCalendar.getOldToNewSeries().putAll(newSeries);
+    return copies.size();
+  }
 
-    // find target calendar and get its timezone
-    for (ISpecificCalendar calendar : calendars) {
-      if (calendar.getName().equals(calendarName)) {
-        targetZoneID = calendar.getTimeZone();
-        break;
+  //hands the target the copied series the source kept track of that were moved there whole, so
+  //later copies of their original series join them in the target rather than starting a series
+  //at a key the source no longer has. The caller holds the locks of both calendars.
+  private static void remapMovedSeries(ISpecificCalendar source, ISpecificCalendar target,
+                                       Map<SeriesKey, SeriesKey> newSeries) {
+    Iterator<Map.Entry<SeriesKey, SeriesKey>> it =
+            source.getOldToNewSeries().entrySet().iterator();
+    while (it.hasNext()) {
+      Map.Entry<SeriesKey, SeriesKey> entry = it.next();
+      SeriesKey moved = newSeries.get(entry.getValue());
+      if (moved != null && !source.getSeries().containsKey(entry.getValue())) {
+        target.getOldToNewSeries().putIfAbsent(entry.getKey(), moved);
+        it.remove();
       }
     }
+  }
 
-    if (targetZoneID == null) {
-      throw new IllegalArgumentException("Target calendar not found: " + calendarName);
+  //gets every event on the days from the start date to the end date, in the order of the days,
+  //with an event spanning several of them only once
+  private static List<IEvent> eventsBetween(ISpecificCalendar calendar, LocalDate startDate,
+                                            LocalDate endDate) {
+    Map<LocalDate, List<IEvent>> days = calendar.getCalendar();
+    Set<IEvent> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+    List<IEvent> found = new ArrayList<>();
+    for (LocalDate day = startDate; !day.isAfter(endDate); day = day.plusDays(1)) {
+      List<IEvent> events = days.get(day);
+      if (events != null) {
+        for (IEvent event : events) {
+          if (seen.add(event)) {
+            found.add(event);
+          }
+        }
+      }
     }
+    return found;
+  }
 
-    // copy each event with timezone conversion
-    for (IEvent event : currentEvents) {
-      String eventName = event.getSubject();
-      LocalDateTime eventDate = event.getStart();
+  //gets the key of the series every event in a series of the calendar belongs to, found with one
+  //pass over the series
+  private static Map<IEvent, SeriesKey> seriesOf(ISpecificCalendar calendar) {
+    Map<IEvent, SeriesKey> seriesKeys = new IdentityHashMap<>();
+    for (Map.Entry<SeriesKey, List<IEvent>> series : calendar.getSeries().entrySet()) {
+      for (IEvent event : series.getValue()) {
+        seriesKeys.put(event, series.getKey());
+      }
+    }
+    return seriesKeys;
+  }
+
+  /**
+   * Builds the copies of a slice of the source events into the same slice of an array, splitting
+   * slices larger than a chunk in half so that they can be built on different threads. Each copy
+   * only reads its own source event, so the result is the same as building them in order.
+   * Shared copies hold the details of their source instead of copying its fields.
+   */
+  private static class CopyTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+    private final List<IEvent> sources;
+    private final IEvent[] copies;
+    private final int from;
+    private final int to;
+    private final ZoneConverter converter;
+    private final long dayOffset;
+    private final boolean shared;
+
+    CopyTask(List<IEvent> sources, IEvent[] copies, int from, int to, ZoneConverter converter,
+             long dayOffset, boolean shared) {
+      this.sources = sources;
+      this.copies = copies;
+      this.from = from;
+      this.to = to;
+      this.converter = converter;
+      this.dayOffset = dayOffset;
+      this.shared = shared;
+    }
 
-      // convert the event time from source timezone to target timezone
-      ZonedDateTime sourceZonedTime = eventDate.atZone(currentZoneID);
-      ZonedDateTime targetZonedTime = sourceZonedTime.withZoneSameInstant(targetZoneID);
-      LocalDateTime convertedEventTime = targetZonedTime.toLocalDateTime();
+    @Override
+    protected void compute() {
+      if (to - from > COPY_CHUNK_SIZE) {
+        int mid = (from + to) >>> 1;
+        invokeAll(new CopyTask(sources, copies, from, mid, converter, dayOffset, shared),
+                new CopyTask(sources, copies, mid, to, converter, dayOffset, shared));
+        return;
+      }
+      for (int i = from; i < to; i++) {
+        // convert the event time from source timezone to target timezone, then apply the offset
+        IEvent event = sources.get(i);
+        LocalDateTime eventDate = event.getStart();
+        LocalDateTime targetDateTime = converter.convert(eventDate).plusDays(dayOffset);
+        LocalDateTime targetEnd = shiftEnd(event.getEnd(), eventDate, targetDateTime);
+        if (shared) {
+          copies[i] = new SharedEvent(EventDetails.of(event), targetDateTime, targetEnd);
+        } else {
+          copies[i] = new Event.EventBuilder(event.getSubject(), targetDateTime).end(targetEnd)
+                  .desc(event.getDesc()).location(event.getLocation())
+                  .status(event.getStatus()).build();
+        }
+      }
+    }
+  }
 
-      // calculate the day offset from the source date to the target date
-      long dayOffset = ChronoUnit.DAYS.between(date, targetDate);
+  @Override
+  public int moveEvents(LocalDate startDate, LocalDate endDate, String calendarName) {
+    isCalendarChosen();
+    ISpecificCalendar source = this.current;
+    ISpecificCalendar target = byName.get(calendarName);
+    if (target == null) {
+      throw new IllegalArgumentException("Target calendar not found: " + calendarName);
+    }
+    if (target == source) {
+      throw new IllegalArgumentException("Events are already in calendar " + calendarName);
+    }
+    List<Lock> locks = CalendarLock.lockInOrder(Collections.emptyList(),
+            Arrays.asList(source.getLock(), target.getLock()));
+    try {
+      List<IEvent> events = eventsBetween(source, startDate, endDate);
+      if (events.isEmpty()) {
+        return 0;
+      }
 
-      // apply the day offset to the converted time
-      LocalDateTime finalTargetDateTime = convertedEventTime.plusDays(dayOffset);
+      // the events keep their instants, so only their local times change with the timezone
+      ZoneConverter converter = ZoneConverter.of(source.getTimeZone(), target.getTimeZone());
+      Map<IEvent, SeriesKey> sourceSeries = seriesOf(source);
+      List<LocalDateTime> starts = new ArrayList<>(events.size());
+      List<LocalDateTime> ends = new ArrayList<>(events.size());
+      List<SeriesKey> seriesKeys = new ArrayList<>(events.size());
+      Map<SeriesKey, SeriesKey> newSeries = new HashMap<>();
+      for (IEvent event : events) {
+        LocalDateTime start = converter.convert(event.getStart());
+        starts.add(start);
+        ends.add(converter.convert(event.getEnd()));
+        SeriesKey originalSeriesKey = sourceSeries.get(event);
+        SeriesKey seriesKey = null;
+        if (originalSeriesKey != null) {
+          seriesKey = newSeries.get(originalSeriesKey);
+          if (seriesKey == null) {
+            seriesKey = new SeriesKey(start);
+            newSeries.put(originalSeriesKey, seriesKey);
+          }
+        }
+        seriesKeys.add(seriesKey);
+      }
 
-      // copy the event to the target calendar at the calculated time
-      copyEvent(eventName, eventDate, calendarName, finalTargetDateTime);
+      source.moveTo(events, target, starts, ends, seriesKeys);
+      remapMovedSeries(source, target, newSeries);
+      return events.size();
+    } finally {
+      CalendarLock.unlockAll(locks);
     }
   }
 
   @Override
   public List<ISpecificCalendar> getCalendars() {
-    return this.calendars;
+    return Collections.unmodifiableList(this.calendars);
+  }
+
+  @Override
+  public ISpecificCalendar getCalendar(String name) {
+    return this.byName.get(name);
+  }
+
+  @Override
+  public ISpecificCalendar overlay(String name, ZoneId timezone, List<String> memberNames) {
+    List<ISpecificCalendar> members = new ArrayList<>();
+    for (String memberName : memberNames) {
+      ISpecificCalendar member = byName.get(memberName);
+      if (member == null) {
+        throw new IllegalArgumentException("Calendar " + memberName + " not found");
+      }
+      members.add(member);
+    }
+    return new OverlayCalendar(name, timezone, members);
   }
 
   @Override
   public ISpecificCalendar getCurrent() {
     return this.current;
   }
+
+  @Override
+  public void addListener(ICalendarListener listener) {
+    synchronized (byName) {
+      this.listeners.add(listener);
+      for (ISpecificCalendar calendar : calendars) {
+        calendar.addListener(listener);
+      }
+    }
+  }
+
+  @Override
+  public boolean undo() {
+    List<Lock> locks = lockAll(true);
+    try {
+      return this.history.undo();
+    } finally {
+      CalendarLock.unlockAll(locks);
+    }
+  }
+
+  @Override
+  public boolean redo() {
+    List<Lock> locks = lockAll(true);
+    try {
+      return this.history.redo();
+    } finally {
+      CalendarLock.unlockAll(locks);
+    }
+  }
+
+  @Override
+  public ICalendar viewAsOf(String name, Instant time) {
+    ISpecificCalendar calendar = byName.get(name);
+    if (calendar == null) {
+      throw new IllegalArgumentException("Calendar " + name + " not found");
+    }
+    // while every calendar is read locked no change can reach the history
+    List<Lock> locks = lockAll(false);
+    try {
+      return this.history.viewAt(calendar, this.history.versionAt(time));
+    } finally {
+      CalendarLock.unlockAll(locks);
+    }
+  }
+
+  //takes the lock of every calendar, since a version can touch any of them
+  private List<Lock> lockAll(boolean write) {
+    List<CalendarLock> locks = new ArrayList<>();
+    for (ISpecificCalendar calendar : calendars) {
+      locks.add(calendar.getLock());
+    }
+    if (write) {
+      return CalendarLock.lockInOrder(Collections.emptyList(), locks);
+    }
+    return CalendarLock.lockInOrder(locks, Collections.emptyList());
+  }
 }
\ No newline at end of file
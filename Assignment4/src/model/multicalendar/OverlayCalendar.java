@@ -0,0 +1,418 @@
+package model.multicalendar;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import controller.parse.PropertyType;
+import model.calendar.CalendarLock;
+import model.calendar.Event;
+import model.calendar.EventDetails;
+import model.calendar.ICalendarListener;
+import model.calendar.IEvent;
+import model.calendar.ISpecificCalendar;
+import model.calendar.SeriesKey;
+import model.calendar.SharedEvent;
+import model.enums.Location;
+import model.enums.Status;
+
+/**
+ * A read-only calendar that shows the events of several member calendars as one schedule in its
+ * own timezone. Nothing is copied: every query reads the members' days as it runs, converts the
+ * times of their events to the overlay's timezone and merges the members in order of start time,
+ * so the overlay always shows the members as they are now.
+ */
+public class OverlayCalendar implements ISpecificCalendar {
+  private volatile String name;
+  private volatile ZoneId timeZone;
+  private final List<ISpecificCalendar> members;
+  private final CalendarLock lock = new CalendarLock();
+
+  /**
+   * Constructor for an overlay of several calendars.
+   * @param name the name of the overlay
+   * @param timeZone the timezone the overlay shows its events in
+   * @param members the calendars to show
+   */
+  public OverlayCalendar(String name, ZoneId timeZone, List<ISpecificCalendar> members) {
+    this.name = name;
+    this.timeZone = timeZone;
+    this.members = new ArrayList<>(members);
+  }
+
+  /**
+   * An event of a member with its times converted to the timezone of the overlay.
+   */
+  private static class Entry {
+    private final IEvent event;
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+
+    Entry(IEvent event, LocalDateTime start, LocalDateTime end) {
+      this.event = event;
+      this.start = start;
+      this.end = end;
+    }
+  }
+
+  /**
+   * The position of the merge in the ordered events of one member.
+   */
+  private static class Cursor {
+    private final List<Entry> entries;
+    private final int member;
+    private int index;
+
+    Cursor(List<Entry> entries, int member) {
+      this.entries = entries;
+      this.member = member;
+    }
+
+    Entry current() {
+      return entries.get(index);
+    }
+  }
+
+  //gets the events of every member that span the day in the overlay's timezone, merged in order
+  //of start time, with events of earlier members first when they start at the same time
+  private List<Entry> eventsOn(LocalDate day) {
+    PriorityQueue<Cursor> queue = new PriorityQueue<>(Math.max(1, members.size()),
+        Comparator.comparing((Cursor c) -> c.current().start).thenComparingInt(c -> c.member));
+    int total = 0;
+    for (int m = 0; m < members.size(); m++) {
+      List<Entry> entries = memberEventsOn(members.get(m), day);
+      if (!entries.isEmpty()) {
+        queue.add(new Cursor(entries, m));
+        total += entries.size();
+      }
+    }
+
+    List<Entry> merged = new ArrayList<>(total);
+    while (!queue.isEmpty()) {
+      Cursor cursor = queue.poll();
+      merged.add(cursor.current());
+      cursor.index++;
+      if (cursor.index < cursor.entries.size()) {
+        queue.add(cursor);
+      }
+    }
+    return merged;
+  }
+
+  //gets the events of one member that span the day in the overlay's timezone, in order of start
+  private List<Entry> memberEventsOn(ISpecificCalendar member, LocalDate day) {
+    ZoneConverter toMember = ZoneConverter.of(timeZone, member.getTimeZone());
+    ZoneConverter fromMember = ZoneConverter.of(member.getTimeZone(), timeZone);
+    LocalDate first = toMember.convert(day.atStartOfDay()).toLocalDate();
+    LocalDate last = toMember.convert(day.plusDays(1).atStartOfDay()).toLocalDate();
+
+    Map<LocalDate, List<IEvent>> days = member.getCalendar();
+    Set<IEvent> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+    List<Entry> entries = new ArrayList<>();
+    member.getLock().readLock().lock();
+    try {
+      for (LocalDate date = first; !date.isAfter(last); date = date.plusDays(1)) {
+        List<IEvent> events = days.get(date);
+        if (events == null) {
+          continue;
+        }
+        for (IEvent e : events) {
+          if (!seen.add(e)) {
+            continue;
+          }
+          LocalDateTime start = fromMember.convert(e.getStart());
+          LocalDateTime end = fromMember.convert(e.getEnd());
+          // an event is on every day from its start date to its end date, like in a calendar
+          if (!start.toLocalDate().isAfter(day) && !end.toLocalDate().isBefore(day)) {
+            entries.add(new Entry(e, start, end));
+          }
+        }
+      }
+    } finally {
+      member.getLock().readLock().unlock();
+    }
+    entries.sort(Comparator.comparing((Entry entry) -> entry.start));
+    return entries;
+  }
+
+  //gets the last day in the overlay's timezone that any member has an event on, or null if
+  //none of the members have events
+  private LocalDate lastEventDay() {
+    LocalDate lastDay = null;
+    for (ISpecificCalendar member : members) {
+      LocalDate memberLast = null;
+      member.getLock().readLock().lock();
+      try {
+        for (LocalDate date : member.getCalendar().keySet()) {
+          if (memberLast == null || date.isAfter(memberLast)) {
+            memberLast = date;
+          }
+        }
+      } finally {
+        member.getLock().readLock().unlock();
+      }
+      if (memberLast != null) {
+        LocalDate converted = ZoneConverter.of(member.getTimeZone(), timeZone)
+                .convert(memberLast.plusDays(1).atStartOfDay()).toLocalDate();
+        if (lastDay == null || converted.isAfter(lastDay)) {
+          lastDay = converted;
+        }
+      }
+    }
+    return lastDay;
+  }
+
+  @Override
+  public String printEvents(LocalDate day) {
+    List<Entry> entries = eventsOn(day);
+    if (entries.isEmpty()) {
+      return "No events on this day";
+    }
+
+    List<String> events = new ArrayList<>();
+    for (Entry entry : entries) {
+      events.add(printHelper(entry));
+    }
+    return String.join("\n", events);
+  }
+
+  @Override
+  public String printEventsInterval(LocalDateTime start, LocalDateTime end) {
+    LocalDate day = start.toLocalDate();
+    LocalDate lastDay = end != null ? end.toLocalDate() : lastEventDay();
+    List<String> events = new ArrayList<>();
+    int count = 0;
+
+    // If end is provided, no limit. If end is null, limit to 10 events.
+    while (lastDay != null && !day.isAfter(lastDay) && (end != null || count < 10)) {
+      for (Entry entry : eventsOn(day)) {
+        if (!entry.start.isBefore(start)) {
+          events.add(printHelper(entry));
+          count++;
+          if (end == null && count == 10) {
+            break;
+          }
+        }
+      }
+      day = day.plusDays(1);
+    }
+
+    return String.join("\n", events);
+  }
+
+  //creates the string to return
+  private String printHelper(Entry entry) {
+    return entry.event.getSubject() + ", " + "Start Time: " + entry.start + ", "
+            + "End Time: " + entry.end + ", " + "Location: " + entry.event.getLocation();
+  }
+
+  @Override
+  public String showStatus(LocalDateTime day) {
+    for (ISpecificCalendar member : members) {
+      LocalDateTime memberTime = ZoneConverter.of(timeZone, member.getTimeZone()).convert(day);
+      if (member.showStatus(memberTime).equals("busy")) {
+        return "busy";
+      }
+    }
+    return "available";
+  }
+
+  /**
+   * Gets the days of the overlay with the events of every member on them. The events are shared
+   * copies of the members' events with their times in the overlay's timezone, and the map is a
+   * snapshot that doesn't follow later changes.
+   * @return the map of days to events
+   */
+  @Override
+  public Map<LocalDate, List<IEvent>> getCalendar() {
+    Map<LocalDate, List<IEvent>> days = new HashMap<>();
+    for (ISpecificCalendar member : members) {
+      ZoneConverter fromMember = ZoneConverter.of(member.getTimeZone(), timeZone);
+      // the details of an event are only taken while its calendar can't change
+      List<IEvent> shown = new ArrayList<>();
+      member.getLock().readLock().lock();
+      try {
+        Set<IEvent> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (List<IEvent> events : member.getCalendar().values()) {
+          for (IEvent e : events) {
+            if (seen.add(e)) {
+              shown.add(new SharedEvent(EventDetails.of(e), fromMember.convert(e.getStart()),
+                      fromMember.convert(e.getEnd())));
+            }
+          }
+        }
+      } finally {
+        member.getLock().readLock().unlock();
+      }
+      for (IEvent e : shown) {
+        LocalDate date = e.getStart().toLocalDate();
+        while (!date.isAfter(e.getEnd().toLocalDate())) {
+          days.computeIfAbsent(date, k -> new ArrayList<>()).add(e);
+          date = date.plusDays(1);
+        }
+      }
+    }
+    for (List<IEvent> events : days.values()) {
+      events.sort(Comparator.comparing(IEvent::getStart));
+    }
+    return Collections.unmodifiableMap(days);
+  }
+
+  @Override
+  public Map<SeriesKey, List<IEvent>> getSeries() {
+    return Collections.emptyMap();
+  }
+
+  @Override
+  public List<IEvent> getSeriesAt(LocalDateTime startTime) {
+    return null;
+  }
+
+  /**
+   * Gets the lock of the overlay. The overlay has no events of its own to guard and reads its
+   * members under their own locks, so this lock is never contended.
+   * @return the lock of the overlay
+   */
+  @Override
+  public CalendarLock getLock() {
+    return lock;
+  }
+
+  @Override
+  public Map<SeriesKey, SeriesKey> getOldToNewSeries() {
+    return Collections.emptyMap();
+  }
+
+  /**
+   * Subscribes a listener to the changes of every member, since those are the changes of the
+   * overlay.
+   * @param listener the listener to be notified
+   */
+  @Override
+  public void addListener(ICalendarListener listener) {
+    for (ISpecificCalendar member : members) {
+      member.addListener(listener);
+    }
+  }
+
+  @Override
+  public void removeListener(ICalendarListener listener) {
+    for (ISpecificCalendar member : members) {
+      member.removeListener(listener);
+    }
+  }
+
+  /**
+   * Gets the calendars the overlay shows.
+   * @return the member calendars
+   */
+  public List<ISpecificCalendar> getMembers() {
+    return Collections.unmodifiableList(members);
+  }
+
+  @Override
+  public String getName() {
+    return this.name;
+  }
+
+  @Override
+  public ZoneId getTimeZone() {
+    return this.timeZone;
+  }
+
+  @Override
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  @Override
+  public void setTimeZone(ZoneId timeZone) {
+    this.timeZone = timeZone;
+  }
+
+  //throws for every method that would change events
+  private IllegalStateException readOnly() {
+    return new IllegalStateException("Overlay calendar " + name + " is read-only");
+  }
+
+  @Override
+  public Event createEvent(String subject, LocalDateTime startTime, LocalDateTime endTime) {
+    throw readOnly();
+  }
+
+  @Override
+  public void createSeriesTimes(String subject, LocalDateTime startTime, LocalDateTime endTime,
+                                List<String> repeatDays, int times) {
+    throw readOnly();
+  }
+
+  @Override
+  public void createSeriesUntil(String subject, LocalDateTime startTime, LocalDateTime endTime,
+                                List<String> repeatDays, LocalDate until) {
+    throw readOnly();
+  }
+
+  @Override
+  public void editEvent(PropertyType property, String subject, LocalDateTime startTime,
+                        LocalDateTime endTime, String value) {
+    throw readOnly();
+  }
+
+  @Override
+  public void editEvents(PropertyType property, String subject, LocalDateTime startTime,
+                         String value) {
+    throw readOnly();
+  }
+
+  @Override
+  public void editSeries(PropertyType property, String subject, LocalDateTime startTime,
+                         String value) {
+    throw readOnly();
+  }
+
+  @Override
+  public void deleteEvent(String subject, LocalDateTime startTime, LocalDateTime endTime) {
+    throw readOnly();
+  }
+
+  @Override
+  public void deleteEvents(String subject, LocalDateTime startTime) {
+    throw readOnly();
+  }
+
+  @Override
+  public void deleteSeries(String subject, LocalDateTime startTime) {
+    throw readOnly();
+  }
+
+  @Override
+  public void fullCreate(String subject, LocalDateTime startDate, LocalDateTime endDate,
+                         String desc, Location location, Status status) {
+    throw readOnly();
+  }
+
+  @Override
+  public void addSeriesCopy(IEvent event, SeriesKey seriesKey) {
+    throw readOnly();
+  }
+
+  @Override
+  public void addCopies(List<IEvent> events, List<SeriesKey> seriesKeys) {
+    throw readOnly();
+  }
+
+  @Override
+  public void moveTo(List<IEvent> events, ISpecificCalendar target, List<LocalDateTime> starts,
+                     List<LocalDateTime> ends, List<SeriesKey> seriesKeys) {
+    throw readOnly();
+  }
+}
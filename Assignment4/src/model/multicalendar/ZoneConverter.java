@@ -0,0 +1,205 @@
+package model.multicalendar;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Converts local times of one timezone to the local times of another at the same instant, giving
+ * the same result as {@code time.atZone(source).withZoneSameInstant(target).toLocalDateTime()}.
+ *
+ * <p>The local time line of the source zone is split at every offset transition of either zone
+ * into spans where the difference between the offsets doesn't change. The spans are kept as two
+ * sorted arrays, the local second each span starts at and its difference in seconds, and a time
+ * is converted by finding its span with a binary search and adding the difference. Only times in
+ * a gap or an overlap of the source zone, where a local time has no instant or two, are converted
+ * by the JDK, so they are resolved exactly as before.</p>
+ *
+ * <p>The spans cover a window of years around the times converted so far. A time outside the
+ * window widens it, which rebuilds the arrays once, so the arrays only grow with the range of
+ * years that is actually used.</p>
+ */
+public final class ZoneConverter {
+  private static final Map<List<ZoneId>, ZoneConverter> CONVERTERS = new ConcurrentHashMap<>();
+  // the difference of a span in a gap or an overlap of the source zone
+  private static final int GAP_OR_OVERLAP = Integer.MIN_VALUE;
+  // the years added on each side of a time that falls outside the window
+  private static final int MARGIN_YEARS = 50;
+  // no offset is further than this from UTC
+  private static final long MAX_OFFSET_SECONDS = 18 * 60 * 60;
+
+  private final ZoneId source;
+  private final ZoneId target;
+  private final ZoneRules sourceRules;
+  private final ZoneRules targetRules;
+  // the difference in seconds if both zones have fixed offsets, otherwise GAP_OR_OVERLAP
+  private final int fixedDelta;
+  private volatile Spans spans;
+
+  /**
+   * The spans of a window of the source time line. The window starts at the first span and ends
+   * at the end, both in local seconds of the source zone.
+   */
+  private static final class Spans {
+    private final long[] starts;
+    private final int[] deltas;
+    private final long end;
+
+    private Spans(long[] starts, int[] deltas, long end) {
+      this.starts = starts;
+      this.deltas = deltas;
+      this.end = end;
+    }
+
+    private boolean covers(long second) {
+      return second >= starts[0] && second < end;
+    }
+  }
+
+  private ZoneConverter(ZoneId source, ZoneId target) {
+    this.source = source;
+    this.target = target;
+    this.sourceRules = source.getRules();
+    this.targetRules = target.getRules();
+    if (sourceRules.isFixedOffset() && targetRules.isFixedOffset()) {
+      this.fixedDelta = targetRules.getOffset(Instant.EPOCH).getTotalSeconds()
+              - sourceRules.getOffset(Instant.EPOCH).getTotalSeconds();
+    } else {
+      this.fixedDelta = GAP_OR_OVERLAP;
+    }
+  }
+
+  /**
+   * Gets the converter from the source timezone to the target timezone, which is shared by every
+   * caller converting between the same two zones.
+   * @param source the timezone the times are in
+   * @param target the timezone to convert them to
+   * @return the converter
+   */
+  public static ZoneConverter of(ZoneId source, ZoneId target) {
+    return CONVERTERS.computeIfAbsent(Arrays.asList(source, target),
+        k -> new ZoneConverter(source, target));
+  }
+
+  /**
+   * Converts a local time of the source timezone to the local time of the target timezone at the
+   * same instant.
+   * @param time the time in the source timezone
+   * @return the time in the target timezone
+   */
+  public LocalDateTime convert(LocalDateTime time) {
+    if (source.equals(target)) {
+      return time;
+    }
+    if (fixedDelta != GAP_OR_OVERLAP) {
+      return time.plusSeconds(fixedDelta);
+    }
+    long second = time.toEpochSecond(ZoneOffset.UTC);
+    Spans current = spans;
+    if (current == null || !current.covers(second)) {
+      current = widen(time.getYear());
+    }
+    int index = Arrays.binarySearch(current.starts, second);
+    if (index < 0) {
+      index = -index - 2;
+    }
+    int delta = current.deltas[index];
+    if (delta == GAP_OR_OVERLAP) {
+      return time.atZone(source).withZoneSameInstant(target).toLocalDateTime();
+    }
+    return time.plusSeconds(delta);
+  }
+
+  //rebuilds the spans over a window that also covers the given year
+  private synchronized Spans widen(int year) {
+    Spans current = spans;
+    int firstYear = Math.max(LocalDateTime.MIN.getYear() + 1, year - MARGIN_YEARS);
+    int lastYear = Math.min(LocalDateTime.MAX.getYear() - 1, year + MARGIN_YEARS);
+    long from = startOfYear(firstYear);
+    long to = startOfYear(lastYear + 1);
+    if (current != null) {
+      if (current.covers(startOfYear(year)) && current.covers(startOfYear(year + 1) - 1)) {
+        return current;
+      }
+      from = Math.min(from, current.starts[0]);
+      to = Math.max(to, current.end);
+    }
+    current = build(from, to);
+    spans = current;
+    return current;
+  }
+
+  private static long startOfYear(int year) {
+    return LocalDateTime.of(year, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+  }
+
+  //splits the local seconds from the start to the end into spans of one difference
+  private Spans build(long from, long to) {
+    long[] bounds = new long[16];
+    int count = 0;
+    bounds[count++] = from;
+    Instant first = Instant.ofEpochSecond(from - MAX_OFFSET_SECONDS);
+    Instant last = Instant.ofEpochSecond(to + MAX_OFFSET_SECONDS);
+    // a transition of the source starts and ends a gap or an overlap of its local times
+    for (ZoneOffsetTransition t = sourceRules.nextTransition(first);
+         t != null && t.getInstant().isBefore(last);
+         t = sourceRules.nextTransition(t.getInstant())) {
+      if (count + 2 > bounds.length) {
+        bounds = Arrays.copyOf(bounds, bounds.length * 2);
+      }
+      long instant = t.getInstant().getEpochSecond();
+      bounds[count++] = instant + t.getOffsetBefore().getTotalSeconds();
+      bounds[count++] = instant + t.getOffsetAfter().getTotalSeconds();
+    }
+    // a transition of the target changes the difference at one local time of the source
+    for (ZoneOffsetTransition t = targetRules.nextTransition(first);
+         t != null && t.getInstant().isBefore(last);
+         t = targetRules.nextTransition(t.getInstant())) {
+      if (count + 1 > bounds.length) {
+        bounds = Arrays.copyOf(bounds, bounds.length * 2);
+      }
+      bounds[count++] = t.getInstant().getEpochSecond()
+              + sourceRules.getOffset(t.getInstant()).getTotalSeconds();
+    }
+    Arrays.sort(bounds, 0, count);
+
+    long[] starts = new long[count];
+    int[] deltas = new int[count];
+    int spanCount = 0;
+    for (int i = 0; i < count; i++) {
+      long start = bounds[i];
+      if (start < from || start >= to || (i > 0 && start == bounds[i - 1])) {
+        continue;
+      }
+      int delta = deltaAt(start);
+      // spans next to each other with the same difference are one span
+      if (spanCount > 0 && deltas[spanCount - 1] == delta) {
+        continue;
+      }
+      starts[spanCount] = start;
+      deltas[spanCount] = delta;
+      spanCount++;
+    }
+    return new Spans(Arrays.copyOf(starts, spanCount), Arrays.copyOf(deltas, spanCount), to);
+  }
+
+  //works out the difference between the offsets of the zones at a local second of the source,
+  //or GAP_OR_OVERLAP if that local time doesn't have exactly one instant
+  private int deltaAt(long second) {
+    LocalDateTime local = LocalDateTime.ofEpochSecond(second, 0, ZoneOffset.UTC);
+    List<ZoneOffset> offsets = sourceRules.getValidOffsets(local);
+    if (offsets.size() != 1) {
+      return GAP_OR_OVERLAP;
+    }
+    int sourceOffset = offsets.get(0).getTotalSeconds();
+    Instant instant = Instant.ofEpochSecond(second - sourceOffset);
+    return targetRules.getOffset(instant).getTotalSeconds() - sourceOffset;
+  }
+}
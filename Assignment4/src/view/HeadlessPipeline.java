@@ -0,0 +1,233 @@
+package view;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import controller.CalendarController;
+import controller.parse.CommandParserCoordinator;
+import controller.parse.ParseResult;
+
+/**
+ * Runs a headless command file as a pipeline of stages, each on its own thread: a reader that
+ * splits the file into command lines, a parser, the executor that applies the commands to the
+ * model one at a time, and a writer that prints what each command produced. The stages are
+ * joined by bounded queues, so a long file never sits in memory whole, and every stage handles
+ * the commands in the order of the file, so the output is the same as running them one by one.
+ * Only the executor touches the model, and it runs on the thread that called {@link #run}.
+ */
+final class HeadlessPipeline {
+  // how many items may wait between two stages
+  private static final int QUEUE_CAPACITY = 256;
+  private static final String EXIT_COMMAND = "exit";
+  private static final String COMMENT_PREFIX = "#";
+  // tells the writer that nothing more is coming
+  private static final Runnable STOP = () -> { };
+
+  private final CalendarController controller;
+  private final IView view;
+  private final OutputSink sink;
+  // why the writer could not print, such as output that can't be written, once it fails
+  private volatile RuntimeException writeFailure;
+
+  /**
+   * A command line on its way through the pipeline, or the end of the file.
+   */
+  private static final class Line {
+    private static final Line END = new Line(0, null, null, null);
+
+    private final int number;
+    private final String text;
+    private final ParseResult parsed;
+    // why the file could not be read to its end, if it couldn't
+    private final IOException failure;
+
+    private Line(int number, String text, ParseResult parsed, IOException failure) {
+      this.number = number;
+      this.text = text;
+      this.parsed = parsed;
+      this.failure = failure;
+    }
+
+    private boolean isEnd() {
+      return text == null;
+    }
+
+    private boolean isExit() {
+      return text != null && text.equalsIgnoreCase(EXIT_COMMAND);
+    }
+  }
+
+  HeadlessPipeline(CalendarController controller, IView view, OutputSink sink) {
+    this.controller = controller;
+    this.view = view;
+    this.sink = sink;
+  }
+
+  /**
+   * Runs every command of the file up to its exit command.
+   * @param reader the command file
+   * @throws IOException if the file can't be read
+   * @throws RuntimeException if the file has no exit command, or whatever stopped the writer,
+   *         such as an {@link java.io.UncheckedIOException} from the sink
+   */
+  void run(BufferedReader reader) throws IOException {
+    BlockingQueue<Line> lines = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    BlockingQueue<Line> parsed = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    BlockingQueue<Runnable> output = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+    Thread readStage = start("headless-reader", () -> read(reader, lines));
+    Thread parseStage = start("headless-parser", () -> parse(lines, parsed));
+    Thread writeStage = start("headless-writer", () -> write(output));
+
+    boolean exitFound = false;
+    IOException failure = null;
+    try {
+      // once the writer has failed nothing more is worth running
+      while (writeFailure == null) {
+        Line line = parsed.take();
+        if (line.isEnd()) {
+          failure = line.failure;
+          break;
+        }
+
+        output.put(() -> sink.println("Currently executing: " + line.text));
+
+        if (line.isExit()) {
+          exitFound = true;
+          output.put(() -> view.displayOutput("Exit command found. Terminating."));
+          break;
+        }
+
+        output.put(execute(line));
+        output.put(() -> {
+          sink.println();
+          sink.endCommand();
+        });
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Headless pipeline interrupted");
+    } finally {
+      readStage.interrupt();
+      parseStage.interrupt();
+      finish(output, writeStage);
+    }
+
+    if (writeFailure != null) {
+      throw writeFailure;
+    }
+    if (failure != null) {
+      throw failure;
+    }
+    if (!exitFound) {
+      view.displayError("Command file must end with 'exit' command");
+      throw new RuntimeException("Command file must end with 'exit' command");
+    }
+  }
+
+  //starts a stage on a daemon thread, so a stuck stage never keeps the application alive
+  private static Thread start(String name, Runnable stage) {
+    Thread thread = new Thread(stage, name);
+    thread.setDaemon(true);
+    thread.start();
+    return thread;
+  }
+
+  //the reader stage: queues each command line, skipping blanks and comments, up to exit
+  private static void read(BufferedReader reader, BlockingQueue<Line> lines) {
+    try {
+      try {
+        String command;
+        int lineNumber = 0;
+        while ((command = reader.readLine()) != null) {
+          lineNumber++;
+          command = command.trim();
+          if (command.isEmpty() || command.startsWith(COMMENT_PREFIX)) {
+            continue;
+          }
+          Line line = new Line(lineNumber, command, null, null);
+          lines.put(line);
+          if (line.isExit()) {
+            return;
+          }
+        }
+        lines.put(Line.END);
+      } catch (IOException e) {
+        lines.put(new Line(0, null, null, e));
+      }
+    } catch (InterruptedException e) {
+      // the executor has stopped, so nothing is waiting for more lines
+    }
+  }
+
+  //the parse stage: parses each line in order, passing the exit and the end along as they are
+  private static void parse(BlockingQueue<Line> lines, BlockingQueue<Line> parsed) {
+    try {
+      while (true) {
+        Line line = lines.take();
+        if (line.isEnd() || line.isExit()) {
+          parsed.put(line);
+          return;
+        }
+        parsed.put(new Line(line.number, line.text,
+                CommandParserCoordinator.parseCommand(line.text), null));
+      }
+    } catch (InterruptedException e) {
+      // the executor has stopped, so nothing is waiting for more commands
+    }
+  }
+
+  //the execute stage: applies one command to the model and returns how to print its result
+  private Runnable execute(Line line) {
+    try {
+      String result = controller.executeCommand(line.parsed);
+      return () -> view.displayOutput(result);
+    } catch (Exception e) {
+      String error = "Line " + line.number + ": " + e.getMessage();
+      return () -> view.displayError(error);
+    }
+  }
+
+  //the writer stage: prints everything queued, in order, until told to stop. If printing fails
+  //it keeps the failure for the executor and only takes what is queued after it, so the
+  //executor never waits on a full queue that nothing empties
+  private void write(BlockingQueue<Runnable> output) {
+    try {
+      Runnable next;
+      while ((next = output.take()) != STOP) {
+        if (writeFailure == null) {
+          try {
+            next.run();
+          } catch (RuntimeException e) {
+            writeFailure = e;
+          }
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  //lets the writer print everything queued so far, then waits for it to finish
+  private static void finish(BlockingQueue<Runnable> output, Thread writeStage) {
+    boolean interrupted = false;
+    boolean stopped = false;
+    while (writeStage.isAlive()) {
+      try {
+        if (!stopped) {
+          output.put(STOP);
+          stopped = true;
+        }
+        writeStage.join();
+      } catch (InterruptedException e) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
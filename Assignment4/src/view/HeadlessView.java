@@ -1,22 +1,66 @@
 package view;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
-import java.io.FileReader;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
 
 import controller.CalendarController;
+import controller.parse.BinaryCommandReader;
+import controller.parse.CommandParserCoordinator;
+import controller.parse.ParseResult;
 
 /**
  * Handles the headless mode user interface where commands are read from a file
  * and executed line-by-line.
+ * When parsing ahead, the whole file is read and every command is parsed in parallel before any
+ * of them runs, so all syntax errors, and a missing exit, are reported up front. The commands
+ * that parsed are then executed one at a time in the order of the file.
+ * When pipelined, reading, parsing, executing and printing run at once on their own threads,
+ * with the same output as running line-by-line.
+ * A file written by a {@link controller.parse.BinaryCommandWriter} is recognised by its header
+ * and its commands are executed as they are decoded, with no text to parse.
  */
 public class HeadlessView implements IView {
   private final CalendarController controller;
+  private final Mode mode;
+  private final OutputSink sink;
   private static final String EXIT_COMMAND = "exit";
   private static final String COMMENT_PREFIX = "#";
 
+  /**
+   * The ways a text command file can be run.
+   */
+  public enum Mode {
+    LINE_BY_LINE, PARSE_AHEAD, PIPELINED
+  }
+
   public HeadlessView(CalendarController controller) {
+    this(controller, Mode.LINE_BY_LINE);
+  }
+
+  /**
+   * Creates a headless view that runs text command files in the given way.
+   * @param controller the controller that executes the commands
+   * @param mode how to read, parse and execute the commands of a text file
+   */
+  public HeadlessView(CalendarController controller, Mode mode) {
+    this(controller, mode, OutputSink.console());
+  }
+
+  /**
+   * Creates a headless view that prints through the given sink.
+   * @param controller the controller that executes the commands
+   * @param mode how to read, parse and execute the commands of a text file
+   * @param sink where the output goes; it is flushed at the end of every run
+   */
+  public HeadlessView(CalendarController controller, Mode mode, OutputSink sink) {
     this.controller = controller;
+    this.mode = mode;
+    this.sink = sink;
   }
 
   @Override
@@ -26,12 +70,25 @@ public class HeadlessView implements IView {
 
   @Override
   public void run(String filename) {
-    System.out.println("Calendar Application - Headless Mode");
-    System.out.println("Reading commands from: " + filename);
-    System.out.println();
+    try {
+      runFile(filename);
+    } finally {
+      sink.flush();
+    }
+  }
+
+  //runs the commands of the file, in whichever format it is
+  private void runFile(String filename) {
+    sink.println("Calendar Application - Headless Mode");
+    sink.println("Reading commands from: " + filename);
+    sink.println();
 
-    try (BufferedReader reader = new BufferedReader(new FileReader(filename))) {
-      processCommandFile(reader);
+    try (BufferedInputStream in = new BufferedInputStream(new FileInputStream(filename))) {
+      if (BinaryCommandReader.isBinary(in)) {
+        processBinaryCommandFile(new BinaryCommandReader(in));
+      } else {
+        processTextCommandFile(new BufferedReader(new InputStreamReader(in)));
+      }
     } catch (IOException e) {
       displayError("Could not read command file '" + filename + "': " + e.getMessage());
       // instead of System.exit(1), which terminates every test hereafter
@@ -43,13 +100,29 @@ public class HeadlessView implements IView {
   @Override
   public void displayOutput(String output) {
     if (output != null && !output.isEmpty()) {
-      System.out.println(output);
+      sink.println(output);
     }
   }
 
   @Override
   public void displayError(String error) {
-    System.err.println("Error: " + error);
+    sink.error("Error: " + error);
+  }
+
+  /**
+   * Runs a text command file in the mode of this view.
+   */
+  private void processTextCommandFile(BufferedReader reader) throws IOException {
+    switch (mode) {
+      case PARSE_AHEAD:
+        processParsedCommandFile(reader);
+        break;
+      case PIPELINED:
+        new HeadlessPipeline(controller, this, sink).run(reader);
+        break;
+      default:
+        processCommandFile(reader);
+    }
   }
 
   /**
@@ -68,7 +141,7 @@ public class HeadlessView implements IView {
         continue;
       }
 
-      System.out.println("Currently executing: " + command);
+      sink.println("Currently executing: " + command);
 
       if (command.equalsIgnoreCase(EXIT_COMMAND)) {
         exitFound = true;
@@ -77,7 +150,8 @@ public class HeadlessView implements IView {
       }
 
       processCommand(command, lineNumber);
-      System.out.println();
+      sink.println();
+      sink.endCommand();
     }
 
     if (!exitFound) {
@@ -99,4 +173,107 @@ public class HeadlessView implements IView {
       displayError("Line " + lineNumber + ": " + e.getMessage());
     }
   }
-}
\ No newline at end of file
+
+  /**
+   * Parses every command of the file, reports the ones that don't parse, then executes the rest.
+   */
+  private void processParsedCommandFile(BufferedReader reader) throws IOException {
+    List<String> commands = new ArrayList<>();
+    List<Integer> lineNumbers = new ArrayList<>();
+    String exitCommand = null;
+    String command;
+    int lineNumber = 0;
+
+    while ((command = reader.readLine()) != null) {
+      lineNumber++;
+      command = command.trim();
+
+      if (command.isEmpty() || command.startsWith(COMMENT_PREFIX)) {
+        continue;
+      }
+      if (command.equalsIgnoreCase(EXIT_COMMAND)) {
+        exitCommand = command;
+        break;
+      }
+      commands.add(command);
+      lineNumbers.add(lineNumber);
+    }
+
+    if (exitCommand == null) {
+      displayError("Command file must end with 'exit' command");
+      throw new RuntimeException("Command file must end with 'exit' command");
+    }
+
+    List<ParseResult> parsed = CommandParserCoordinator.parseAll(commands);
+    for (int i = 0; i < parsed.size(); i++) {
+      if (!parsed.get(i).isSuccess()) {
+        displayError("Line " + lineNumbers.get(i) + ": " + parsed.get(i).getErrorMessage());
+      }
+    }
+
+    for (int i = 0; i < parsed.size(); i++) {
+      if (parsed.get(i).isSuccess()) {
+        sink.println("Currently executing: " + commands.get(i));
+        processParsedCommand(parsed.get(i), "Line " + lineNumbers.get(i));
+        sink.println();
+        sink.endCommand();
+      }
+    }
+
+    sink.println("Currently executing: " + exitCommand);
+    displayOutput("Exit command found. Terminating.");
+  }
+
+  /**
+   * Executes a command that was already parsed through the controller.
+   */
+  private void processParsedCommand(ParseResult command, String location) {
+    try {
+      displayOutput(controller.executeCommand(command));
+    } catch (Exception e) {
+      displayError(location + ": " + e.getMessage());
+    }
+  }
+
+  /**
+   * Decodes and executes the commands of a binary command file one frame at a time.
+   */
+  private void processBinaryCommandFile(BinaryCommandReader reader) throws IOException {
+    int frameNumber = 0;
+    boolean exitFound = false;
+
+    while (true) {
+      frameNumber++;
+      ParseResult command;
+      try {
+        command = reader.read();
+      } catch (IllegalArgumentException e) {
+        // the frame is skipped whole, so the next one can still be read, and a later frame
+        // that needs a string from it is rejected here too instead of running with another
+        displayError("Frame " + frameNumber + ": " + e.getMessage());
+        continue;
+      }
+      if (command == null) {
+        break;
+      }
+
+      sink.println("Currently executing: frame " + frameNumber + " ("
+              + command.getCommandType() + ")");
+
+      if (command instanceof ParseResult.Exit) {
+        exitFound = true;
+        displayOutput("Exit command found. Terminating.");
+        break;
+      }
+
+      processParsedCommand(command, "Frame " + frameNumber);
+      sink.println();
+      sink.endCommand();
+    }
+
+    if (!exitFound) {
+      displayError("Command file must end with 'exit' command");
+      throw new RuntimeException("Command file must end with 'exit' command");
+    }
+  }
+}
@@ -10,19 +10,31 @@ import controller.CalendarController;
 public class InteractiveView implements IView {
   private final CalendarController controller;
   private final Scanner scanner;
+  private final OutputSink sink;
   private static final String EXIT_COMMAND = "exit";
   private static final String PROMPT = "> ";
 
   public InteractiveView(CalendarController controller) {
+    this(controller, OutputSink.console());
+  }
+
+  /**
+   * Creates an interactive view that prints through the given sink. The sink is always flushed
+   * before waiting for the next command, so the user sees every result before the prompt.
+   * @param controller the controller that executes the commands
+   * @param sink where the output goes
+   */
+  public InteractiveView(CalendarController controller, OutputSink sink) {
     this.controller = controller;
     this.scanner = new Scanner(System.in);
+    this.sink = sink;
   }
 
   @Override
   public void run() {
-    System.out.println("Calendar Application - Interactive Mode");
-    System.out.println("Type 'exit' to quit");
-    System.out.println();
+    sink.println("Calendar Application - Interactive Mode");
+    sink.println("Type 'exit' to quit");
+    sink.println();
 
     while (true) {
       String command = getUserInput();
@@ -32,14 +44,16 @@ public class InteractiveView implements IView {
       }
 
       if (command.equalsIgnoreCase(EXIT_COMMAND)) {
-        System.out.println("Goodbye!");
+        sink.println("Goodbye!");
         break;
       }
 
       processCommand(command);
-      System.out.println();
+      sink.println();
+      sink.endCommand();
     }
 
+    sink.flush();
     scanner.close();
   }
 
@@ -52,20 +66,21 @@ public class InteractiveView implements IView {
   @Override
   public void displayOutput(String output) {
     if (output != null && !output.isEmpty()) {
-      System.out.println(output);
+      sink.println(output);
     }
   }
 
   @Override
   public void displayError(String error) {
-    System.err.println("Error: " + error);
+    sink.error("Error: " + error);
   }
 
   /**
    * Gets user input from the command line.
    */
   private String getUserInput() {
-    System.out.print(PROMPT);
+    sink.print(PROMPT);
+    sink.flush();
     return scanner.nextLine().trim();
   }
 
@@ -0,0 +1,185 @@
+package view;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Where the text views send what they print. Output is gathered in a large buffer and written
+ * in one go when the flush policy says so, instead of a synchronized write and flush for every
+ * line, and it can go to a file through a {@link FileChannel} instead of the console. Errors
+ * still go to the console's error stream right away, after the output before them is flushed,
+ * so the two stay in order.
+ */
+public final class OutputSink implements Closeable {
+  // the most characters held before they are written whatever the policy
+  private static final int BUFFER_CHARS = 64 * 1024;
+  private static final String NEWLINE = System.lineSeparator();
+
+  /**
+   * When buffered output is written.
+   */
+  public enum FlushPolicy {
+    /** After every given number of lines. */
+    LINES,
+    /** After every command. */
+    COMMAND,
+    /** Only when the view is done, or when the buffer is full. */
+    EXIT
+  }
+
+  private final FlushPolicy policy;
+  private final int linesPerFlush;
+  // the file to write to, or null for the console
+  private final FileChannel channel;
+  private final Charset charset;
+  private final StringBuilder buffer;
+  private int pendingLines;
+
+  private OutputSink(FlushPolicy policy, int linesPerFlush, FileChannel channel,
+                     Charset charset) {
+    if (policy == FlushPolicy.LINES && linesPerFlush <= 0) {
+      throw new IllegalArgumentException("Lines per flush must be positive: " + linesPerFlush);
+    }
+    this.policy = policy;
+    this.linesPerFlush = linesPerFlush;
+    this.channel = channel;
+    this.charset = charset;
+    this.buffer = new StringBuilder();
+  }
+
+  /**
+   * Creates a sink that writes every line to the console as soon as it is printed, as
+   * {@code System.out.println} does.
+   * @return the sink
+   */
+  public static OutputSink console() {
+    return console(FlushPolicy.LINES, 1);
+  }
+
+  /**
+   * Creates a sink that writes to the console.
+   * @param policy when to write the buffered output
+   * @param linesPerFlush the number of lines between writes, used by {@link FlushPolicy#LINES}
+   * @return the sink
+   * @throws IllegalArgumentException if the policy is by lines and the number isn't positive
+   */
+  public static OutputSink console(FlushPolicy policy, int linesPerFlush) {
+    return new OutputSink(policy, linesPerFlush, null, Charset.defaultCharset());
+  }
+
+  /**
+   * Creates a sink that writes output to a file in UTF-8, replacing what the file held.
+   * @param path the file
+   * @param policy when to write the buffered output
+   * @param linesPerFlush the number of lines between writes, used by {@link FlushPolicy#LINES}
+   * @return the sink
+   * @throws IOException if the file can't be opened
+   * @throws IllegalArgumentException if the policy is by lines and the number isn't positive
+   */
+  public static OutputSink file(Path path, FlushPolicy policy, int linesPerFlush)
+          throws IOException {
+    FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    return new OutputSink(policy, linesPerFlush, channel, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Prints text without ending the line, such as a prompt.
+   * @param text the text
+   */
+  public synchronized void print(String text) {
+    buffer.append(text);
+    if (buffer.length() >= BUFFER_CHARS) {
+      flush();
+    }
+  }
+
+  /**
+   * Prints a line.
+   * @param line the line
+   */
+  public synchronized void println(String line) {
+    buffer.append(line).append(NEWLINE);
+    lineEnded();
+  }
+
+  /**
+   * Prints an empty line.
+   */
+  public synchronized void println() {
+    buffer.append(NEWLINE);
+    lineEnded();
+  }
+
+  //writes the buffer if the policy or its size says so
+  private void lineEnded() {
+    pendingLines++;
+    if ((policy == FlushPolicy.LINES && pendingLines >= linesPerFlush)
+            || buffer.length() >= BUFFER_CHARS) {
+      flush();
+    }
+  }
+
+  /**
+   * Prints a line to the console's error stream, after writing the output before it.
+   * @param line the line
+   */
+  public synchronized void error(String line) {
+    flush();
+    System.err.println(line);
+  }
+
+  /**
+   * Marks the end of the output of one command.
+   */
+  public synchronized void endCommand() {
+    if (policy == FlushPolicy.COMMAND) {
+      flush();
+    }
+  }
+
+  /**
+   * Writes everything buffered.
+   * @throws UncheckedIOException if the output can't be written
+   */
+  public synchronized void flush() {
+    pendingLines = 0;
+    if (buffer.length() == 0) {
+      return;
+    }
+    ByteBuffer bytes = charset.encode(CharBuffer.wrap(buffer));
+    buffer.setLength(0);
+    if (channel == null) {
+      System.out.write(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+      System.out.flush();
+      return;
+    }
+    try {
+      while (bytes.hasRemaining()) {
+        channel.write(bytes);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not write output: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Writes everything buffered and closes the file, if the sink writes to one.
+   * @throws IOException if the file can't be closed
+   */
+  @Override
+  public synchronized void close() throws IOException {
+    flush();
+    if (channel != null) {
+      channel.close();
+    }
+  }
+}
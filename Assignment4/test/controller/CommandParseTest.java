@@ -7,18 +7,33 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import org.junit.Before;
 import org.junit.Test;
 
+import controller.parse.BinaryCommandReader;
+import controller.parse.BinaryCommandWriter;
+import controller.parse.CommandGrammar;
 import controller.parse.CommandParserCoordinator;
+import controller.parse.CommandTokens;
+import controller.parse.IsoDates;
 import controller.parse.CommandType;
+import controller.parse.CommandVisitor;
+import controller.parse.ParseCache;
 import controller.parse.ParseResult;
+import controller.parse.RepeatInfo;
 import model.calendar.IEvent;
+import model.calendar.ISpecificCalendar;
+import model.calendar.SeriesKey;
 import model.enums.Location;
 import model.enums.Status;
 
@@ -184,7 +199,7 @@ public class CommandParseTest {
             getCalendar();
     assertFalse("Calendar should not be empty after creation", calendarData.isEmpty());
 
-    Map<LocalDateTime, List<IEvent>> seriesData = controller.getMultiCalendar().getCurrent().
+    Map<SeriesKey, List<IEvent>> seriesData = controller.getMultiCalendar().getCurrent().
             getSeries();
     assertFalse("Series should not be empty after creation", seriesData.isEmpty());
     assertEquals("Should have one series", 1, seriesData.size());
@@ -228,7 +243,7 @@ public class CommandParseTest {
     assertTrue("Result should contain event name", result.contains("Daily Workout"));
     assertTrue("Result should contain until date", result.contains("until 2025-06-27"));
 
-    Map<LocalDateTime, List<IEvent>> seriesData = controller.getMultiCalendar().getCurrent().
+    Map<SeriesKey, List<IEvent>> seriesData = controller.getMultiCalendar().getCurrent().
             getSeries();
     assertFalse("Series should not be empty", seriesData.isEmpty());
 
@@ -481,7 +496,7 @@ public class CommandParseTest {
             "2025-06-16T10:00 " +
             "repeats MWF for 4 times");
 
-    Map<LocalDateTime, List<IEvent>> seriesData = controller.getMultiCalendar().getCurrent().
+    Map<SeriesKey, List<IEvent>> seriesData = controller.getMultiCalendar().getCurrent().
             getSeries();
     assertFalse("Series should not be empty", seriesData.isEmpty());
 
@@ -573,9 +588,9 @@ public class CommandParseTest {
             "2025-06-16T11:00 " +
             "repeats MW for 3 times");
 
-    Map<LocalDateTime, List<IEvent>> seriesData = controller.getMultiCalendar().
-            getCurrent().getSeries();
-    assertTrue("Should have series with original start time", seriesData.containsKey(seriesStart));
+    ISpecificCalendar current = controller.getMultiCalendar().getCurrent();
+    assertTrue("Should have series with original start time",
+            current.getSeriesAt(seriesStart) != null);
 
     String command = "edit events start Morning Sync from 2025-06-18T10:00 with 2025-06-18T11:00";
     assertNotNull("Command should not be null", command);
@@ -602,7 +617,7 @@ public class CommandParseTest {
 
     LocalDateTime newSeriesStart = LocalDateTime.of(2025, 6, 18, 11, 0);
     assertTrue("Should have new series with updated start time",
-            seriesData.containsKey(newSeriesStart));
+            current.getSeriesAt(newSeriesStart) != null);
   }
 
   // ==================== QUERY COMMANDS TESTS ====================
@@ -982,6 +997,89 @@ public class CommandParseTest {
     }
   }
 
+  @Test
+  public void testDeleteEventCommands() {
+    controller.executeCommand("create event \"Team Standup\" from 2025-06-16T14:00 to " +
+            "2025-06-16T14:30 repeats MW for 2 times");
+    controller.executeCommand("create event Lunch from 2025-06-16T12:00 to 2025-06-16T13:00");
+    Map<LocalDate, List<IEvent>> calendarData = controller.getMultiCalendar().getCurrent().
+            getCalendar();
+
+    String result = controller.executeCommand("delete event Lunch from 2025-06-16T12:00 to " +
+            "2025-06-16T13:00");
+    assertTrue("Result should indicate success", result.contains("Deleted event"));
+    assertEquals("Only the standup should remain on Monday", 1,
+            calendarData.get(LocalDate.of(2025, 6, 16)).size());
+
+    result = controller.executeCommand("delete events \"Team Standup\" from 2025-06-23T14:00");
+    assertTrue("Result should indicate success", result.contains("Deleted events starting from"));
+    assertFalse("Later events should be deleted",
+            calendarData.containsKey(LocalDate.of(2025, 6, 25)));
+    assertTrue("Earlier events should remain",
+            calendarData.containsKey(LocalDate.of(2025, 6, 18)));
+
+    result = controller.executeCommand("delete series Team Standup from 2025-06-16T14:00");
+    assertTrue("Result should indicate success", result.contains("Deleted entire series"));
+    assertTrue("Calendar should be empty", calendarData.isEmpty());
+  }
+
+  @Test
+  public void testDeleteEventParsing() {
+    ParseResult result = CommandParserCoordinator.parseCommand(
+            "delete event \"Board Meeting\" from 2025-06-15T10:00 to 2025-06-15T11:00");
+    assertTrue(result.isSuccess());
+    assertEquals(CommandType.DELETE_EVENT, result.getCommandType());
+    assertEquals("Board Meeting", result.getEventSubject());
+    assertEquals(LocalDateTime.of(2025, 6, 15, 10, 0), result.getEventStart());
+    assertEquals(LocalDateTime.of(2025, 6, 15, 11, 0), result.getEventEnd());
+
+    result = CommandParserCoordinator.parseCommand("delete series Standup from 2025-06-15T10:00");
+    assertTrue(result.isSuccess());
+    assertEquals(CommandType.DELETE_SERIES, result.getCommandType());
+    assertNull(result.getEventEnd());
+
+    result = CommandParserCoordinator.parseCommand("delete event Standup from 2025-06-15T10:00");
+    assertFalse("A single delete needs an end time", result.isSuccess());
+  }
+
+  @Test
+  public void testDeleteMissingEventFails() {
+    try {
+      controller.executeCommand("delete event Nothing from 2025-06-15T10:00 to 2025-06-15T11:00");
+      fail("Deleting a missing event should fail");
+    } catch (IllegalArgumentException e) {
+      assertTrue(e.getMessage().contains("Event not found"));
+    }
+  }
+
+  @Test
+  public void testUndoRedoCommands() {
+    Map<LocalDate, List<IEvent>> calendarData = controller.getMultiCalendar().getCurrent().
+            getCalendar();
+    controller.executeCommand("create event Meeting from 2025-06-15T10:00 to 2025-06-15T11:00");
+    controller.executeCommand("edit event subject Meeting from 2025-06-15T10:00 to " +
+            "2025-06-15T11:00 with Review");
+
+    String result = controller.executeCommand("undo");
+    assertTrue("Result should indicate success", result.contains("Undid"));
+    assertEquals("Meeting", calendarData.get(testDate).get(0).getSubject());
+
+    controller.executeCommand("undo");
+    assertTrue("Calendar should be empty", calendarData.isEmpty());
+
+    result = controller.executeCommand("REDO");
+    assertTrue("Result should indicate success", result.contains("Redid"));
+    assertEquals("Meeting", calendarData.get(testDate).get(0).getSubject());
+
+    try {
+      controller.executeCommand("undo");
+      controller.executeCommand("undo");
+      fail("Should not be able to undo past the first command");
+    } catch (IllegalArgumentException e) {
+      assertTrue(e.getMessage().contains("Nothing to undo"));
+    }
+  }
+
   @Test
   public void testCommandParsingCoordinatorNullInput() {
     ParseResult result = CommandParserCoordinator.parseCommand(null);
@@ -1007,6 +1105,135 @@ public class CommandParseTest {
             result.getErrorMessage().contains(unknownCommand));
   }
 
+  @Test
+  public void testCommandParsingCoordinatorDispatchesOnKeywords() {
+    assertEquals(CommandType.CREATE_EVENT, CommandParserCoordinator.parseCommand(
+            "CREATE Event Test from 2025-06-15T10:00 to 2025-06-15T11:00").getCommandType());
+    assertEquals(CommandType.EDIT_SERIES, CommandParserCoordinator.parseCommand(
+            "edit series subject Test from 2025-06-15T10:00 with Other").getCommandType());
+    assertEquals(CommandType.MOVE_EVENTS, CommandParserCoordinator.parseCommand(
+            "move events on 2025-06-15 --target Work").getCommandType());
+    assertEquals(CommandType.UNDO, CommandParserCoordinator.parseCommand("Undo")
+            .getCommandType());
+
+    //only whole keywords select a parser
+    ParseResult result = CommandParserCoordinator.parseCommand("copy eventsX on 2025-06-15");
+    assertFalse(result.isSuccess());
+    assertTrue(result.getErrorMessage().startsWith("Unknown command"));
+  }
+
+  @Test
+  public void testCommandTokens() {
+    CommandTokens tokens = CommandTokens.of(
+            "create event  \"Lunch from home\" FROM 2025-06-15T12:00 to 2025-06-15");
+    assertEquals(7, tokens.size());
+    assertEquals(CommandTokens.Type.QUOTED, tokens.type(2));
+    assertEquals(CommandTokens.Type.DATETIME, tokens.type(4));
+    assertEquals(CommandTokens.Type.DATE, tokens.type(6));
+    assertEquals("Lunch from home", tokens.value(2, 3));
+    assertEquals("\"Lunch from home\" FROM", tokens.text(2, 4));
+
+    //keywords match ignoring case, but never inside a quoted string
+    assertTrue(tokens.isKeyword(0, "CREATE"));
+    assertEquals(3, tokens.find("from", 0));
+    assertEquals(5, tokens.findLast("to", 0));
+    assertEquals(-1, tokens.find("to", 6));
+    assertFalse(tokens.hasUnclosedQuote());
+    assertTrue(CommandTokens.of("create event \"Lunch").hasUnclosedQuote());
+  }
+
+  @Test
+  public void testIsoDates() {
+    assertEquals(LocalDateTime.of(2024, 2, 29, 23, 59), IsoDates.parseDateTime("2024-02-29T23:59"));
+    assertEquals(LocalDate.of(2025, 12, 31), IsoDates.parseDate("2025-12-31"));
+    assertEquals(LocalDate.of(2025, 6, 15), IsoDates.parseDate("on 2025-06-15 at", 3, 13));
+
+    //other shapes are left to the JDK parser
+    assertEquals(LocalDateTime.of(2025, 6, 15, 10, 0, 30),
+            IsoDates.parseDateTime("2025-06-15T10:00:30"));
+    String[] invalid = {"2025-02-29T10:00", "2025-13-01T10:00", "2025-06-15T24:00",
+      "2025-06-15T10:60", "2025-06-15 10:00", "2025-6-15T10:00"};
+    for (String text : invalid) {
+      try {
+        IsoDates.parseDateTime(text);
+        fail("Should throw exception for " + text);
+      } catch (DateTimeParseException e) {
+        assertTrue(e.getMessage().contains(text));
+      }
+    }
+  }
+
+  @Test
+  public void testKeywordsInSubjectsAreNotPointers() {
+    ParseResult result = CommandParserCoordinator.parseCommand(
+            "create event \"Trip to Paris from Rome\" FROM 2025-06-15T10:00 TO 2025-06-15T11:00");
+    assertTrue(result.isSuccess());
+    assertEquals("Trip to Paris from Rome", result.getSubject());
+    assertEquals(LocalDateTime.of(2025, 6, 15, 11, 0), result.getEndTime());
+
+    //a "to" in the new value doesn't make the edit look for an end time
+    result = CommandParserCoordinator.parseCommand(
+            "edit event location Test from 2025-06-15T10:00 with walk to park");
+    assertTrue(result.isSuccess());
+    assertNull(result.getEventEnd());
+    assertEquals("walk to park", result.getNewValue());
+
+    result = CommandParserCoordinator.parseCommand("create event \"Test from 2025-06-15T10:00");
+    assertFalse(result.isSuccess());
+    assertEquals("Create command error: Quotation must close at column 14",
+            result.getErrorMessage());
+  }
+
+  @Test
+  public void testCommandGrammarReportsColumns() {
+    ParseResult result = CommandParserCoordinator.parseCommand(
+            "create event Lunch from tomorrow to 2025-06-15T11:00");
+    assertEquals("Create command error: Unexpected \"tomorrow\" at column 25, expected "
+            + "<start> (yyyy-MM-ddTHH:mm)", result.getErrorMessage());
+
+    result = CommandParserCoordinator.parseCommand("print events");
+    assertEquals("Print command error: Command ends too early at column 13, expected "
+            + "'from' or 'on'", result.getErrorMessage());
+
+    result = CommandParserCoordinator.parseCommand("show status on 2025-06-15T10:00 now");
+    assertEquals("Show status error: Unexpected \"now\" at column 33, expected "
+            + "the end of the command", result.getErrorMessage());
+
+    //a date of the right shape that doesn't exist is reported where it starts
+    result = CommandParserCoordinator.parseCommand(
+            "edit event subject Lunch from 2025-02-30T10:00 with Brunch");
+    assertEquals("Edit command error: Invalid datetime format: 2025-02-30T10:00 at column 31",
+            result.getErrorMessage());
+  }
+
+  @Test
+  public void testCommandGrammarCompile() {
+    CommandGrammar grammar = CommandGrammar.compile(
+            "greet: say hello [ to <name:text> ]",
+            "leave: say bye");
+    CommandGrammar.Match match = grammar.match(CommandTokens.of("SAY hello to \"Ada L\""));
+    assertEquals("greet", match.rule());
+    assertEquals("Ada L", match.value("name"));
+    assertEquals(14, match.column("name"));
+    assertFalse(grammar.match(CommandTokens.of("say hello")).has("name"));
+    assertEquals("leave", grammar.match(CommandTokens.of("say bye")).rule());
+
+    try {
+      CommandGrammar.compile("one: pick <first:text>", "two: pick <second:word>");
+      fail("Should throw exception for a grammar that can read a command two ways");
+    } catch (IllegalStateException e) {
+      assertEquals("Ambiguous grammar: a token can go into both <first> and <second>",
+              e.getMessage());
+    }
+
+    try {
+      CommandGrammar.compile("bad: pick ( <first:text>");
+      fail("Should throw exception for a group that isn't closed");
+    } catch (IllegalArgumentException e) {
+      assertEquals("Missing ) in pattern", e.getMessage());
+    }
+  }
+
   @Test
   public void testSuccessfulCommandParsing() {
     String validCommand = "create event Test from 2025-06-15T10:00 to 2025-06-15T11:00";
@@ -1028,4 +1255,429 @@ public class CommandParseTest {
     assertFalse("Should not be all-day", result.isAllDay());
     assertFalse("Should not be repeating", result.isRepeating());
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testParseResultsAreTypedPerCommand() {
+    ParseResult result = CommandParserCoordinator.parseCommand(
+            "copy events between 2025-06-01 and 2025-06-05 --target Work to 2025-07-01");
+    assertTrue("Should be a copy between", result instanceof ParseResult.CopyBetween);
+    ParseResult.CopyBetween copy = (ParseResult.CopyBetween) result;
+    assertEquals(LocalDate.of(2025, 6, 1), copy.getCopyStartDate());
+    assertEquals(LocalDate.of(2025, 6, 5), copy.getCopyEndDate());
+    assertEquals("Work", copy.getTargetCalendarName());
+    assertEquals(LocalDate.of(2025, 7, 1), copy.getTargetDate());
+    assertNull("Getters of other commands are null", copy.getSubject());
+
+    result = CommandParserCoordinator.parseCommand("print events on 2025-06-01");
+    assertTrue("Should be a print day", result instanceof ParseResult.PrintDay);
+    assertEquals(LocalDate.of(2025, 6, 1), ((ParseResult.PrintDay) result).getDate());
+    assertFalse(result.isPrintRange());
+
+    assertTrue(CommandParserCoordinator.parseCommand(
+            "edit series subject Meeting from 2025-06-01T09:00 with Standup")
+            instanceof ParseResult.EditSeries);
+    assertTrue(CommandParserCoordinator.parseCommand("undo") instanceof ParseResult.Undo);
+  }
+
+  @Test
+  public void testParseResultsDispatchToVisitor() {
+    CommandVisitor<String> names = new CommandVisitor<String>() {
+      @Override
+      public String visit(ParseResult.CreateEvent command) {
+        return "create " + command.getSubject();
+      }
+
+      @Override
+      public String visit(ParseResult.EditEvent command) {
+        return "edit event";
+      }
+
+      @Override
+      public String visit(ParseResult.EditEvents command) {
+        return "edit events";
+      }
+
+      @Override
+      public String visit(ParseResult.EditSeries command) {
+        return "edit series";
+      }
+
+      @Override
+      public String visit(ParseResult.DeleteEvent command) {
+        return "delete event";
+      }
+
+      @Override
+      public String visit(ParseResult.DeleteEvents command) {
+        return "delete events";
+      }
+
+      @Override
+      public String visit(ParseResult.DeleteSeries command) {
+        return "delete series";
+      }
+
+      @Override
+      public String visit(ParseResult.PrintDay command) {
+        return "print day";
+      }
+
+      @Override
+      public String visit(ParseResult.PrintInterval command) {
+        return "print interval";
+      }
+
+      @Override
+      public String visit(ParseResult.ShowStatus command) {
+        return "show status";
+      }
+
+      @Override
+      public String visit(ParseResult.CreateCalendar command) {
+        return "create calendar";
+      }
+
+      @Override
+      public String visit(ParseResult.EditCalendar command) {
+        return "edit calendar";
+      }
+
+      @Override
+      public String visit(ParseResult.UseCalendar command) {
+        return "use " + command.getCalendarName();
+      }
+
+      @Override
+      public String visit(ParseResult.CopyEvent command) {
+        return "copy event";
+      }
+
+      @Override
+      public String visit(ParseResult.CopyOnDay command) {
+        return "copy on day";
+      }
+
+      @Override
+      public String visit(ParseResult.CopyBetween command) {
+        return "copy between";
+      }
+
+      @Override
+      public String visit(ParseResult.MoveEvents command) {
+        return "move events";
+      }
+
+      @Override
+      public String visit(ParseResult.Undo command) {
+        return "undo";
+      }
+
+      @Override
+      public String visit(ParseResult.Redo command) {
+        return "redo";
+      }
+
+      @Override
+      public String visit(ParseResult.Exit command) {
+        return "exit";
+      }
+    };
+
+    assertEquals("create Lunch", CommandParserCoordinator.parseCommand(
+            "create event Lunch on 2025-06-01").accept(names));
+    assertEquals("delete events", CommandParserCoordinator.parseCommand(
+            "delete events Lunch from 2025-06-01T12:00").accept(names));
+    assertEquals("print interval", CommandParserCoordinator.parseCommand(
+            "print events from 2025-06-01T00:00 to 2025-06-02T00:00").accept(names));
+    assertEquals("use Work", CommandParserCoordinator.parseCommand(
+            "use calendar --name Work").accept(names));
+    assertEquals("redo", CommandParserCoordinator.parseCommand("redo").accept(names));
+    assertEquals("exit", CommandParserCoordinator.parseCommand("exit").accept(names));
+
+    try {
+      CommandParserCoordinator.parseCommand("frobnicate").accept(names);
+      fail("An error should not dispatch");
+    } catch (IllegalArgumentException e) {
+      assertEquals("Unknown command: frobnicate", e.getMessage());
+    }
+  }
+
+  @Test
+  public void testParseCacheEvictsLeastRecentlyUsed() {
+    ParseCache cache = new ParseCache(2);
+    int[] parses = new int[1];
+    Function<String, ParseResult> parser = input -> {
+      parses[0]++;
+      return CommandParserCoordinator.parseCommand(input);
+    };
+
+    ParseResult first = cache.get("use calendar --name Work", parser);
+    assertTrue("Surrounding whitespace is ignored",
+            first == cache.get("  use calendar --name Work ", parser));
+    cache.get("undo", parser);
+    cache.get("use calendar --name Work", parser);
+    cache.get("redo", parser);
+
+    assertEquals(3, parses[0]);
+    assertEquals(2, cache.hits());
+    assertEquals(3, cache.misses());
+    assertEquals(1, cache.evictions());
+    assertEquals(2, cache.size());
+    assertEquals(0.4, cache.hitRate(), 1e-9);
+
+    cache.get("use calendar --name Work", parser);
+    assertEquals("The most recently used entry was kept", 3, parses[0]);
+    cache.get("undo", parser);
+    assertEquals("The least recently used entry was dropped", 4, parses[0]);
+
+    cache.clear();
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.hits());
+
+    try {
+      new ParseCache(0);
+      fail("Should reject a cache that can hold nothing");
+    } catch (IllegalArgumentException e) {
+      assertEquals("Cache capacity must be positive: 0", e.getMessage());
+    }
+  }
+
+  @Test
+  public void testParseCacheSharesResultsAcrossThreads() throws InterruptedException {
+    ParseCache cache = new ParseCache(1024);
+    int threads = 8;
+    int commands = 300;
+    ParseResult[][] seen = new ParseResult[threads][commands];
+    Thread[] workers = new Thread[threads];
+    for (int t = 0; t < threads; t++) {
+      int thread = t;
+      workers[t] = new Thread(() -> {
+        for (int i = 0; i < commands; i++) {
+          String time = String.format("2025-06-%02dT%02d:00", 1 + i % 28, i / 28);
+          seen[thread][i] = cache.get("show status on " + time + " ",
+                  CommandParserCoordinator::parseCommand);
+        }
+      });
+      workers[t].start();
+    }
+    for (Thread worker : workers) {
+      worker.join();
+    }
+
+    //every thread got the same result for a command, even when two of them parsed it at once
+    for (int t = 1; t < threads; t++) {
+      for (int i = 0; i < commands; i++) {
+        assertTrue(seen[0][i] == seen[t][i]);
+      }
+    }
+    assertEquals(commands, cache.size());
+    assertEquals((long) threads * commands, cache.hits() + cache.misses());
+    assertTrue(cache.misses() >= commands);
+    assertEquals(0, cache.evictions());
+  }
+
+  @Test
+  public void testParseCacheCachesErrorsAndSharesResults() {
+    ParseResult error = CommandParserCoordinator.parseCommand("frobnicate twice");
+    assertFalse(error.isSuccess());
+    assertTrue("Errors are cached too",
+            error == CommandParserCoordinator.parseCommand("frobnicate twice"));
+
+    long hits = CommandParserCoordinator.cache().hits();
+    CommandParserCoordinator.parseCommand("show status on 2025-06-01T10:00");
+    CommandParserCoordinator.parseCommand("show status on 2025-06-01T10:00");
+    assertTrue(CommandParserCoordinator.cache().hits() > hits);
+    assertEquals("Input cannot be empty",
+            CommandParserCoordinator.parseCommand(null).getErrorMessage());
+  }
+
+  @Test
+  public void testBinaryCommandsRoundTrip() throws IOException {
+    String[] commands = {
+      "create event Standup from 2025-06-02T09:00 to 2025-06-02T09:15",
+      "create event \"Team Offsite\" on 2025-06-03",
+      "create event Gym from 2025-06-02T18:00 to 2025-06-02T19:00 repeats MWF for 6 times",
+      "create event Gym on 2025-06-02 repeats TR until 2025-07-01",
+      "edit event location Standup from 2025-06-02T09:00 to 2025-06-02T09:15 with Room 4",
+      "edit events subject Gym from 2025-06-02T18:00 with Lifting",
+      "edit series status Gym from 2025-06-02T18:00 with PRIVATE",
+      "delete event Standup from 2025-06-02T09:00 to 2025-06-02T09:15",
+      "delete events Gym from 2025-06-04T18:00",
+      "delete series Gym from 2025-06-02T18:00",
+      "print events on 2025-06-02",
+      "print events from 2025-06-01T00:00 to 2025-06-30T23:59",
+      "show status on 1969-12-31T23:59",
+      "create calendar --name Work --timezone Europe/Paris",
+      "edit calendar --name Work --property timezone Asia/Tokyo",
+      "use calendar --name Work",
+      "copy event Standup on 2025-06-02T09:00 --target Home to 2025-06-09T09:00",
+      "copy events on 2025-06-02 --target Home to 2025-06-09",
+      "copy events between 2025-06-01 and 2025-06-07 --target Home to 2025-07-01",
+      "move events between 2025-06-01 and 2025-06-07 --target Home",
+      "undo",
+      "redo",
+      "exit"
+    };
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    BinaryCommandWriter writer = new BinaryCommandWriter(bytes);
+    for (String command : commands) {
+      ParseResult parsed = CommandParserCoordinator.parseCommand(command);
+      assertTrue(command, parsed.isSuccess());
+      writer.write(parsed);
+    }
+
+    BinaryCommandReader reader =
+            new BinaryCommandReader(new ByteArrayInputStream(bytes.toByteArray()));
+    for (String command : commands) {
+      assertSameCommand(command, CommandParserCoordinator.parseCommand(command), reader.read());
+    }
+    assertNull("Stream should end", reader.read());
+  }
+
+  @Test
+  public void testBinaryCommandsShareStrings() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    BinaryCommandWriter writer = new BinaryCommandWriter(bytes);
+    ParseResult use =
+            CommandParserCoordinator.parseCommand("use calendar --name \"Work Calendar\"");
+    writer.write(use);
+    int first = bytes.size();
+    writer.write(use);
+    assertEquals("A repeated name is sent as its index", 4, bytes.size() - first);
+
+    try {
+      writer.write(CommandParserCoordinator.parseCommand("frobnicate"));
+      fail("Should not encode a parse error");
+    } catch (IllegalArgumentException e) {
+      assertEquals("Cannot encode a command that didn't parse: Unknown command: frobnicate",
+              e.getMessage());
+    }
+  }
+
+  @Test
+  public void testBinaryCommandsRejectMalformedFrames() throws IOException {
+    try {
+      new BinaryCommandReader(new ByteArrayInputStream("create event".getBytes()));
+      fail("Should reject text");
+    } catch (IllegalArgumentException e) {
+      assertEquals("Not a binary command stream", e.getMessage());
+    }
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    new BinaryCommandWriter(bytes);
+    bytes.write(new byte[] {3, 0, 99, 0});
+    bytes.write(new byte[] {2, 0, 18});
+    BinaryCommandReader reader =
+            new BinaryCommandReader(new ByteArrayInputStream(bytes.toByteArray()));
+    try {
+      reader.read();
+      fail("Should reject an unknown opcode");
+    } catch (IllegalArgumentException e) {
+      assertEquals("Unknown command opcode: 99", e.getMessage());
+    }
+    assertTrue("The next frame is still read", reader.read() instanceof ParseResult.Undo);
+  }
+
+  @Test
+  public void testBinaryCorruptFrameRejectsItsStrings() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    BinaryCommandWriter writer = new BinaryCommandWriter(bytes);
+    writer.write(CommandParserCoordinator.parseCommand("use calendar --name Work"));
+    //a use calendar frame that adds the string Home as index 1, then has a byte too many
+    bytes.write(new byte[] {9, 1, 13, 1, 4, 'H', 'o', 'm', 'e', 0});
+    //frames that use index 1, then index 0, then add index 2
+    bytes.write(new byte[] {3, 0, 13, 1});
+    bytes.write(new byte[] {3, 0, 13, 0});
+    bytes.write(new byte[] {8, 1, 13, 2, 4, 'T', 'e', 'a', 'm'});
+    BinaryCommandReader reader =
+            new BinaryCommandReader(new ByteArrayInputStream(bytes.toByteArray()));
+
+    assertEquals("Work", reader.read().getCalendarName());
+    try {
+      reader.read();
+      fail("Should reject a frame with bytes left over");
+    } catch (IllegalArgumentException e) {
+      assertEquals("Malformed command frame: 1 bytes left over", e.getMessage());
+    }
+    try {
+      reader.read();
+      fail("Should not run a frame with a string only the corrupt frame added");
+    } catch (IllegalArgumentException e) {
+      assertEquals("Command frame uses string 1, which is from a frame that couldn't be read",
+              e.getMessage());
+    }
+    assertEquals("Strings from before the corrupt frame are still known", "Work",
+            reader.read().getCalendarName());
+    assertEquals("Strings after it are read in step with the writer", "Team",
+            reader.read().getCalendarName());
+    assertNull(reader.read());
+  }
+
+  @Test
+  public void testBinaryFrameWithoutCountStopsNewStrings() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    BinaryCommandWriter writer = new BinaryCommandWriter(bytes);
+    writer.write(CommandParserCoordinator.parseCommand("use calendar --name Work"));
+    //an empty frame, which doesn't say how many strings it adds
+    bytes.write(new byte[] {0});
+    //frames that use index 0, then add index 1
+    bytes.write(new byte[] {3, 0, 13, 0});
+    bytes.write(new byte[] {8, 1, 13, 1, 4, 'T', 'e', 'a', 'm'});
+    BinaryCommandReader reader =
+            new BinaryCommandReader(new ByteArrayInputStream(bytes.toByteArray()));
+
+    assertEquals("Work", reader.read().getCalendarName());
+    try {
+      reader.read();
+      fail("Should reject an empty frame");
+    } catch (IllegalArgumentException e) {
+      assertEquals("Malformed command frame: ends too early", e.getMessage());
+    }
+    assertEquals("Work", reader.read().getCalendarName());
+    try {
+      reader.read();
+      fail("Should not trust the index of a new string after the empty frame");
+    } catch (IllegalArgumentException e) {
+      assertEquals("Command frame uses string 1, which is past a frame that couldn't be read",
+              e.getMessage());
+    }
+    assertNull(reader.read());
+  }
+
+  //checks that two commands are the same kind with the same values
+  private static void assertSameCommand(String message, ParseResult expected,
+                                        ParseResult actual) {
+    assertNotNull(message, actual);
+    assertEquals(message, expected.getClass(), actual.getClass());
+    assertEquals(message, expected.getSubject(), actual.getSubject());
+    assertEquals(message, expected.getStartTime(), actual.getStartTime());
+    assertEquals(message, expected.getEndTime(), actual.getEndTime());
+    assertEquals(message, expected.isRepeating(), actual.isRepeating());
+    if (expected.isRepeating()) {
+      RepeatInfo want = expected.getRepeatInfo();
+      RepeatInfo got = actual.getRepeatInfo();
+      assertEquals(message, want.getRepeatDays(), got.getRepeatDays());
+      assertEquals(message, want.getRepeatTimes(), got.getRepeatTimes());
+      assertEquals(message, want.getRepeatUntil(), got.getRepeatUntil());
+    }
+    assertEquals(message, expected.getProperty(), actual.getProperty());
+    assertEquals(message, expected.getEventSubject(), actual.getEventSubject());
+    assertEquals(message, expected.getEventStart(), actual.getEventStart());
+    assertEquals(message, expected.getEventEnd(), actual.getEventEnd());
+    assertEquals(message, expected.getNewValue(), actual.getNewValue());
+    assertEquals(message, expected.getPrintStartDate(), actual.getPrintStartDate());
+    assertEquals(message, expected.getPrintEndDate(), actual.getPrintEndDate());
+    assertEquals(message, expected.getStatusDateTime(), actual.getStatusDateTime());
+    assertEquals(message, expected.getCalendarName(), actual.getCalendarName());
+    assertEquals(message, expected.getTimezone(), actual.getTimezone());
+    assertEquals(message, expected.getPropertyName(), actual.getPropertyName());
+    assertEquals(message, expected.getPropertyValue(), actual.getPropertyValue());
+    assertEquals(message, expected.getTargetCalendarName(), actual.getTargetCalendarName());
+    assertEquals(message, expected.getTargetDateTime(), actual.getTargetDateTime());
+    assertEquals(message, expected.getSourceDate(), actual.getSourceDate());
+    assertEquals(message, expected.getTargetDate(), actual.getTargetDate());
+    assertEquals(message, expected.getCopyStartDate(), actual.getCopyStartDate());
+    assertEquals(message, expected.getCopyEndDate(), actual.getCopyEndDate());
+  }
+}
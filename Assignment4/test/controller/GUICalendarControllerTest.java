@@ -6,6 +6,7 @@ import static org.junit.Assert.*;
 
 import java.awt.event.ActionEvent;
 import java.lang.reflect.InvocationTargetException;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -13,9 +14,14 @@ import java.util.*;
 import javax.swing.*;
 
 import controller.parse.PropertyType;
+import model.calendar.CalendarLock;
 import model.calendar.Event;
+import model.calendar.ICalendar;
+import model.calendar.ICalendarListener;
 import model.calendar.IEvent;
 import model.calendar.ISpecificCalendar;
+import model.calendar.SeriesKey;
+import model.enums.CopyMode;
 import model.multicalendar.IMultiCalendar;
 import view.IGuiView;
 
@@ -392,14 +398,46 @@ public class GUICalendarControllerTest {
     public void copyEvents(LocalDate date, String calendarName, LocalDate targetDate) {}
 
     @Override
-    public void copyEventsInterval(LocalDate startDate, LocalDate endDate, String calendarName,
-                                   LocalDate targetDate) {}
+    public int copyEventsInterval(LocalDate startDate, LocalDate endDate, String calendarName,
+                                  LocalDate targetDate) {
+      return 0;
+    }
+
+    @Override
+    public void copyEvents(LocalDate date, String calendarName, LocalDate targetDate,
+                           CopyMode mode) {}
+
+    @Override
+    public int copyEventsInterval(LocalDate startDate, LocalDate endDate, String calendarName,
+                                  LocalDate targetDate, CopyMode mode) {
+      return 0;
+    }
+
+    @Override
+    public int moveEvents(LocalDate startDate, LocalDate endDate, String calendarName) {
+      return 0;
+    }
 
     @Override
     public List<ISpecificCalendar> getCalendars() {
       return calendars;
     }
 
+    @Override
+    public ISpecificCalendar overlay(String name, ZoneId timezone, List<String> memberNames) {
+      return null;
+    }
+
+    @Override
+    public ISpecificCalendar getCalendar(String name) {
+      for (ISpecificCalendar cal : calendars) {
+        if (cal.getName().equals(name)) {
+          return cal;
+        }
+      }
+      return null;
+    }
+
     @Override
     public ISpecificCalendar getCurrent() {
       for (ISpecificCalendar cal : calendars) {
@@ -410,6 +448,24 @@ public class GUICalendarControllerTest {
       return null;
     }
 
+    @Override
+    public void addListener(ICalendarListener listener) {}
+
+    @Override
+    public boolean undo() {
+      return false;
+    }
+
+    @Override
+    public boolean redo() {
+      return false;
+    }
+
+    @Override
+    public ICalendar viewAsOf(String name, Instant time) {
+      return null;
+    }
+
     public Event createEvent(String subject, LocalDateTime start, LocalDateTime end) {
       eventsCreated.add(new EventCreated(subject, start, end));
       Event event = new Event(subject, start);
@@ -424,6 +480,7 @@ public class GUICalendarControllerTest {
     private String name;
     private ZoneId timeZone;
     private Map<LocalDate, List<IEvent>> calendar = new HashMap<>();
+    private final CalendarLock lock = new CalendarLock();
     private MockMultiCalendar parentModel;
 
     MockSpecificCalendar(String name, ZoneId timeZone, MockMultiCalendar parent) {
@@ -448,10 +505,16 @@ public class GUICalendarControllerTest {
     public Map<LocalDate, List<IEvent>> getCalendar() { return calendar; }
 
     @Override
-    public Map<LocalDateTime, List<IEvent>> getSeries() { return new HashMap<>(); }
+    public Map<SeriesKey, List<IEvent>> getSeries() { return new HashMap<>(); }
+
+    @Override
+    public List<IEvent> getSeriesAt(LocalDateTime startTime) { return null; }
+
+    @Override
+    public CalendarLock getLock() { return lock; }
 
     @Override
-    public Map<LocalDateTime, LocalDateTime> getOldToNewSeries() { return new HashMap<>(); }
+    public Map<SeriesKey, SeriesKey> getOldToNewSeries() { return new HashMap<>(); }
 
     @Override
     public Event createEvent(String subject, LocalDateTime startTime, LocalDateTime endTime) {
@@ -488,6 +551,15 @@ public class GUICalendarControllerTest {
     public void editSeries(PropertyType property, String subject, LocalDateTime startTime,
                            String value) {}
 
+    @Override
+    public void deleteEvent(String subject, LocalDateTime startTime, LocalDateTime endTime) {}
+
+    @Override
+    public void deleteEvents(String subject, LocalDateTime startTime) {}
+
+    @Override
+    public void deleteSeries(String subject, LocalDateTime startTime) {}
+
     @Override
     public String printEvents(LocalDate day) { return ""; }
 
@@ -501,6 +573,23 @@ public class GUICalendarControllerTest {
     public void fullCreate(String subject, LocalDateTime startDate, LocalDateTime endDate,
                            String desc, model.enums.Location location, model.enums.Status status)
     {}
+
+    @Override
+    public void addSeriesCopy(IEvent event, SeriesKey seriesKey) {}
+
+    @Override
+    public void addCopies(List<IEvent> events, List<SeriesKey> seriesKeys) {}
+
+
+    @Override
+    public void moveTo(List<IEvent> events, ISpecificCalendar target, List<LocalDateTime> starts,
+                       List<LocalDateTime> ends, List<SeriesKey> seriesKeys) {}
+
+    @Override
+    public void addListener(ICalendarListener listener) {}
+
+    @Override
+    public void removeListener(ICalendarListener listener) {}
   }
 
   class MockGuiView implements IGuiView {
@@ -12,6 +12,7 @@ import java.util.List;
 import java.util.Map;
 
 import model.calendar.IEvent;
+import model.calendar.SeriesKey;
 import model.multicalendar.MultiCalendar;
 import model.multicalendar.IMultiCalendar;
 
@@ -19,6 +20,8 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
 
 
 /**
@@ -517,7 +520,7 @@ public class MultiCalendarCommandsTest {
     assertEquals("TeamMeeting", feb15.get(0).getSubject());
 
     // The putIntoSeries method should have added these to the series tracking
-    Map<LocalDateTime, List<IEvent>> targetSeries = controller.getMultiCalendar().getCurrent()
+    Map<SeriesKey, List<IEvent>> targetSeries = controller.getMultiCalendar().getCurrent()
             .getSeries();
 
     // There should be at least one series in the target calendar
@@ -623,6 +626,87 @@ public class MultiCalendarCommandsTest {
             copiedEvent.getStart());
   }
 
+  // ========== MOVE EVENTS COMMAND TESTS ==========
+
+  /**
+   * Tests that moving events re-homes the same events in the target calendar, at the same
+   * instants, and that undo puts them back.
+   */
+  @Test
+  public void testMoveEventsBetweenDates() {
+    controller.executeCommand("create calendar --name Source " +
+            "--timezone America/New_York");
+    controller.executeCommand("create calendar --name Target " +
+            "--timezone Europe/London");
+    controller.executeCommand("use calendar --name Source");
+
+    controller.executeCommand("create event Day1 from 2025-01-15T10:00 " +
+            "to 2025-01-15T11:00");
+    controller.executeCommand("create event Weekly from 2025-01-16T14:00 " +
+            "to 2025-01-16T15:00 repeats R for 2 times");
+    IMultiCalendar multi = controller.getMultiCalendar();
+    IEvent day1 = multi.getCalendar("Source").getCalendar().get(LocalDate.of(2025, 1, 15))
+            .get(0);
+
+    String result = controller.executeCommand("move events between 2025-01-15 and " +
+            "2025-01-23 --target Target");
+    assertTrue(result.contains("Moved 3 events"));
+
+    Map<LocalDate, List<IEvent>> source = multi.getCalendar("Source").getCalendar();
+    Map<LocalDate, List<IEvent>> target = multi.getCalendar("Target").getCalendar();
+    assertTrue(source.isEmpty());
+    assertSame(day1, target.get(LocalDate.of(2025, 1, 15)).get(0));
+    assertEquals(LocalDateTime.of(2025, 1, 15, 15, 0), day1.getStart());
+    assertEquals(2, multi.getCalendar("Target").getSeriesAt(LocalDateTime.of(2025, 1, 16, 19, 0))
+            .size());
+
+    controller.executeCommand("undo");
+    assertTrue(target.isEmpty());
+    assertSame(day1, source.get(LocalDate.of(2025, 1, 15)).get(0));
+    assertEquals(LocalDateTime.of(2025, 1, 15, 10, 0), day1.getStart());
+    assertEquals(2, multi.getCalendar("Source").getSeriesAt(LocalDateTime.of(2025, 1, 16, 14, 0))
+            .size());
+
+    controller.executeCommand("redo");
+    assertTrue(source.isEmpty());
+    assertEquals(LocalDateTime.of(2025, 1, 15, 15, 0), day1.getStart());
+  }
+
+  /**
+   * Tests that nothing moves when one of the events is already in the target calendar.
+   */
+  @Test
+  public void testMoveEventsAllOrNothing() {
+    controller.executeCommand("create calendar --name Source " +
+            "--timezone America/New_York");
+    controller.executeCommand("create calendar --name Target " +
+            "--timezone America/New_York");
+    controller.executeCommand("use calendar --name Target");
+    controller.executeCommand("create event Day2 from 2025-01-16T14:00 " +
+            "to 2025-01-16T15:00");
+    controller.executeCommand("use calendar --name Source");
+    controller.executeCommand("create event Day1 from 2025-01-15T10:00 " +
+            "to 2025-01-15T11:00");
+    controller.executeCommand("create event Day2 from 2025-01-16T14:00 " +
+            "to 2025-01-16T15:00");
+
+    try {
+      controller.executeCommand("move events between 2025-01-15 and 2025-01-16 --target Target");
+      fail("Should throw exception for an event that is already in the target");
+    } catch (IllegalArgumentException e) {
+      assertEquals("Failed to move events: Event already exists", e.getMessage());
+    }
+    assertEquals(2, controller.getMultiCalendar().getCurrent().getCalendar().size());
+
+    try {
+      controller.executeCommand("move events on 2025-01-15 --target Source");
+      fail("Should throw exception for moving events to their own calendar");
+    } catch (IllegalArgumentException e) {
+      assertEquals("Failed to move events: Events are already in calendar Source",
+              e.getMessage());
+    }
+  }
+
   /**
    * Tests creating and using calendars with spaces in their names.
    */
@@ -659,4 +743,21 @@ public class MultiCalendarCommandsTest {
     assertEquals("Should start at 8:00 AM", 8, copiedEvent.getStart().getHour());
     assertEquals("Should end at 5:00 PM", 17, copiedEvent.getEnd().getHour());
   }
-}
\ No newline at end of file
+
+  /**
+   * Tests that show status reads through the calendar and still sees an event on the days
+   * between its first and last.
+   */
+  @Test
+  public void testShowStatusOnMultiDayEvent() {
+    controller.executeCommand("create calendar --name Trips --timezone America/New_York");
+    controller.executeCommand("use calendar --name Trips");
+    controller.executeCommand("create event Conference from 2025-03-10T09:00 " +
+            "to 2025-03-12T17:00");
+
+    assertEquals("busy", controller.executeCommand("show status on 2025-03-11T03:00"));
+    assertEquals("busy", controller.executeCommand("show status on 2025-03-12T16:59"));
+    assertEquals("available", controller.executeCommand("show status on 2025-03-12T17:00"));
+    assertEquals("available", controller.executeCommand("show status on 2025-03-10T08:59"));
+  }
+}
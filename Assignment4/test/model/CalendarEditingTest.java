@@ -418,7 +418,7 @@ public class CalendarEditingTest {
     calendar.createSeriesTimes("Weekly Meeting", testStart, testEnd, repeatDays, 3);
 
     // Verify series created
-    List<IEvent> seriesEvents = calendar.getSeries().get(testStart);
+    List<IEvent> seriesEvents = calendar.getSeriesAt(testStart);
     assertNotNull("Series should exist", seriesEvents);
     assertEquals("Should have 9 events (3 days × 3 times)", 9, seriesEvents.size());
 
@@ -445,9 +445,9 @@ public class CalendarEditingTest {
     }
 
     // Verify series still exists
-    assertTrue("Series should still exist", calendar.getSeries().containsKey(testStart));
+    assertTrue("Series should still exist", calendar.getSeriesAt(testStart) != null);
     assertEquals("Series should still have all events", 9,
-            calendar.getSeries().get(testStart).size());
+            calendar.getSeriesAt(testStart).size());
   }
 
   /**
@@ -459,7 +459,7 @@ public class CalendarEditingTest {
     List<String> repeatDays = Arrays.asList("T", "R");
     calendar.createSeriesTimes("Team Sync", testStart, testEnd, repeatDays, 2);
 
-    List<IEvent> seriesEvents = calendar.getSeries().get(testStart);
+    List<IEvent> seriesEvents = calendar.getSeriesAt(testStart);
     assertEquals("Should have 4 events", 4, seriesEvents.size());
 
     // Verify all events have default location
@@ -492,7 +492,7 @@ public class CalendarEditingTest {
     List<String> repeatDays = Arrays.asList("W");
     calendar.createSeriesTimes("Weekly Check", testStart, testEnd, repeatDays, 3);
 
-    List<IEvent> seriesEvents = calendar.getSeries().get(testStart);
+    List<IEvent> seriesEvents = calendar.getSeriesAt(testStart);
     assertEquals("Should have 3 events", 3, seriesEvents.size());
 
     // Store original times
@@ -530,7 +530,7 @@ public class CalendarEditingTest {
     List<String> repeatDays = Arrays.asList("M", "F");
     calendar.createSeriesTimes("Bi-weekly Review", testStart, testEnd, repeatDays, 4);
 
-    List<IEvent> seriesEvents = calendar.getSeries().get(testStart);
+    List<IEvent> seriesEvents = calendar.getSeriesAt(testStart);
     assertEquals("Should have 8 events (2 days × 4 times)", 8, seriesEvents.size());
 
     // All events should initially have same subject
@@ -582,7 +582,7 @@ public class CalendarEditingTest {
     List<String> repeatDays = Arrays.asList("T", "R");
     calendar.createSeriesTimes("Team Meeting", testStart, testEnd, repeatDays, 3);
 
-    List<IEvent> seriesEvents = calendar.getSeries().get(testStart);
+    List<IEvent> seriesEvents = calendar.getSeriesAt(testStart);
     assertEquals("Should have 6 events", 6, seriesEvents.size());
 
     // Get second Tuesday's start time (position 1)
@@ -627,7 +627,7 @@ public class CalendarEditingTest {
     List<String> repeatDays = Arrays.asList("W");
     calendar.createSeriesTimes("Base Meeting", testStart, testEnd, repeatDays, 4);
 
-    List<IEvent> seriesEvents = calendar.getSeries().get(testStart);
+    List<IEvent> seriesEvents = calendar.getSeriesAt(testStart);
     assertEquals("Should have 4 events", 4, seriesEvents.size());
 
     // Manually change subject of third event to create mixed subjects
@@ -665,7 +665,7 @@ public class CalendarEditingTest {
     List<String> repeatDays = Arrays.asList("M", "W", "F");
     calendar.createSeriesTimes("Daily Standup", testStart, testEnd, repeatDays, 2);
 
-    List<IEvent> seriesEvents = calendar.getSeries().get(testStart);
+    List<IEvent> seriesEvents = calendar.getSeriesAt(testStart);
     assertEquals("Should have 6 events (3 days × 2 times)", 6, seriesEvents.size());
 
     // Verify all events have original subject
@@ -682,9 +682,9 @@ public class CalendarEditingTest {
     }
 
     // Verify series still exists with same key
-    assertTrue("Series should still exist", calendar.getSeries().containsKey(testStart));
+    assertTrue("Series should still exist", calendar.getSeriesAt(testStart) != null);
     assertEquals("Series should have same number of events", 6,
-            calendar.getSeries().get(testStart).size());
+            calendar.getSeriesAt(testStart).size());
   }
 
   @Test
@@ -693,7 +693,7 @@ public class CalendarEditingTest {
     List<String> repeatDays = Arrays.asList("T", "F");
     calendar.createSeriesTimes("Weekly Review", testStart, testEnd, repeatDays, 3);
 
-    List<IEvent> seriesEvents = calendar.getSeries().get(testStart);
+    List<IEvent> seriesEvents = calendar.getSeriesAt(testStart);
     assertEquals("Should have 6 events", 6, seriesEvents.size());
 
     // Edit multiple properties of entire series
@@ -718,7 +718,7 @@ public class CalendarEditingTest {
     List<String> repeatDays = Arrays.asList("W", "F");
     calendar.createSeriesTimes("Meeting Series", testStart, testEnd, repeatDays, 2);
 
-    List<IEvent> originalEvents = calendar.getSeries().get(testStart);
+    List<IEvent> originalEvents = calendar.getSeriesAt(testStart);
     assertEquals("Should have 4 events initially", 4, originalEvents.size());
 
     // Store original start times for comparison
@@ -732,10 +732,10 @@ public class CalendarEditingTest {
     calendar.editSeries(PropertyType.START, "Meeting Series", testStart, newSeriesStart.toString());
 
     // Verify old series key removed and new series key created
-    assertFalse("Old series key should be removed", calendar.getSeries().containsKey(testStart));
-    assertTrue("New series key should exist", calendar.getSeries().containsKey(newSeriesStart));
+    assertFalse("Old series key should be removed", calendar.getSeriesAt(testStart) != null);
+    assertTrue("New series key should exist", calendar.getSeriesAt(newSeriesStart) != null);
 
-    List<IEvent> updatedEvents = calendar.getSeries().get(newSeriesStart);
+    List<IEvent> updatedEvents = calendar.getSeriesAt(newSeriesStart);
     assertEquals("Should still have 4 events", 4, updatedEvents.size());
 
     // Verify all start times shifted by 2 hours
@@ -764,7 +764,7 @@ public class CalendarEditingTest {
 
     calendar.createSeriesTimes("Monday Meeting", seriesStart, seriesEnd, repeatDays, 3);
 
-    List<IEvent> seriesEvents = calendar.getSeries().get(seriesStart);
+    List<IEvent> seriesEvents = calendar.getSeriesAt(seriesStart);
     assertEquals("Should have 3 events", 3, seriesEvents.size());
 
     // Verify original end times
@@ -799,14 +799,14 @@ public class CalendarEditingTest {
     calendar.createSeriesTimes("Real Series", testStart, testEnd, repeatDays, 2);
 
     // Verify series exists
-    assertTrue("Real series should exist", calendar.getSeries().containsKey(testStart));
+    assertTrue("Real series should exist", calendar.getSeriesAt(testStart) != null);
 
     // Try to edit non-existent series
     LocalDateTime fakeStart = testStart.plusDays(1);
     calendar.editSeries(PropertyType.SUBJECT, "Fake Series", fakeStart, "Updated");
 
     // Verify original series unchanged
-    List<IEvent> realEvents = calendar.getSeries().get(testStart);
+    List<IEvent> realEvents = calendar.getSeriesAt(testStart);
     for (IEvent event : realEvents) {
       assertEquals("Real series events should remain unchanged", "Real Series", event.getSubject());
     }
@@ -818,7 +818,7 @@ public class CalendarEditingTest {
     List<String> repeatDays = Arrays.asList("M", "W");
     calendar.createSeriesTimes("Original Series", testStart, testEnd, repeatDays, 3);
 
-    List<IEvent> originalEvents = calendar.getSeries().get(testStart);
+    List<IEvent> originalEvents = calendar.getSeriesAt(testStart);
     assertEquals("Should have 6 events initially", 6, originalEvents.size());
 
     // Edit start time of entire series to break continuity
@@ -826,10 +826,10 @@ public class CalendarEditingTest {
     calendar.editSeries(PropertyType.START, "Original Series", testStart, newStart.toString());
 
     // Verify old series removed, new series created
-    assertFalse("Old series should be removed", calendar.getSeries().containsKey(testStart));
-    assertTrue("New series should exist", calendar.getSeries().containsKey(newStart));
+    assertFalse("Old series should be removed", calendar.getSeriesAt(testStart) != null);
+    assertTrue("New series should exist", calendar.getSeriesAt(newStart) != null);
 
-    List<IEvent> newEvents = calendar.getSeries().get(newStart);
+    List<IEvent> newEvents = calendar.getSeriesAt(newStart);
     assertEquals("New series should have same number of events", 6, newEvents.size());
 
     // Verify all events moved to new day pattern
@@ -852,7 +852,7 @@ public class CalendarEditingTest {
 
     calendar.createSeriesTimes("First", may5Start, may5End, mondayWednesday, 6);
 
-    List<IEvent> firstSeries = calendar.getSeries().get(may5Start);
+    List<IEvent> firstSeries = calendar.getSeriesAt(may5Start);
     assertEquals("Should have 12 events (2 days × 6 times)", 12, firstSeries.size());
 
     // Verify all events have "First" subject initially
@@ -910,11 +910,11 @@ public class CalendarEditingTest {
 
     // This should split the series - some events remain in original series, others move to
     // new series
-    assertTrue("Original series should still exist", calendar.getSeries().containsKey(may5Start));
-    assertTrue("New series should be created", calendar.getSeries().containsKey(newStartTime));
+    assertTrue("Original series should still exist", calendar.getSeriesAt(may5Start) != null);
+    assertTrue("New series should be created", calendar.getSeriesAt(newStartTime) != null);
 
-    List<IEvent> originalRemaining = calendar.getSeries().get(may5Start);
-    List<IEvent> newSeries = calendar.getSeries().get(newStartTime);
+    List<IEvent> originalRemaining = calendar.getSeriesAt(may5Start);
+    List<IEvent> newSeries = calendar.getSeriesAt(newStartTime);
 
     assertTrue("Original series should have remaining events", originalRemaining.size() > 0);
     assertTrue("New series should have moved events", newSeries.size() > 0);
@@ -945,4 +945,78 @@ public class CalendarEditingTest {
             originalRemaining.get(0).getStart().toLocalTime(),
             newSeries.get(0).getStart().toLocalTime());
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testDeleteSingleEvent() {
+    calendar.createEvent("Meeting", testStart, testEnd);
+    calendar.createEvent("Lunch", testStart.plusHours(2), testEnd.plusHours(2));
+
+    calendar.deleteEvent("Meeting", testStart, testEnd);
+
+    List<IEvent> events = calendar.getCalendar().get(testDate);
+    assertEquals(1, events.size());
+    assertEquals("Lunch", events.get(0).getSubject());
+
+    calendar.deleteEvent("Lunch", testStart.plusHours(2), testEnd.plusHours(2));
+    assertFalse("Empty days should be dropped", calendar.getCalendar().containsKey(testDate));
+  }
+
+  @Test
+  public void testDeleteMissingEventThrows() {
+    try {
+      calendar.deleteEvent("Meeting", testStart, testEnd);
+      fail("Should not be able to delete an event that doesn't exist");
+    } catch (IllegalArgumentException e) {
+      assertEquals("Event not found", e.getMessage());
+    }
+  }
+
+  @Test
+  public void testDeleteMultiDayEvent() {
+    LocalDateTime end = testStart.plusDays(2);
+    calendar.createEvent("Trip", testStart, end);
+    assertEquals(3, calendar.getCalendar().size());
+
+    calendar.deleteEvent("Trip", testStart, end);
+    assertTrue(calendar.getCalendar().isEmpty());
+  }
+
+  @Test
+  public void testDeleteEventsFromSeries() {
+    LocalDateTime monday = LocalDateTime.of(2025, 6, 16, 9, 0);
+    calendar.createSeriesTimes("Standup", monday, monday.plusMinutes(30),
+            Arrays.asList("M", "W"), 3);
+    assertEquals(6, calendar.getSeriesAt(monday).size());
+
+    // deletes the second wednesday and everything after it
+    calendar.deleteEvents("Standup", LocalDateTime.of(2025, 6, 25, 9, 0));
+
+    assertEquals(3, calendar.getSeriesAt(monday).size());
+    assertTrue(calendar.getCalendar().containsKey(LocalDate.of(2025, 6, 23)));
+    assertFalse(calendar.getCalendar().containsKey(LocalDate.of(2025, 6, 25)));
+    assertFalse(calendar.getCalendar().containsKey(LocalDate.of(2025, 6, 30)));
+  }
+
+  @Test
+  public void testDeleteSeries() {
+    LocalDateTime monday = LocalDateTime.of(2025, 6, 16, 9, 0);
+    calendar.createSeriesTimes("Standup", monday, monday.plusMinutes(30),
+            Arrays.asList("M", "W"), 3);
+    calendar.createEvent("Lunch", LocalDateTime.of(2025, 6, 18, 12, 0),
+            LocalDateTime.of(2025, 6, 18, 13, 0));
+
+    calendar.deleteSeries("Standup", LocalDateTime.of(2025, 6, 18, 9, 0));
+
+    assertFalse(calendar.getSeriesAt(monday) != null);
+    assertEquals(1, calendar.getCalendar().size());
+    assertEquals("Lunch", calendar.getCalendar().get(LocalDate.of(2025, 6, 18)).get(0)
+            .getSubject());
+  }
+
+  @Test
+  public void testDeleteSeriesOfSingleEvent() {
+    calendar.createEvent("Meeting", testStart, testEnd);
+    calendar.deleteSeries("Meeting", testStart);
+    assertTrue(calendar.getCalendar().isEmpty());
+  }
+}
@@ -7,6 +7,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -257,8 +258,8 @@ public class CalendarEventTest {
     calendar.createSeriesTimes("Weekly Meeting", testStart, testEnd, repeatDays, 3);
 
     // Verify series is tracked
-    assertTrue("Series should be tracked", calendar.getSeries().containsKey(testStart));
-    List<IEvent> seriesEvents = calendar.getSeries().get(testStart);
+    assertTrue("Series should be tracked", calendar.getSeriesAt(testStart) != null);
+    List<IEvent> seriesEvents = calendar.getSeriesAt(testStart);
     assertNotNull("Series events should not be null", seriesEvents);
     assertEquals("Should create 9 events (3 days × 3 times)", 9, seriesEvents.size());
 
@@ -281,7 +282,7 @@ public class CalendarEventTest {
     // Test with specific occurrences
     calendar.createSeriesTimes("Daily Standup", testStart, testEnd, repeatDays, 4);
 
-    List<IEvent> seriesEvents = calendar.getSeries().get(testStart);
+    List<IEvent> seriesEvents = calendar.getSeriesAt(testStart);
     assertEquals("Should create 8 events (2 days × 4 times)", 8, seriesEvents.size());
 
     // Verify events are spaced correctly (weekly)
@@ -302,8 +303,8 @@ public class CalendarEventTest {
     calendar.createSeriesUntil("Recurring Meeting", testStart, testEnd, repeatDays, until);
 
     // Verify series exists
-    assertTrue("Series should be tracked", calendar.getSeries().containsKey(testStart));
-    List<IEvent> seriesEvents = calendar.getSeries().get(testStart);
+    assertTrue("Series should be tracked", calendar.getSeriesAt(testStart) != null);
+    List<IEvent> seriesEvents = calendar.getSeriesAt(testStart);
     assertNotNull("Series events should not be null", seriesEvents);
 
     // Verify no events after until date
@@ -322,7 +323,7 @@ public class CalendarEventTest {
     List<String> repeatDays = List.of("F");
     calendar.createSeriesTimes("Friday Off", allDayStart, null, repeatDays, 3);
 
-    List<IEvent> seriesEvents = calendar.getSeries().get(allDayStart);
+    List<IEvent> seriesEvents = calendar.getSeriesAt(allDayStart);
     assertEquals("Should create 3 all-day events", 3, seriesEvents.size());
 
     // Verify all events are all-day
@@ -339,7 +340,7 @@ public class CalendarEventTest {
 
     calendar.createSeriesUntil("Weekend Events", allDayStart, null, repeatDays, until);
 
-    List<IEvent> seriesEvents = calendar.getSeries().get(allDayStart);
+    List<IEvent> seriesEvents = calendar.getSeriesAt(allDayStart);
     assertTrue("Should create multiple weekend events", seriesEvents.size() >= 2);
 
     for (IEvent event : seriesEvents) {
@@ -353,7 +354,7 @@ public class CalendarEventTest {
     List<String> repeatDays = Arrays.asList("M", "T", "W", "R", "F");
     calendar.createSeriesTimes("Daily Meeting", testStart, testEnd, repeatDays, 2);
 
-    List<IEvent> seriesEvents = calendar.getSeries().get(testStart);
+    List<IEvent> seriesEvents = calendar.getSeriesAt(testStart);
 
     // Verify all events have same time of day
     int expectedHour = testStart.getHour();
@@ -377,7 +378,7 @@ public class CalendarEventTest {
     List<String> repeatDays = Arrays.asList("M", "W", "F");
     calendar.createSeriesTimes("MWF Meeting", testStart, testEnd, repeatDays, 2);
 
-    List<IEvent> seriesEvents = calendar.getSeries().get(testStart);
+    List<IEvent> seriesEvents = calendar.getSeriesAt(testStart);
     assertEquals("Should have 6 events (3 days × 2 weeks)", 6, seriesEvents.size());
 
     // Verify days of week
@@ -393,7 +394,7 @@ public class CalendarEventTest {
     List<String> repeatDays = List.of("W");
     calendar.createSeriesTimes("Wednesday Meeting", testStart, testEnd, repeatDays, 4);
 
-    List<IEvent> seriesEvents = calendar.getSeries().get(testStart);
+    List<IEvent> seriesEvents = calendar.getSeriesAt(testStart);
     assertEquals("Should create 4 Wednesday events", 4, seriesEvents.size());
 
     // Verify all are on Wednesday (day 3)
@@ -416,7 +417,7 @@ public class CalendarEventTest {
     List<String> repeatDays = Arrays.asList("M", "T", "W", "R", "F", "S", "U");
     calendar.createSeriesTimes("Daily Events", testStart, testEnd, repeatDays, 1);
 
-    List<IEvent> seriesEvents = calendar.getSeries().get(testStart);
+    List<IEvent> seriesEvents = calendar.getSeriesAt(testStart);
     assertEquals("Should create 7 events (one for each day)", 7, seriesEvents.size());
 
     // Verify we have all days of the week
@@ -440,7 +441,7 @@ public class CalendarEventTest {
 
     // Verify first series exists
     assertEquals("Should have 4 events in first series",
-            4, calendar.getSeries().get(testStart).size());
+            4, calendar.getSeriesAt(testStart).size());
 
     // Try to create overlapping series (should detect duplicates)
     try {
@@ -467,13 +468,13 @@ public class CalendarEventTest {
     calendar.createSeriesTimes("Weekend Fun", weekendTime, testEnd.plusHours(2), weekendSeries, 1);
 
     // Verify both series exist
-    assertTrue("Weekday series should exist", calendar.getSeries().containsKey(weekdayTime));
-    assertTrue("Weekend series should exist", calendar.getSeries().containsKey(weekendTime));
+    assertTrue("Weekday series should exist", calendar.getSeriesAt(weekdayTime) != null);
+    assertTrue("Weekend series should exist", calendar.getSeriesAt(weekendTime) != null);
 
     assertEquals("Weekday series should have 5 events",
-            5, calendar.getSeries().get(weekdayTime).size());
+            5, calendar.getSeriesAt(weekdayTime).size());
     assertEquals("Weekend series should have 2 events",
-            2, calendar.getSeries().get(weekendTime).size());
+            2, calendar.getSeriesAt(weekendTime).size());
   }
 
   @Test
@@ -492,11 +493,45 @@ public class CalendarEventTest {
     assertEquals("Main calendar should contain all series events", 4, eventCount);
 
     // Verify series events and calendar events are the same objects
-    List<IEvent> seriesEvents = calendar.getSeries().get(testStart);
+    List<IEvent> seriesEvents = calendar.getSeriesAt(testStart);
     for (IEvent seriesEvent : seriesEvents) {
       LocalDate eventDate = seriesEvent.getStart().toLocalDate();
       List<IEvent> dayEvents = mainCalendar.get(eventDate);
       assertTrue("Calendar should contain the series event", dayEvents.contains(seriesEvent));
     }
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testSeriesWithDuplicateLeavesCalendarUnchanged() {
+    // 2025-06-15 is a Sunday, so the second Monday of the series is 2025-06-23
+    calendar.createEvent("Standup", LocalDateTime.of(2025, 6, 23, 10, 0),
+            LocalDateTime.of(2025, 6, 23, 11, 0));
+    List<String> repeatDays = Arrays.asList("M", "W");
+    try {
+      calendar.createSeriesTimes("Standup", testStart, testEnd, repeatDays, 3);
+      fail("Should throw exception for series overlapping an existing event");
+    } catch (IllegalArgumentException e) {
+      assertEquals("Event already exists", e.getMessage());
+    }
+
+    assertFalse("Series should not be created", calendar.getSeriesAt(testStart) != null);
+    assertNull("No events should be added on the first Monday",
+            calendar.getCalendar().get(LocalDate.of(2025, 6, 16)));
+    assertEquals("Only the existing event should be on the second Monday",
+            1, calendar.getCalendar().get(LocalDate.of(2025, 6, 23)).size());
+
+    // the start time can still be used for a series that doesn't overlap
+    calendar.createSeriesTimes("Planning", testStart, testEnd, repeatDays, 3);
+    assertEquals("Series should have 6 events", 6, calendar.getSeriesAt(testStart).size());
+  }
+
+  @Test
+  public void testSeriesIgnoresRepeatedWeekdays() {
+    calendar.createSeriesUntil("Gym", testStart, testEnd, Arrays.asList("T", "t", "T"),
+            LocalDate.of(2025, 7, 1));
+    List<IEvent> events = calendar.getSeriesAt(testStart);
+    assertEquals("Series should have one event per Tuesday", 3, events.size());
+    assertEquals(LocalDateTime.of(2025, 6, 17, 10, 0), events.get(0).getStart());
+    assertEquals(LocalDateTime.of(2025, 7, 1, 10, 0), events.get(2).getStart());
+  }
+}
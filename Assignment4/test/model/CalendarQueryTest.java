@@ -20,6 +20,7 @@ import model.calendar.Calendar;
 import model.calendar.Event;
 import model.calendar.ICalendar;
 import model.calendar.IEvent;
+import model.calendar.SeriesKey;
 import model.enums.Location;
 import model.enums.Status;
 
@@ -481,11 +482,11 @@ public class CalendarQueryTest {
     calendar.createSeriesTimes("Weekly Meeting", seriesStart, seriesEnd, repeatDays, 3);
 
     // Verify series creation
-    Map<LocalDateTime, List<IEvent>> seriesData = calendar.getSeries();
+    Map<SeriesKey, List<IEvent>> seriesData = calendar.getSeries();
     assertFalse("Series should not be empty", seriesData.isEmpty());
-    assertTrue("Series should contain the start time", seriesData.containsKey(seriesStart));
+    assertTrue("Series should contain the start time", calendar.getSeriesAt(seriesStart) != null);
 
-    List<IEvent> seriesEvents = seriesData.get(seriesStart);
+    List<IEvent> seriesEvents = calendar.getSeriesAt(seriesStart);
     assertNotNull("Series events should not be null", seriesEvents);
     assertFalse("Series should have events", seriesEvents.isEmpty());
 
@@ -843,9 +844,9 @@ public class CalendarQueryTest {
     calendar.createSeriesTimes("Weekly Meeting", seriesStart, seriesEnd, repeatDays, 3);
 
     // Verify series creation
-    Map<LocalDateTime, List<IEvent>> seriesData = calendar.getSeries();
+    Map<SeriesKey, List<IEvent>> seriesData = calendar.getSeries();
     assertFalse("Series should not be empty", seriesData.isEmpty());
-    assertTrue("Series should contain start time", seriesData.containsKey(seriesStart));
+    assertTrue("Series should contain start time", calendar.getSeriesAt(seriesStart) != null);
 
     // Calculate dates
     LocalDate monday = testDate.plusDays(1);
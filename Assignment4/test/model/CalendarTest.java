@@ -184,7 +184,7 @@ public class CalendarTest {
     //full day event series
     calendar.createSeriesTimes("Series1", LocalDateTime.parse("2025-12-24T05:00"), null,
             repeatedDays, 3);
-    List<IEvent> events = calendar.getSeries().get(LocalDateTime.parse("2025-12-24T05:00"));
+    List<IEvent> events = calendar.getSeriesAt(LocalDateTime.parse("2025-12-24T05:00"));
 
     List<IEvent> event24 = calendar.getCalendar().get(LocalDate.parse("2025-12-24"));
     List<IEvent> event25 = calendar.getCalendar().get(LocalDate.parse("2025-12-25"));
@@ -235,7 +235,7 @@ public class CalendarTest {
     List<String> repeatedDays2 = new ArrayList<>(Arrays.asList("W", "F"));
     calendar.createSeriesTimes("Series2", LocalDateTime.parse("2025-12-24T05:00"),
             LocalDateTime.parse("2025-12-24T06:00"), repeatedDays2, 2);
-    List<IEvent> events2 = calendar.getSeries().get(LocalDateTime.parse("2025-12-24T05:00"));
+    List<IEvent> events2 = calendar.getSeriesAt(LocalDateTime.parse("2025-12-24T05:00"));
 
     //checks if the correct amount of events are added to the map
     assertEquals("Should have 4 timed series events", 4, events2.size());
@@ -266,7 +266,7 @@ public class CalendarTest {
     //full day event series
     calendar.createSeriesUntil("Series1", LocalDateTime.parse("2025-12-24T05:00"), null,
             repeatedDays, LocalDate.parse("2026-01-03"));
-    List<IEvent> events = calendar.getSeries().get(LocalDateTime.parse("2025-12-24T05:00"));
+    List<IEvent> events = calendar.getSeriesAt(LocalDateTime.parse("2025-12-24T05:00"));
     assertEquals("Should have 6 events until Jan 3", 6, events.size());
 
     //first 3 events
@@ -300,7 +300,7 @@ public class CalendarTest {
     List<String> repeatedDays2 = new ArrayList<>(Arrays.asList("W", "F"));
     calendar.createSeriesUntil("Series2", LocalDateTime.parse("2025-12-24T05:00"),
             LocalDateTime.parse("2025-12-24T06:00"), repeatedDays2, LocalDate.parse("2026-01-01"));
-    List<IEvent> events2 = calendar.getSeries().get(LocalDateTime.parse("2025-12-24T05:00"));
+    List<IEvent> events2 = calendar.getSeriesAt(LocalDateTime.parse("2025-12-24T05:00"));
 
     //checks if the correct amount of events are added to the map
     assertEquals("Should have 3 events until Jan 1", 3, events2.size());
@@ -488,17 +488,17 @@ public class CalendarTest {
     LocalDateTime start = LocalDateTime.parse("2025-12-24T05:00");
     LocalDateTime end = LocalDateTime.parse("2025-12-24T06:00");
     calendar.createSeriesTimes("Series", start, end, repeatedDays2, 2);
-    List<IEvent> dec24Events = calendar.getSeries().get(LocalDateTime.parse("2025-12-24T05:00"));
+    List<IEvent> dec24Events = calendar.getSeriesAt(LocalDateTime.parse("2025-12-24T05:00"));
     assertEquals("Should have 4 series events", 4, dec24Events.size());
 
     //edits the start day by 1 day
     calendar.editSeries(PropertyType.START, "Series", start, "2025-12-26T05:00");
     LocalDateTime newStart = LocalDateTime.parse("2025-12-26T05:00");
-    assertFalse("Old series key should be removed", calendar.getSeries().containsKey(start));
-    assertTrue("New series key should exist", calendar.getSeries().containsKey(newStart));
+    assertFalse("Old series key should be removed", calendar.getSeriesAt(start) != null);
+    assertTrue("New series key should exist", calendar.getSeriesAt(newStart) != null);
 
     //checks that everything was edited accordingly
-    List<IEvent> dec26Series = calendar.getSeries().get(LocalDateTime.parse("2025-12-26T05:00"));
+    List<IEvent> dec26Series = calendar.getSeriesAt(LocalDateTime.parse("2025-12-26T05:00"));
     assertEquals("New series should have 4 events", 4, dec26Series.size());
 
     Event dec26 = new Event.EventBuilder("Series", LocalDateTime.parse("2025-12-26T05:00"))
@@ -556,7 +556,7 @@ public class CalendarTest {
     List<String> repeatedDays = new ArrayList<>(Arrays.asList("W", "F"));
     calendar.createSeriesTimes("base", LocalDateTime.parse("2025-12-26T05:00"),
             LocalDateTime.parse("2025-12-26T06:00"), repeatedDays, 2);
-    List<IEvent> dec26Events = calendar.getSeries().get(LocalDateTime.parse("2025-12-26T05:00"));
+    List<IEvent> dec26Events = calendar.getSeriesAt(LocalDateTime.parse("2025-12-26T05:00"));
     assertEquals("Should have 4 series events", 4, dec26Events.size());
 
     //changes the subject to events to jan 2 and after
@@ -595,7 +595,7 @@ public class CalendarTest {
     // corresponding events.
     calendar.editEvents(PropertyType.START, "Series", LocalDateTime.parse("2026-01-02T05:00"),
             "2026-01-05T06:00");
-    List<IEvent> jan5Events = calendar.getSeries().get(LocalDateTime.parse("2026-01-05T06:00"));
+    List<IEvent> jan5Events = calendar.getSeriesAt(LocalDateTime.parse("2026-01-05T06:00"));
 
     //two events get removed into another series
     assertEquals("Original series should have 2 events", 2, dec26Events.size());
@@ -605,7 +605,7 @@ public class CalendarTest {
     calendar.editEvents(PropertyType.END, "Series", LocalDateTime.parse("2026-01-05T06:00"),
             "2026-01-05T10:00");
     assertEquals("End time should be updated", LocalDateTime.parse("2026-01-05T10:00"),
-            calendar.getSeries().get(LocalDateTime.parse("2026-01-05T06:00")).get(0).getEnd());
+            calendar.getSeriesAt(LocalDateTime.parse("2026-01-05T06:00")).get(0).getEnd());
   }
 
   @Test
@@ -0,0 +1,136 @@
+package model.calendar;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import controller.parse.PropertyType;
+import model.enums.ChangeType;
+import model.enums.Location;
+import model.multicalendar.MultiCalendar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the changes that calendars publish to their listeners.
+ */
+public class CalendarChangeTest {
+  Calendar cal;
+  List<CalendarChange> changes;
+
+  @Before
+  public void setUp() {
+    cal = new Calendar();
+    changes = new ArrayList<>();
+    cal.addListener(changes::add);
+  }
+
+  @Test
+  public void addedTest() {
+    Event event = cal.createEvent("event1", LocalDateTime.parse("2000-10-10T10:00"),
+            LocalDateTime.parse("2000-10-10T11:00"));
+    assertEquals(1, changes.size());
+    assertEquals(ChangeType.ADDED, changes.get(0).getType());
+    assertSame(event, changes.get(0).getEvent());
+    assertSame(cal, changes.get(0).getSource());
+    assertEquals(LocalDateTime.parse("2000-10-10T10:00"), changes.get(0).getStart());
+  }
+
+  @Test
+  public void seriesAddedTest() {
+    cal.createSeriesTimes("event1", LocalDateTime.parse("2025-06-16T10:00"),
+            LocalDateTime.parse("2025-06-16T11:00"), Arrays.asList("M", "W"), 2);
+    assertEquals(4, changes.size());
+    for (CalendarChange change : changes) {
+      assertEquals(ChangeType.ADDED, change.getType());
+    }
+  }
+
+  @Test
+  public void movedTest() {
+    cal.createEvent("event1", LocalDateTime.parse("2000-10-10T10:00"),
+            LocalDateTime.parse("2000-10-10T11:00"));
+    changes.clear();
+    cal.editEvent(PropertyType.START, "event1", LocalDateTime.parse("2000-10-10T10:00"),
+            LocalDateTime.parse("2000-10-10T11:00"), "2000-10-12T10:00");
+
+    assertEquals(1, changes.size());
+    CalendarChange change = changes.get(0);
+    assertEquals(ChangeType.MOVED, change.getType());
+    assertEquals(LocalDateTime.parse("2000-10-10T10:00"), change.getPreviousStart());
+    assertEquals(LocalDateTime.parse("2000-10-10T11:00"), change.getPreviousEnd());
+    assertEquals(LocalDateTime.parse("2000-10-12T10:00"), change.getStart());
+    assertEquals(LocalDateTime.parse("2000-10-12T11:00"), change.getEnd());
+  }
+
+  @Test
+  public void fieldChangedTest() {
+    cal.createEvent("event1", LocalDateTime.parse("2000-10-10T10:00"),
+            LocalDateTime.parse("2000-10-10T11:00"));
+    changes.clear();
+    cal.editEvent(PropertyType.LOCATION, "event1", LocalDateTime.parse("2000-10-10T10:00"),
+            LocalDateTime.parse("2000-10-10T11:00"), "physical");
+    cal.editEvent(PropertyType.END, "event1", LocalDateTime.parse("2000-10-10T10:00"),
+            LocalDateTime.parse("2000-10-10T11:00"), "2000-10-10T12:00");
+
+    assertEquals(2, changes.size());
+    assertEquals(ChangeType.FIELD_CHANGED, changes.get(0).getType());
+    assertEquals(PropertyType.LOCATION, changes.get(0).getProperty());
+    assertEquals(Location.ONLINE, changes.get(0).getPreviousValue());
+    assertEquals(Location.PHYSICAL, changes.get(0).getNewValue());
+
+    assertEquals(PropertyType.END, changes.get(1).getProperty());
+    assertEquals(LocalDateTime.parse("2000-10-10T11:00"), changes.get(1).getPreviousEnd());
+    assertEquals(LocalDateTime.parse("2000-10-10T12:00"), changes.get(1).getEnd());
+  }
+
+  @Test
+  public void removeListenerTest() {
+    ICalendarListener other = changes::add;
+    cal.addListener(other);
+    cal.removeListener(other);
+    cal.createEvent("event1", LocalDateTime.parse("2000-10-10T10:00"), null);
+    assertEquals(1, changes.size());
+  }
+
+  @Test
+  public void copyPublishesToTargetTest() {
+    MultiCalendar mc = new MultiCalendar();
+    mc.addCalendar("c1", ZoneId.of("America/New_York"));
+    mc.addListener(changes::add);
+    mc.addCalendar("c2", ZoneId.of("America/New_York"));
+    ISpecificCalendar c1 = mc.getCalendars().get(0);
+    ISpecificCalendar c2 = mc.getCalendars().get(1);
+
+    c1.createSeriesTimes("event1", LocalDateTime.parse("2025-06-16T10:00"),
+            LocalDateTime.parse("2025-06-16T11:00"), Arrays.asList("M"), 2);
+    mc.useCalendar("c1");
+    changes.clear();
+    mc.copyEvents(LocalDate.parse("2025-06-16"), "c2", LocalDate.parse("2025-06-17"));
+
+    assertEquals(1, changes.size());
+    assertSame(c2, changes.get(0).getSource());
+    assertEquals(ChangeType.ADDED, changes.get(0).getType());
+    assertEquals(LocalDateTime.parse("2025-06-17T10:00"), changes.get(0).getStart());
+  }
+
+  @Test
+  public void hasListenersTest() {
+    CalendarEventBus bus = new CalendarEventBus();
+    assertFalse(bus.hasListeners());
+    ICalendarListener listener = changes::add;
+    bus.subscribe(listener);
+    assertTrue(bus.hasListeners());
+    bus.unsubscribe(listener);
+    assertFalse(bus.hasListeners());
+  }
+}
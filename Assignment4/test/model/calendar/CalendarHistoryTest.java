@@ -0,0 +1,236 @@
+package model.calendar;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+
+import controller.parse.PropertyType;
+import model.enums.Location;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests undoing, redoing and viewing older versions of calendars.
+ */
+public class CalendarHistoryTest {
+  Calendar cal;
+  CalendarHistory history;
+
+  @Before
+  public void setUp() {
+    cal = new Calendar();
+    history = new CalendarHistory();
+    cal.addListener(history);
+  }
+
+  @Test
+  public void undoRedoAddTest() {
+    cal.createEvent("event1", LocalDateTime.parse("2000-10-10T10:00"),
+            LocalDateTime.parse("2000-10-10T11:00"));
+    assertEquals(1, history.getVersion());
+
+    assertTrue(history.undo());
+    assertTrue(cal.getCalendar().isEmpty());
+    assertEquals(0, history.getVersion());
+    assertFalse(history.undo());
+
+    assertTrue(history.redo());
+    assertEquals("event1", cal.getCalendar().get(LocalDate.parse("2000-10-10")).get(0)
+            .getSubject());
+    assertFalse(history.redo());
+  }
+
+  @Test
+  public void undoEditsTest() {
+    cal.createEvent("event1", LocalDateTime.parse("2000-10-10T10:00"),
+            LocalDateTime.parse("2000-10-10T11:00"));
+    //both edits are made under one hold of the lock, like one command, so they are one version
+    cal.getLock().writeLock().lock();
+    try {
+      cal.editEvent(PropertyType.LOCATION, "event1", LocalDateTime.parse("2000-10-10T10:00"),
+              LocalDateTime.parse("2000-10-10T11:00"), "physical");
+      cal.editEvent(PropertyType.START, "event1", LocalDateTime.parse("2000-10-10T10:00"),
+              LocalDateTime.parse("2000-10-10T11:00"), "2000-10-12T10:00");
+      assertEquals(1, history.getVersion());
+    } finally {
+      cal.getLock().writeLock().unlock();
+    }
+    assertEquals(2, history.getVersion());
+
+    assertFalse(cal.getCalendar().containsKey(LocalDate.parse("2000-10-10")));
+    history.undo();
+
+    IEvent event = cal.getCalendar().get(LocalDate.parse("2000-10-10")).get(0);
+    assertEquals(Location.ONLINE, event.getLocation());
+    assertEquals(LocalDateTime.parse("2000-10-10T11:00"), event.getEnd());
+    assertFalse(cal.getCalendar().containsKey(LocalDate.parse("2000-10-12")));
+
+    history.redo();
+    assertEquals(Location.PHYSICAL, event.getLocation());
+    assertEquals(LocalDateTime.parse("2000-10-12T10:00"), event.getStart());
+    assertTrue(cal.getCalendar().containsKey(LocalDate.parse("2000-10-12")));
+  }
+
+  @Test
+  public void undoSeriesTest() {
+    LocalDateTime start = LocalDateTime.parse("2025-06-16T10:00");
+    cal.createSeriesTimes("event1", start, LocalDateTime.parse("2025-06-16T11:00"),
+            Arrays.asList("M", "W"), 2);
+    cal.editEvents(PropertyType.START, "event1", LocalDateTime.parse("2025-06-18T10:00"),
+            "2025-06-18T12:00");
+    assertEquals(1, cal.getSeriesAt(start).size());
+
+    history.undo();
+    assertEquals(4, cal.getSeriesAt(start).size());
+    assertFalse(cal.getSeriesAt(LocalDateTime.parse("2025-06-18T12:00")) != null);
+
+    history.undo();
+    assertTrue(cal.getSeries().isEmpty());
+    assertTrue(cal.getCalendar().isEmpty());
+  }
+
+  @Test
+  public void undoDeleteTest() {
+    LocalDateTime start = LocalDateTime.parse("2025-06-16T10:00");
+    cal.createSeriesTimes("event1", start, LocalDateTime.parse("2025-06-16T11:00"),
+            Arrays.asList("M"), 3);
+    cal.deleteSeries("event1", start);
+    assertTrue(cal.getCalendar().isEmpty());
+
+    history.undo();
+    assertEquals(3, cal.getSeriesAt(start).size());
+    assertEquals(3, cal.getCalendar().size());
+  }
+
+  @Test
+  public void newVersionClearsRedoTest() {
+    cal.createEvent("event1", LocalDateTime.parse("2000-10-10T10:00"), null);
+    history.undo();
+    cal.createEvent("event2", LocalDateTime.parse("2000-10-11T10:00"), null);
+    assertFalse(history.redo());
+  }
+
+  @Test
+  public void viewAtTest() {
+    MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+    history = new CalendarHistory(clock);
+    cal = new Calendar();
+    cal.addListener(history);
+
+    cal.createEvent("event1", LocalDateTime.parse("2000-10-10T10:00"),
+            LocalDateTime.parse("2000-10-10T11:00"));
+    clock.now = Instant.parse("2025-01-02T00:00:00Z");
+    cal.getLock().writeLock().lock();
+    try {
+      cal.editEvent(PropertyType.SUBJECT, "event1", LocalDateTime.parse("2000-10-10T10:00"),
+              LocalDateTime.parse("2000-10-10T11:00"), "renamed");
+      cal.deleteEvent("renamed", LocalDateTime.parse("2000-10-10T10:00"),
+              LocalDateTime.parse("2000-10-10T11:00"));
+    } finally {
+      cal.getLock().writeLock().unlock();
+    }
+
+    assertEquals(0, history.versionAt(Instant.parse("2024-12-31T00:00:00Z")));
+    assertEquals(1, history.versionAt(Instant.parse("2025-01-01T12:00:00Z")));
+    assertEquals(2, history.versionAt(Instant.parse("2025-01-03T00:00:00Z")));
+
+    ICalendar yesterday = history.viewAt(cal, 1);
+    assertEquals("event1", yesterday.getCalendar().get(LocalDate.parse("2000-10-10")).get(0)
+            .getSubject());
+    assertTrue(history.viewAt(cal, 0).getCalendar().isEmpty());
+    // looking at an older version leaves the calendar alone
+    assertTrue(cal.getCalendar().isEmpty());
+  }
+
+  /**
+   * A clock that tests can move forward by hand.
+   */
+  private static class MutableClock extends Clock {
+    private Instant now;
+
+    MutableClock(Instant now) {
+      this.now = now;
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+
+  @Test
+  public void threadsSaveSeparateVersionsTest() throws InterruptedException {
+    Calendar other = new Calendar();
+    other.addListener(history);
+    //this thread's command is still running when another thread's command changes another
+    //calendar and finishes
+    cal.getLock().writeLock().lock();
+    try {
+      cal.createEvent("mine", LocalDateTime.parse("2000-10-10T10:00"),
+              LocalDateTime.parse("2000-10-10T11:00"));
+      Thread thread = new Thread(() -> other.createEvent("theirs",
+              LocalDateTime.parse("2000-10-11T10:00"), LocalDateTime.parse("2000-10-11T11:00")));
+      thread.start();
+      thread.join();
+      assertEquals(1, history.getVersion());
+    } finally {
+      cal.getLock().writeLock().unlock();
+    }
+    assertEquals(2, history.getVersion());
+
+    //undoing this thread's command leaves the other thread's event alone
+    assertTrue(history.undo());
+    assertTrue(cal.getCalendar().isEmpty());
+    assertEquals("theirs", other.getCalendar().get(LocalDate.parse("2000-10-11")).get(0)
+            .getSubject());
+    assertTrue(history.undo());
+    assertTrue(other.getCalendar().isEmpty());
+
+    //nothing is pending once both commands finished, so both can be redone
+    assertTrue(history.redo());
+    assertTrue(history.redo());
+    assertEquals(2, history.getVersion());
+  }
+
+  @Test
+  public void changesAcrossCalendarsAreOneVersionTest() {
+    Calendar other = new Calendar();
+    other.addListener(history);
+    //a command that holds the locks of two calendars makes one version of both
+    List<Lock> locks = CalendarLock.lockInOrder(Collections.emptyList(),
+            Arrays.asList(cal.getLock(), other.getLock()));
+    try {
+      cal.createEvent("first", LocalDateTime.parse("2000-10-10T10:00"), null);
+      other.createEvent("second", LocalDateTime.parse("2000-10-10T10:00"), null);
+    } finally {
+      CalendarLock.unlockAll(locks);
+    }
+    assertEquals(1, history.getVersion());
+
+    assertTrue(history.undo());
+    assertTrue(cal.getCalendar().isEmpty());
+    assertTrue(other.getCalendar().isEmpty());
+  }
+}
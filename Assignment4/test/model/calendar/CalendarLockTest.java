@@ -0,0 +1,105 @@
+package model.calendar;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests the lock of a calendar and its optimistic reads.
+ */
+public class CalendarLockTest {
+  CalendarLock lock = new CalendarLock();
+
+  //takes and releases the write lock on another thread, as a writer would
+  private void writeElsewhere() {
+    Thread writer = new Thread(() -> {
+      lock.writeLock().lock();
+      lock.writeLock().unlock();
+    });
+    writer.start();
+    try {
+      writer.join();
+    } catch (InterruptedException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Test
+  public void readsWithoutLockingTest() {
+    int readers = lock.optimisticRead(() -> lock.getReadLockCount(), count -> count);
+    assertEquals(0, readers);
+  }
+
+  @Test
+  public void overlappingWriteRetriesUnderReadLockTest() {
+    AtomicInteger runs = new AtomicInteger();
+    int readers = lock.optimisticRead(() -> {
+      if (runs.incrementAndGet() == 1) {
+        writeElsewhere();
+      }
+      return lock.getReadLockCount();
+    }, count -> count);
+    assertEquals(2, runs.get());
+    assertEquals(1, readers);
+    assertEquals(0, lock.getReadLockCount());
+  }
+
+  @Test
+  public void writeWhileUsingCopyRetriesTest() {
+    AtomicInteger copies = new AtomicInteger();
+    AtomicInteger uses = new AtomicInteger();
+    int readers = lock.optimisticRead(() -> copies.incrementAndGet(), copy -> {
+      if (uses.incrementAndGet() == 1) {
+        writeElsewhere();
+      }
+      return lock.getReadLockCount();
+    });
+    //the copy is taken again under the read lock, not only used again
+    assertEquals(2, copies.get());
+    assertEquals(2, uses.get());
+    assertEquals(1, readers);
+  }
+
+  @Test
+  public void tornCopyErrorsAreIgnoredTest() {
+    AtomicInteger runs = new AtomicInteger();
+    String read = lock.optimisticRead(() -> {
+      if (runs.incrementAndGet() == 1) {
+        writeElsewhere();
+        throw new AssertionError("torn read");
+      }
+      return "read";
+    }, copy -> copy);
+    assertEquals("read", read);
+    assertEquals(2, runs.get());
+  }
+
+  @Test
+  public void writerCanReadTest() {
+    lock.writeLock().lock();
+    lock.writeLock().lock();
+    try {
+      assertEquals("read", lock.optimisticRead(() -> "read", copy -> copy));
+    } finally {
+      lock.writeLock().unlock();
+      lock.writeLock().unlock();
+    }
+    //the write stamp was given back with the last unlock
+    assertEquals(0, (int) lock.optimisticRead(() -> lock.getReadLockCount(), count -> count));
+  }
+
+  @Test
+  public void queryErrorsAreKeptTest() {
+    try {
+      lock.optimisticRead(() -> "copy", copy -> {
+        throw new IllegalArgumentException("Event not found");
+      });
+      fail("Should throw the exception of the query");
+    } catch (IllegalArgumentException e) {
+      assertEquals("Event not found", e.getMessage());
+    }
+  }
+}
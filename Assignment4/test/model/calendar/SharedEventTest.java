@@ -0,0 +1,154 @@
+package model.calendar;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+
+import controller.parse.PropertyType;
+import model.enums.CopyMode;
+import model.enums.Location;
+import model.multicalendar.MultiCalendar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests events that are copied by reference to another calendar.
+ */
+public class SharedEventTest {
+  MultiCalendar mc;
+  ISpecificCalendar source;
+  ISpecificCalendar team;
+
+  @Before
+  public void setUp() {
+    mc = new MultiCalendar();
+    mc.addCalendar("source", ZoneId.of("America/New_York"));
+    mc.addCalendar("team", ZoneId.of("Europe/London"));
+    source = mc.getCalendar("source");
+    team = mc.getCalendar("team");
+    source.createEvent("standup", LocalDateTime.parse("2025-06-16T09:00"),
+            LocalDateTime.parse("2025-06-16T09:30"));
+    mc.useCalendar("source");
+  }
+
+  //gets the only event of the team calendar on a day
+  private IEvent teamEvent(String day) {
+    return team.getCalendar().get(LocalDate.parse(day)).get(0);
+  }
+
+  @Test
+  public void sharedCopyTest() {
+    assertEquals(1, mc.copyEventsInterval(LocalDate.parse("2025-06-16"),
+            LocalDate.parse("2025-06-16"), "team", LocalDate.parse("2025-06-23"),
+            CopyMode.SHARED));
+
+    IEvent copy = teamEvent("2025-06-23");
+    assertTrue(copy instanceof SharedEvent);
+    IEvent original = source.getCalendar().get(LocalDate.parse("2025-06-16")).get(0);
+    assertSame(EventDetails.of(original), ((SharedEvent) copy).getDetails());
+    //converted to London time and moved a week
+    assertEquals(LocalDateTime.parse("2025-06-23T14:00"), copy.getStart());
+    assertEquals(LocalDateTime.parse("2025-06-23T14:30"), copy.getEnd());
+    assertEquals("standup", copy.getSubject());
+  }
+
+  @Test
+  public void copiesShareDetailsTest() {
+    mc.copyEvents(LocalDate.parse("2025-06-16"), "team", LocalDate.parse("2025-06-16"),
+            CopyMode.SHARED);
+    mc.copyEvents(LocalDate.parse("2025-06-16"), "team", LocalDate.parse("2025-06-17"),
+            CopyMode.SHARED);
+    SharedEvent first = (SharedEvent) teamEvent("2025-06-16");
+    SharedEvent second = (SharedEvent) teamEvent("2025-06-17");
+    assertSame(first.getDetails(), second.getDetails());
+
+    //a copy of a copy shares the same details too
+    mc.useCalendar("team");
+    mc.copyEvents(LocalDate.parse("2025-06-16"), "team", LocalDate.parse("2025-06-20"),
+            CopyMode.SHARED);
+    assertSame(first.getDetails(), ((SharedEvent) teamEvent("2025-06-20")).getDetails());
+  }
+
+  @Test
+  public void sourceEditsDontShowTest() {
+    mc.copyEvents(LocalDate.parse("2025-06-16"), "team", LocalDate.parse("2025-06-16"),
+            CopyMode.SHARED);
+    SharedEvent copy = (SharedEvent) teamEvent("2025-06-16");
+    EventDetails before = copy.getDetails();
+
+    source.editEvent(PropertyType.LOCATION, "standup", LocalDateTime.parse("2025-06-16T09:00"),
+            LocalDateTime.parse("2025-06-16T09:30"), "physical");
+    assertEquals(Location.ONLINE, copy.getLocation());
+    assertSame(before, copy.getDetails());
+
+    //copies made after the edit get the edited details
+    mc.copyEvents(LocalDate.parse("2025-06-16"), "team", LocalDate.parse("2025-06-17"),
+            CopyMode.SHARED);
+    assertEquals(Location.PHYSICAL, teamEvent("2025-06-17").getLocation());
+  }
+
+  @Test
+  public void copyEditsStayInCopyTest() {
+    mc.copyEvents(LocalDate.parse("2025-06-16"), "team", LocalDate.parse("2025-06-16"),
+            CopyMode.SHARED);
+    mc.copyEvents(LocalDate.parse("2025-06-16"), "team", LocalDate.parse("2025-06-17"),
+            CopyMode.SHARED);
+    IEvent copy = teamEvent("2025-06-16");
+
+    team.editEvent(PropertyType.SUBJECT, "standup", LocalDateTime.parse("2025-06-16T14:00"),
+            LocalDateTime.parse("2025-06-16T14:30"), "team standup");
+    assertEquals("team standup", copy.getSubject());
+    assertEquals("standup", teamEvent("2025-06-17").getSubject());
+    assertEquals("standup", source.getCalendar().get(LocalDate.parse("2025-06-16")).get(0)
+            .getSubject());
+
+    //the edited copy can still be found and removed from the team calendar
+    team.deleteEvent("team standup", LocalDateTime.parse("2025-06-16T14:00"),
+            LocalDateTime.parse("2025-06-16T14:30"));
+    assertTrue(team.getCalendar().getOrDefault(LocalDate.parse("2025-06-16"),
+            Collections.emptyList()).isEmpty());
+    assertEquals(1, source.getCalendar().get(LocalDate.parse("2025-06-16")).size());
+  }
+
+  @Test
+  public void sharedAndDeepCopiesAreDuplicatesTest() {
+    mc.copyEvents(LocalDate.parse("2025-06-16"), "team", LocalDate.parse("2025-06-16"));
+    IEvent deep = teamEvent("2025-06-16");
+    SharedEvent shared = new SharedEvent(EventDetails.of(deep), deep.getStart(), deep.getEnd());
+    assertEquals(deep, shared);
+    assertEquals(shared, deep);
+    assertEquals(deep.hashCode(), shared.hashCode());
+
+    try {
+      mc.copyEvents(LocalDate.parse("2025-06-16"), "team", LocalDate.parse("2025-06-16"),
+              CopyMode.SHARED);
+      fail("Should throw exception for copying the same event twice");
+    } catch (IllegalArgumentException e) {
+      assertEquals("Event already exists", e.getMessage());
+    }
+  }
+
+  @Test
+  public void editIntoDuplicateTest() {
+    mc.copyEvents(LocalDate.parse("2025-06-16"), "team", LocalDate.parse("2025-06-16"),
+            CopyMode.SHARED);
+    team.createEvent("sync", LocalDateTime.parse("2025-06-16T14:00"),
+            LocalDateTime.parse("2025-06-16T14:30"));
+
+    //the copy's calendar checks an edit of the copy against its other events
+    try {
+      team.editEvent(PropertyType.SUBJECT, "standup", LocalDateTime.parse("2025-06-16T14:00"),
+              LocalDateTime.parse("2025-06-16T14:30"), "sync");
+      fail("Should throw exception for editing the copy into a duplicate");
+    } catch (IllegalArgumentException e) {
+      assertEquals("Event already exists", e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,108 @@
+package model.multicalendar;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import model.calendar.IEvent;
+import model.calendar.ISpecificCalendar;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the multiCalendar with several threads changing its calendars at once.
+ */
+public class MultiCalendarConcurrencyTest {
+  MultiCalendar mc;
+
+  @Before
+  public void setUp() {
+    mc = new MultiCalendar();
+    for (int i = 0; i < 4; i++) {
+      mc.addCalendar("c" + i, ZoneId.of("America/New_York"));
+    }
+  }
+
+  //counts the distinct events of a calendar
+  private int countEvents(ISpecificCalendar calendar) {
+    int count = 0;
+    for (List<IEvent> events : calendar.getCalendar().values()) {
+      count += events.size();
+    }
+    return count;
+  }
+
+  @Test(timeout = 20000)
+  public void writersOnDifferentCalendarsTest() throws Exception {
+    ExecutorService pool = Executors.newFixedThreadPool(4);
+    List<Future<?>> done = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      ISpecificCalendar calendar = mc.getCalendar("c" + i);
+      done.add(pool.submit(() -> {
+        for (int n = 0; n < 500; n++) {
+          LocalDateTime start = LocalDateTime.parse("2025-01-01T09:00").plusHours(n);
+          calendar.createEvent("event" + n, start, start.plusMinutes(30));
+        }
+      }));
+    }
+    for (Future<?> future : done) {
+      future.get();
+    }
+    pool.shutdown();
+
+    for (int i = 0; i < 4; i++) {
+      assertEquals(500, countEvents(mc.getCalendar("c" + i)));
+    }
+  }
+
+  @Test(timeout = 20000)
+  public void copyWhileTargetChangesTest() throws Exception {
+    ISpecificCalendar source = mc.getCalendar("c0");
+    ISpecificCalendar target = mc.getCalendar("c1");
+    for (int n = 0; n < 20; n++) {
+      LocalDateTime start = LocalDateTime.parse("2025-01-01T09:00").plusDays(n);
+      source.createEvent("copied" + n, start, start.plusHours(1));
+    }
+    mc.useCalendar("c0");
+
+    ExecutorService pool = Executors.newFixedThreadPool(2);
+    Callable<Integer> copier = () -> {
+      int copied = 0;
+      for (int week = 0; week < 50; week++) {
+        copied += mc.copyEventsInterval(LocalDate.parse("2025-01-01"),
+                LocalDate.parse("2025-01-20"), "c1", LocalDate.parse("2026-01-01")
+                        .plusWeeks(week * 3L));
+      }
+      return copied;
+    };
+    Callable<Integer> writer = () -> {
+      for (int n = 0; n < 1000; n++) {
+        LocalDateTime start = LocalDateTime.parse("2030-01-01T09:00").plusHours(n);
+        target.createEvent("own" + n, start, start.plusMinutes(30));
+      }
+      return 1000;
+    };
+    Future<Integer> copies = pool.submit(copier);
+    Future<Integer> writes = pool.submit(writer);
+    int total = copies.get() + writes.get();
+    pool.shutdown();
+
+    assertEquals(2000, total);
+    assertEquals(2000, countEvents(target));
+    //every copy and every create became its own version, so undoing all of them empties the
+    //target
+    while (mc.undo()) {
+      continue;
+    }
+    assertEquals(0, countEvents(target));
+  }
+}
@@ -6,14 +6,21 @@ import org.junit.Test;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
+import model.calendar.IEvent;
 import model.calendar.ISpecificCalendar;
+import model.calendar.SeriesKey;
 
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -77,6 +84,28 @@ public class MultiCalendarTest {
     }
   }
 
+  @Test
+  public void renamedCalendarLookupTest() {
+    mc.addCalendar("c2", ZoneId.of("Europe/Paris"));
+    ISpecificCalendar c1 = mc.getCalendar("c1");
+    mc.editCalendar("c1", "name", "newC1");
+
+    //the calendar is only found by its new name
+    assertNull(mc.getCalendar("c1"));
+    assertSame(c1, mc.getCalendar("newC1"));
+    mc.useCalendar("newC1");
+    assertSame(c1, mc.getCurrent());
+
+    //the old name is free again
+    mc.addCalendar("c1", ZoneId.of("Asia/Tokyo"));
+    assertEquals(ZoneId.of("Asia/Tokyo"), mc.getCalendar("c1").getTimeZone());
+    assertEquals(3, mc.getCalendars().size());
+
+    //renaming to its own name keeps it
+    mc.editCalendar("c2", "name", "c2");
+    assertEquals("c2", mc.getCalendar("c2").getName());
+  }
+
   @Test
   public void useCalendarTest() {
     mc.addCalendar("c2", ZoneId.of("Europe/Paris"));
@@ -184,8 +213,9 @@ public class MultiCalendarTest {
             c2.getCalendar().get(LocalDate.parse("2000-10-12")).get(0).getEnd());
 
     //checks if the event that's in a series gets added
-    assertTrue(c2.getOldToNewSeries().containsKey(LocalDateTime.parse("2000-10-10T08:00")));
-    assertTrue(c2.getSeries().containsKey(LocalDateTime.parse("2000-10-12T17:00")));
+    assertTrue(c2.getOldToNewSeries().containsKey(seriesKey(c1,
+            LocalDateTime.parse("2000-10-10T08:00"))));
+    assertTrue(c2.getSeriesAt(LocalDateTime.parse("2000-10-12T17:00")) != null);
 
     assertEquals(4, c2.getCalendar().get(LocalDate.parse("2000-10-12")).size());
   }
@@ -237,7 +267,224 @@ public class MultiCalendarTest {
             c2.getCalendar().get(LocalDate.parse("2000-10-14")).get(0).getEnd());
 
     //checking if c2 calendar succesfully created series
-    assertTrue(c2.getOldToNewSeries().containsKey(LocalDateTime.parse("2000-10-12T08:00")));
-    assertEquals(2, c2.getSeries().get(LocalDateTime.parse("2000-10-13T17:00")).size());
+    assertTrue(c2.getOldToNewSeries().containsKey(seriesKey(c1,
+            LocalDateTime.parse("2000-10-12T08:00"))));
+    assertEquals(2, c2.getSeriesAt(LocalDateTime.parse("2000-10-13T17:00")).size());
+  }
+
+  @Test
+  public void copyEventsIntervalMultiDayTest() {
+    mc.addCalendar("c2", ZoneId.of("America/Los_Angeles"));
+    ISpecificCalendar c1 = mc.getCalendar("c1");
+    ISpecificCalendar c2 = mc.getCalendar("c2");
+    c1.createEvent("trip", LocalDateTime.parse("2000-10-10T10:00"),
+            LocalDateTime.parse("2000-10-12T10:00"));
+    c1.createEvent("lunch", LocalDateTime.parse("2000-10-11T12:00"),
+            LocalDateTime.parse("2000-10-11T13:00"));
+    mc.useCalendar("c1");
+
+    //the trip spans every day of the interval but is only copied once
+    assertEquals(2, mc.copyEventsInterval(LocalDate.parse("2000-10-10"),
+            LocalDate.parse("2000-10-12"), "c2", LocalDate.parse("2000-11-10")));
+    assertEquals(1, c2.getCalendar().get(LocalDate.parse("2000-11-12")).size());
+    assertEquals(LocalDateTime.parse("2000-11-12T10:00"),
+            c2.getCalendar().get(LocalDate.parse("2000-11-12")).get(0).getEnd());
+    assertEquals(0, mc.copyEventsInterval(LocalDate.parse("2001-01-01"),
+            LocalDate.parse("2001-01-31"), "c2", LocalDate.parse("2001-02-01")));
+  }
+
+  @Test
+  public void copyEventsIntervalAllOrNothingTest() {
+    mc.addCalendar("c2", ZoneId.of("America/Los_Angeles"));
+    ISpecificCalendar c1 = mc.getCalendar("c1");
+    ISpecificCalendar c2 = mc.getCalendar("c2");
+    c1.createEvent("a", LocalDateTime.parse("2000-10-10T10:00"),
+            LocalDateTime.parse("2000-10-10T11:00"));
+    c1.createEvent("b", LocalDateTime.parse("2000-10-11T10:00"),
+            LocalDateTime.parse("2000-10-11T11:00"));
+    c2.createEvent("b", LocalDateTime.parse("2000-10-21T10:00"),
+            LocalDateTime.parse("2000-10-21T11:00"));
+    mc.useCalendar("c1");
+
+    //the second event clashes, so the first one isn't copied either
+    try {
+      mc.copyEventsInterval(LocalDate.parse("2000-10-10"), LocalDate.parse("2000-10-11"),
+              "c2", LocalDate.parse("2000-10-20"));
+    } catch (IllegalArgumentException e) {
+      assertEquals("Event already exists", e.getMessage());
+    }
+    assertNull(c2.getCalendar().get(LocalDate.parse("2000-10-20")));
+  }
+
+  @Test
+  public void copySeriesAcrossZonesTest() {
+    mc.addCalendar("c2", ZoneId.of("Europe/Paris"));
+    ISpecificCalendar c1 = mc.getCalendar("c1");
+    ISpecificCalendar c2 = mc.getCalendar("c2");
+    c1.createSeriesTimes("class", LocalDateTime.parse("2025-06-02T09:00"),
+            LocalDateTime.parse("2025-06-02T10:00"), Arrays.asList("M", "W"), 3);
+    c1.createSeriesTimes("late", LocalDateTime.parse("2025-10-20T09:00"),
+            LocalDateTime.parse("2025-10-20T10:00"), Arrays.asList("M", "W"), 3);
+    mc.useCalendar("c1");
+
+    //09:00 in Los Angeles is 18:00 in Paris, and mondays and wednesdays move to wednesdays and
+    //fridays
+    assertEquals(6, mc.copyEventsInterval(LocalDate.parse("2025-06-01"),
+            LocalDate.parse("2025-06-21"), "c2", LocalDate.parse("2025-06-03")));
+    List<IEvent> copied = c2.getSeriesAt(LocalDateTime.parse("2025-06-04T18:00"));
+    assertEquals(6, copied.size());
+    for (IEvent copy : copied) {
+      assertEquals(LocalTime.parse("18:00"), copy.getStart().toLocalTime());
+      assertEquals(LocalTime.parse("19:00"), copy.getEnd().toLocalTime());
+    }
+
+    //Paris leaves daylight saving time a week before Los Angeles, so the copies don't all
+    //start at the same time but stay one series
+    assertEquals(6, mc.copyEventsInterval(LocalDate.parse("2025-10-20"),
+            LocalDate.parse("2025-11-09"), "c2", LocalDate.parse("2025-12-01")));
+    assertEquals(6, c2.getSeriesAt(LocalDateTime.parse("2025-12-01T18:00")).size());
+
+    //copying part of a series again adds to the series copied from it before
+    assertEquals(2, mc.copyEventsInterval(LocalDate.parse("2025-06-01"),
+            LocalDate.parse("2025-06-07"), "c2", LocalDate.parse("2026-06-01")));
+    assertEquals(8, c2.getSeriesAt(LocalDateTime.parse("2025-06-04T18:00")).size());
+  }
+
+  @Test
+  public void copyEventsIntervalParallelTest() {
+    mc.addCalendar("c2", ZoneId.of("America/New_York"));
+    ISpecificCalendar c1 = mc.getCalendar("c1");
+    ISpecificCalendar c2 = mc.getCalendar("c2");
+    LocalDate first = LocalDate.parse("2000-01-01");
+    //enough events for the copy to be built in parallel chunks
+    for (int day = 0; day < 600; day++) {
+      for (int i = 0; i < 10; i++) {
+        LocalDateTime start = first.plusDays(day).atTime(i, 0);
+        c1.createEvent("event" + day + "-" + i, start, start.plusMinutes(30));
+      }
+    }
+    mc.useCalendar("c1");
+
+    assertEquals(6000, mc.copyEventsInterval(first, first.plusDays(599), "c2",
+            LocalDate.parse("2010-01-01")));
+
+    //every copy is converted to New York time and lands in the same order as the sequential copy
+    for (int day = 0; day < 600; day++) {
+      List<IEvent> source = c1.getCalendar().get(first.plusDays(day));
+      List<IEvent> copied = c2.getCalendar().get(LocalDate.parse("2010-01-01").plusDays(day));
+      assertEquals(source.size(), copied.size());
+      for (int i = 0; i < source.size(); i++) {
+        LocalDateTime start = source.get(i).getStart().atZone(c1.getTimeZone())
+                .withZoneSameInstant(c2.getTimeZone()).toLocalDateTime();
+        assertEquals(source.get(i).getSubject(), copied.get(i).getSubject());
+        assertEquals(start.toLocalTime(), copied.get(i).getStart().toLocalTime());
+        assertEquals(start.toLocalTime().plusMinutes(30), copied.get(i).getEnd().toLocalTime());
+      }
+    }
+  }
+
+  //gets the subjects of the events of a series
+  private static List<String> seriesSubjects(List<IEvent> series) {
+    List<String> subjects = new ArrayList<>();
+    for (IEvent event : series) {
+      subjects.add(event.getSubject());
+    }
+    return subjects;
+  }
+
+  //gets the key of the series of a calendar that starts at the given time
+  private static SeriesKey seriesKey(ISpecificCalendar calendar, LocalDateTime start) {
+    for (SeriesKey key : calendar.getSeries().keySet()) {
+      if (key.getStart().equals(start)) {
+        return key;
+      }
+    }
+    return null;
+  }
+
+  @Test
+  public void copySeriesToTakenKeyTest() {
+    mc.addCalendar("c2", ZoneId.of("America/Los_Angeles"));
+    ISpecificCalendar c1 = mc.getCalendar("c1");
+    ISpecificCalendar c2 = mc.getCalendar("c2");
+    c1.createSeriesTimes("a", LocalDateTime.parse("2025-06-02T09:00"),
+            LocalDateTime.parse("2025-06-02T10:00"), Arrays.asList("M", "W"), 1);
+    c1.createSeriesTimes("b", LocalDateTime.parse("2025-06-09T09:00"),
+            LocalDateTime.parse("2025-06-09T10:00"), Arrays.asList("M", "W"), 1);
+    mc.useCalendar("c1");
+
+    //both series start on the monday of their week, which lands on 2025-07-07
+    assertEquals(2, mc.copyEventsInterval(LocalDate.parse("2025-06-01"),
+            LocalDate.parse("2025-06-07"), "c2", LocalDate.parse("2025-07-06")));
+    assertEquals(2, mc.copyEventsInterval(LocalDate.parse("2025-06-08"),
+            LocalDate.parse("2025-06-14"), "c2", LocalDate.parse("2025-07-06")));
+
+    //the second series gets its own key at the same start instead of joining the first
+    LocalDateTime first = LocalDateTime.parse("2025-07-07T09:00");
+    assertEquals(2, c2.getSeries().size());
+    assertEquals(Arrays.asList("a", "a"), seriesSubjects(c2.getSeriesAt(first)));
+    SeriesKey second = c2.getOldToNewSeries().get(seriesKey(c1,
+            LocalDateTime.parse("2025-06-09T09:00")));
+    assertEquals(first, second.getStart());
+    assertEquals(Arrays.asList("b", "b"), seriesSubjects(c2.getSeries().get(second)));
+  }
+
+  @Test
+  public void moveSeriesToTakenKeyTest() {
+    mc.addCalendar("c2", ZoneId.of("America/Los_Angeles"));
+    ISpecificCalendar c1 = mc.getCalendar("c1");
+    ISpecificCalendar c2 = mc.getCalendar("c2");
+    LocalDateTime start = LocalDateTime.parse("2025-06-02T09:00");
+    c1.createSeriesTimes("mine", start, start.plusHours(1), Arrays.asList("M"), 2);
+    c2.createSeriesTimes("theirs", start, start.plusHours(1), Arrays.asList("M"), 2);
+    mc.useCalendar("c2");
+
+    assertEquals(2, mc.moveEvents(LocalDate.parse("2025-06-01"), LocalDate.parse("2025-06-14"),
+            "c1"));
+    assertTrue(c2.getSeries().isEmpty());
+    assertEquals(2, c1.getSeries().size());
+    assertEquals(Arrays.asList("mine", "mine"), seriesSubjects(c1.getSeriesAt(start)));
+    for (Map.Entry<SeriesKey, List<IEvent>> series : c1.getSeries().entrySet()) {
+      //the series moved in keeps its start without joining the one already there
+      assertEquals(start, series.getKey().getStart());
+      if (series.getValue() != c1.getSeriesAt(start)) {
+        assertEquals(Arrays.asList("theirs", "theirs"), seriesSubjects(series.getValue()));
+      }
+    }
+
+    //once the first series is gone, the other one is found at that start
+    c1.deleteSeries("mine", start);
+    assertEquals(Arrays.asList("theirs", "theirs"), seriesSubjects(c1.getSeriesAt(start)));
+  }
+
+  @Test
+  public void moveCopiedSeriesKeepsMappingTest() {
+    mc.addCalendar("c2", ZoneId.of("America/Los_Angeles"));
+    mc.addCalendar("c3", ZoneId.of("America/Los_Angeles"));
+    ISpecificCalendar c1 = mc.getCalendar("c1");
+    ISpecificCalendar c2 = mc.getCalendar("c2");
+    ISpecificCalendar c3 = mc.getCalendar("c3");
+    LocalDateTime start = LocalDateTime.parse("2025-06-02T09:00");
+    c1.createSeriesTimes("class", start, start.plusHours(1), Arrays.asList("M"), 2);
+    SeriesKey original = seriesKey(c1, start);
+    mc.useCalendar("c1");
+    mc.copyEventsInterval(LocalDate.parse("2025-06-01"), LocalDate.parse("2025-06-14"), "c2",
+            LocalDate.parse("2025-07-06"));
+    assertEquals(LocalDateTime.parse("2025-07-07T09:00"),
+            c2.getOldToNewSeries().get(original).getStart());
+
+    //the copy moves out of c2 whole, so c3 now knows it as the copy of the series in c1
+    mc.useCalendar("c2");
+    mc.moveEvents(LocalDate.parse("2025-07-01"), LocalDate.parse("2025-07-31"), "c3");
+    assertTrue(c2.getOldToNewSeries().isEmpty());
+    assertEquals(LocalDateTime.parse("2025-07-07T09:00"),
+            c3.getOldToNewSeries().get(original).getStart());
+
+    //copying the series again joins it in c3
+    mc.useCalendar("c1");
+    mc.copyEventsInterval(LocalDate.parse("2025-06-01"), LocalDate.parse("2025-06-14"), "c3",
+            LocalDate.parse("2025-08-03"));
+    assertEquals(1, c3.getSeries().size());
+    assertEquals(4, c3.getSeriesAt(LocalDateTime.parse("2025-07-07T09:00")).size());
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,123 @@
+package model.multicalendar;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+
+import model.calendar.IEvent;
+import model.calendar.ISpecificCalendar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests the read-only overlay of several calendars.
+ */
+public class OverlayCalendarTest {
+  MultiCalendar mc;
+  ISpecificCalendar ny;
+  ISpecificCalendar paris;
+  ISpecificCalendar overlay;
+
+  @Before
+  public void setUp() {
+    mc = new MultiCalendar();
+    mc.addCalendar("ny", ZoneId.of("America/New_York"));
+    mc.addCalendar("paris", ZoneId.of("Europe/Paris"));
+    ny = mc.getCalendar("ny");
+    paris = mc.getCalendar("paris");
+    overlay = mc.overlay("both", ZoneId.of("America/New_York"), Arrays.asList("ny", "paris"));
+  }
+
+  @Test
+  public void printEventsMergesMembersTest() {
+    ny.createEvent("review", LocalDateTime.parse("2025-06-16T11:00"),
+            LocalDateTime.parse("2025-06-16T12:00"));
+    ny.createEvent("standup", LocalDateTime.parse("2025-06-16T09:00"),
+            LocalDateTime.parse("2025-06-16T09:30"));
+    //16:00 in Paris is 10:00 in New York
+    paris.createEvent("sync", LocalDateTime.parse("2025-06-16T16:00"),
+            LocalDateTime.parse("2025-06-16T17:00"));
+    //02:00 on the 17th in Paris is still the 16th in New York
+    paris.createEvent("late", LocalDateTime.parse("2025-06-17T02:00"),
+            LocalDateTime.parse("2025-06-17T03:00"));
+
+    assertEquals("standup, Start Time: 2025-06-16T09:00, End Time: 2025-06-16T09:30, "
+                    + "Location: ONLINE\n"
+                    + "sync, Start Time: 2025-06-16T10:00, End Time: 2025-06-16T11:00, "
+                    + "Location: ONLINE\n"
+                    + "review, Start Time: 2025-06-16T11:00, End Time: 2025-06-16T12:00, "
+                    + "Location: ONLINE\n"
+                    + "late, Start Time: 2025-06-16T20:00, End Time: 2025-06-16T21:00, "
+                    + "Location: ONLINE",
+            overlay.printEvents(LocalDate.parse("2025-06-16")));
+    assertEquals("No events on this day", overlay.printEvents(LocalDate.parse("2025-06-17")));
+  }
+
+  @Test
+  public void printEventsIntervalTest() {
+    for (int day = 1; day <= 8; day++) {
+      LocalDateTime start = LocalDateTime.parse("2025-06-01T10:00").plusDays(day);
+      ny.createEvent("ny" + day, start, start.plusHours(1));
+      paris.createEvent("paris" + day, start, start.plusHours(1));
+    }
+
+    //with no end only the first 10 events are printed, even though there are 16
+    String[] firstTen = overlay.printEventsInterval(LocalDateTime.parse("2025-06-01T00:00"),
+            null).split("\n");
+    assertEquals(10, firstTen.length);
+    assertEquals("paris1, Start Time: 2025-06-02T04:00, End Time: 2025-06-02T05:00, "
+            + "Location: ONLINE", firstTen[0]);
+    assertEquals("ny1, Start Time: 2025-06-02T10:00, End Time: 2025-06-02T11:00, "
+            + "Location: ONLINE", firstTen[1]);
+
+    //with fewer than 10 events left the print stops after the last one
+    assertEquals(2, overlay.printEventsInterval(LocalDateTime.parse("2025-06-09T00:00"),
+            null).split("\n").length);
+    assertEquals(4, overlay.printEventsInterval(LocalDateTime.parse("2025-06-03T00:00"),
+            LocalDateTime.parse("2025-06-04T23:59")).split("\n").length);
+  }
+
+  @Test
+  public void showStatusTest() {
+    paris.createEvent("sync", LocalDateTime.parse("2025-06-16T16:00"),
+            LocalDateTime.parse("2025-06-16T17:00"));
+    assertEquals("busy", overlay.showStatus(LocalDateTime.parse("2025-06-16T10:30")));
+    assertEquals("available", overlay.showStatus(LocalDateTime.parse("2025-06-16T16:30")));
+  }
+
+  @Test
+  public void followsMembersTest() {
+    ny.createEvent("standup", LocalDateTime.parse("2025-06-16T09:00"),
+            LocalDateTime.parse("2025-06-16T09:30"));
+    List<IEvent> shown = overlay.getCalendar().get(LocalDate.parse("2025-06-16"));
+    assertEquals(1, shown.size());
+
+    ny.deleteEvent("standup", LocalDateTime.parse("2025-06-16T09:00"),
+            LocalDateTime.parse("2025-06-16T09:30"));
+    assertEquals("No events on this day", overlay.printEvents(LocalDate.parse("2025-06-16")));
+  }
+
+  @Test
+  public void readOnlyTest() {
+    try {
+      overlay.createEvent("standup", LocalDateTime.parse("2025-06-16T09:00"),
+              LocalDateTime.parse("2025-06-16T09:30"));
+      fail("Should throw exception for changing an overlay");
+    } catch (IllegalStateException e) {
+      assertEquals("Overlay calendar both is read-only", e.getMessage());
+    }
+
+    try {
+      mc.overlay("none", ZoneId.of("UTC"), Arrays.asList("ny", "tokyo"));
+      fail("Should throw exception for a member that doesn't exist");
+    } catch (IllegalArgumentException e) {
+      assertEquals("Calendar tokyo not found", e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,73 @@
+package model.multicalendar;
+
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests that converting between timezones matches the JDK conversion.
+ */
+public class ZoneConverterTest {
+
+  //compares the converter to the JDK every 15 minutes of a period
+  private void checkAgainstJdk(String source, String target, LocalDateTime from, int days) {
+    ZoneId sourceZone = ZoneId.of(source);
+    ZoneId targetZone = ZoneId.of(target);
+    ZoneConverter converter = ZoneConverter.of(sourceZone, targetZone);
+    for (LocalDateTime time = from; time.isBefore(from.plusDays(days));
+         time = time.plusMinutes(15)) {
+      assertEquals(source + " " + time,
+              time.atZone(sourceZone).withZoneSameInstant(targetZone).toLocalDateTime(),
+              converter.convert(time));
+    }
+  }
+
+  @Test
+  public void springGapTest() {
+    //Los Angeles skips 02:00 to 03:00 on 2025-03-09, Paris skips one on 2025-03-30
+    checkAgainstJdk("America/Los_Angeles", "Europe/Paris",
+            LocalDateTime.parse("2025-03-01T00:00"), 40);
+    checkAgainstJdk("Europe/Paris", "America/Los_Angeles",
+            LocalDateTime.parse("2025-03-01T00:00"), 40);
+  }
+
+  @Test
+  public void fallOverlapTest() {
+    //01:00 to 02:00 happens twice in New York on 2025-11-02
+    checkAgainstJdk("America/New_York", "Asia/Tokyo",
+            LocalDateTime.parse("2025-10-20T00:00"), 20);
+    checkAgainstJdk("Australia/Lord_Howe", "America/New_York",
+            LocalDateTime.parse("2025-03-25T00:00"), 20);
+  }
+
+  @Test
+  public void fixedAndSameZoneTest() {
+    checkAgainstJdk("UTC", "Asia/Kolkata", LocalDateTime.parse("2025-01-01T00:00"), 2);
+    checkAgainstJdk("Asia/Kolkata", "Asia/Kolkata", LocalDateTime.parse("2025-01-01T00:00"), 2);
+    //Samoa skipped the whole of 2011-12-30
+    checkAgainstJdk("Pacific/Apia", "UTC", LocalDateTime.parse("2011-12-28T00:00"), 5);
+  }
+
+  @Test
+  public void distantYearsTest() {
+    //converting times a century apart widens the converted window both ways
+    checkAgainstJdk("Europe/London", "America/Sao_Paulo",
+            LocalDateTime.parse("2025-03-25T00:00"), 10);
+    checkAgainstJdk("Europe/London", "America/Sao_Paulo",
+            LocalDateTime.parse("2160-10-20T00:00"), 20);
+    checkAgainstJdk("Europe/London", "America/Sao_Paulo",
+            LocalDateTime.parse("1890-01-01T00:00"), 5);
+    checkAgainstJdk("Europe/London", "America/Sao_Paulo",
+            LocalDateTime.parse("1985-10-10T00:00"), 40);
+  }
+
+  @Test
+  public void sharedConverterTest() {
+    assertSame(ZoneConverter.of(ZoneId.of("Europe/Paris"), ZoneId.of("UTC")),
+            ZoneConverter.of(ZoneId.of("Europe/Paris"), ZoneId.of("UTC")));
+  }
+}
@@ -9,9 +9,12 @@ import static org.junit.Assert.fail;
 
 import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
@@ -21,6 +24,8 @@ import org.junit.Before;
 import org.junit.Test;
 
 import controller.CalendarController;
+import controller.parse.BinaryCommandWriter;
+import controller.parse.CommandParserCoordinator;
 
 /**
  * Test class that tests the command line interface in order to ensure that everything
@@ -317,6 +322,270 @@ public class CLITest {
             output.contains("Exit command found"));
   }
 
+  /**
+   * Tests that parsing ahead reports every syntax error before running any command, then runs
+   * the commands that parsed in the order of the file.
+   */
+  @Test
+  public void testHeadlessParseAheadReportsErrorsFirst() {
+    String commands =
+            "create calendar --name default --timezone America/New_York\n" +
+                    "use calendar --name default\n" +
+                    "create event First from 2025-06-15T10:00 to 2025-06-15T11:00\n" +
+                    "invalid command here\n" +
+                    "create event Second from 2025-06-15T12:00 to 2025-06-15T13:00\n" +
+                    "print events on 2025-13-45\n" +
+                    "show status on 2025-06-15T10:30\n" +
+                    "exit\n";
+
+    File commandFile = createTestCommandFile("parse_ahead_test.txt", commands);
+    assertNotNull("Command file should be created", commandFile);
+
+    CalendarController controller = new CalendarController();
+    HeadlessView view = new HeadlessView(controller, HeadlessView.Mode.PARSE_AHEAD);
+
+    view.run(commandFile.getAbsolutePath());
+
+    String output = outputStream.toString();
+    String errorOutput = errorStream.toString();
+
+    assertTrue("Should report the unknown command", errorOutput.contains("Line 4:"));
+    assertTrue("Should report the invalid date", errorOutput.contains("Line 6:"));
+    assertFalse("Should not execute lines that didn't parse",
+            output.contains("Currently executing: invalid command here"));
+    assertTrue("Should execute in file order",
+            output.indexOf("Created event: \"First\"")
+                    < output.indexOf("Created event: \"Second\""));
+    assertTrue("Should see events created earlier in the file", output.contains("busy"));
+    assertTrue("Should contain exit confirmation", output.contains("Exit command found"));
+  }
+
+  /**
+   * Tests that parsing ahead rejects a file without exit before running any of it.
+   */
+  @Test
+  public void testHeadlessParseAheadNoExitRunsNothing() {
+    String commands =
+            "create calendar --name default --timezone America/New_York\n" +
+                    "use calendar --name default\n";
+
+    File commandFile = createTestCommandFile("parse_ahead_no_exit.txt", commands);
+    assertNotNull("Command file should be created", commandFile);
+
+    HeadlessView view = new HeadlessView(new CalendarController(),
+            HeadlessView.Mode.PARSE_AHEAD);
+
+    try {
+      view.run(commandFile.getAbsolutePath());
+      fail("Should throw exception for missing exit command");
+    } catch (RuntimeException e) {
+      assertEquals("Command file must end with 'exit' command", e.getMessage());
+    }
+
+    assertFalse("Should not execute any command",
+            outputStream.toString().contains("Currently executing:"));
+  }
+
+  /**
+   * Tests that a binary command file is recognised and runs like the same commands as text.
+   */
+  @Test
+  public void testHeadlessBinaryCommandFile() throws IOException {
+    String[] commands = {
+      "create calendar --name default --timezone America/New_York",
+      "use calendar --name default",
+      "create event Standup from 2025-06-15T09:00 to 2025-06-15T09:15",
+      "delete event Missing from 2025-06-15T09:00 to 2025-06-15T09:15",
+      "show status on 2025-06-15T09:05",
+      "exit"
+    };
+    File commandFile = new File(tempDirectory, "binary_test.calb");
+    try (BinaryCommandWriter writer =
+                 new BinaryCommandWriter(new FileOutputStream(commandFile))) {
+      for (String command : commands) {
+        writer.write(CommandParserCoordinator.parseCommand(command));
+      }
+    }
+
+    HeadlessView view = new HeadlessView(new CalendarController());
+    view.run(commandFile.getAbsolutePath());
+
+    String output = outputStream.toString();
+    assertTrue("Should execute each frame",
+            output.contains("Currently executing: frame 3 (CREATE_EVENT)"));
+    assertTrue("Should create the event", output.contains("Created event: \"Standup\""));
+    assertTrue("Should see the event", output.contains("busy"));
+    assertTrue("Should contain exit confirmation", output.contains("Exit command found"));
+    assertTrue("Should report failures by frame",
+            errorStream.toString().contains("Frame 4: Failed to delete event"));
+  }
+
+  /**
+   * Tests that the pipelined mode prints exactly what line-by-line mode prints, on a file longer
+   * than the queues between its stages.
+   */
+  @Test
+  public void testHeadlessPipelinedMatchesLineByLine() {
+    StringBuilder commands = new StringBuilder(
+            "# setup\n" +
+                    "create calendar --name default --timezone America/New_York\n" +
+                    "use calendar --name default\n\n");
+    for (int i = 0; i < 600; i++) {
+      String time = String.format("2025-06-%02dT%02d:00", 1 + i % 28, i % 24);
+      commands.append("create event Event").append(i).append(" from ").append(time)
+              .append(" to ").append(time.substring(0, 11)).append("23:30\n");
+      commands.append(i % 50 == 0 ? "not a command\n" : "show status on " + time + "\n");
+    }
+    commands.append("print events on 2025-06-03\nexit\ncreate event After on 2025-06-01\n");
+
+    File commandFile = createTestCommandFile("pipelined_test.txt", commands.toString());
+    assertNotNull("Command file should be created", commandFile);
+
+    new HeadlessView(new CalendarController()).run(commandFile.getAbsolutePath());
+    String lineByLine = outputStream.toString();
+    String lineByLineErrors = errorStream.toString();
+    outputStream.reset();
+    errorStream.reset();
+
+    new HeadlessView(new CalendarController(), HeadlessView.Mode.PIPELINED)
+            .run(commandFile.getAbsolutePath());
+
+    assertTrue("Should report errors", lineByLineErrors.contains("Line 6:"));
+    assertFalse("Should stop at exit", lineByLine.contains("After"));
+    assertEquals(lineByLine, outputStream.toString());
+    assertEquals(lineByLineErrors, errorStream.toString());
+  }
+
+  /**
+   * Tests that the pipelined mode still requires an exit command, after running the rest.
+   */
+  @Test
+  public void testHeadlessPipelinedNoExitCommand() {
+    String commands =
+            "create calendar --name default --timezone America/New_York\n" +
+                    "use calendar --name default\n";
+
+    File commandFile = createTestCommandFile("pipelined_no_exit.txt", commands);
+    assertNotNull("Command file should be created", commandFile);
+
+    HeadlessView view = new HeadlessView(new CalendarController(), HeadlessView.Mode.PIPELINED);
+    try {
+      view.run(commandFile.getAbsolutePath());
+      fail("Should throw exception for missing exit command");
+    } catch (RuntimeException e) {
+      assertEquals("Command file must end with 'exit' command", e.getMessage());
+    }
+
+    assertTrue("Should run the commands before the error",
+            outputStream.toString().contains("Created calendar"));
+    assertTrue("Should contain exit command error",
+            errorStream.toString().contains("Command file must end with 'exit' command"));
+  }
+
+  /**
+   * Tests that the pipelined mode stops and reports the failure when its output can't be
+   * written, instead of waiting forever for a writer that has died.
+   */
+  @Test(timeout = 10000)
+  public void testHeadlessPipelinedOutputFailure() throws IOException {
+    StringBuilder commands = new StringBuilder(
+            "create calendar --name default --timezone America/New_York\n" +
+                    "use calendar --name default\n");
+    //more commands than the queue to the writer holds
+    for (int i = 0; i < 600; i++) {
+      commands.append("show status on 2025-06-01T10:00\n");
+    }
+    commands.append("exit\n");
+    File commandFile = createTestCommandFile("pipelined_closed.txt", commands.toString());
+    assertNotNull("Command file should be created", commandFile);
+
+    //a closed sink fails the first time it writes, which is at the end of the first command
+    OutputSink sink = OutputSink.file(tempDirectory.toPath().resolve("closed.txt"),
+            OutputSink.FlushPolicy.COMMAND, 0);
+    sink.close();
+    HeadlessView view = new HeadlessView(new CalendarController(), HeadlessView.Mode.PIPELINED,
+            sink);
+    try {
+      view.run(commandFile.getAbsolutePath());
+      fail("Should throw exception for output that can't be written");
+    } catch (UncheckedIOException e) {
+      assertTrue(e.getMessage().startsWith("Could not write output"));
+    }
+  }
+
+  /**
+   * Tests that a buffered sink only writes when its flush policy says so, and writes pending
+   * output before an error.
+   */
+  @Test
+  public void testOutputSinkFlushPolicies() {
+    OutputSink lines = OutputSink.console(OutputSink.FlushPolicy.LINES, 2);
+    lines.println("one");
+    assertEquals("", outputStream.toString());
+    lines.println("two");
+    assertEquals("one" + System.lineSeparator() + "two" + System.lineSeparator(),
+            outputStream.toString());
+
+    outputStream.reset();
+    OutputSink command = OutputSink.console(OutputSink.FlushPolicy.COMMAND, 0);
+    command.println("result");
+    command.println();
+    assertEquals("", outputStream.toString());
+    command.endCommand();
+    assertTrue(outputStream.toString().startsWith("result"));
+
+    outputStream.reset();
+    OutputSink exit = OutputSink.console(OutputSink.FlushPolicy.EXIT, 0);
+    exit.println("before");
+    exit.endCommand();
+    assertEquals("", outputStream.toString());
+    exit.error("Error: failed");
+    assertTrue("Output before an error is written first",
+            outputStream.toString().contains("before"));
+    assertTrue(errorStream.toString().contains("Error: failed"));
+
+    try {
+      OutputSink.console(OutputSink.FlushPolicy.LINES, 0);
+      fail("Should reject flushing every zero lines");
+    } catch (IllegalArgumentException e) {
+      assertEquals("Lines per flush must be positive: 0", e.getMessage());
+    }
+  }
+
+  /**
+   * Tests that headless output sent to a file matches what the console would have shown.
+   */
+  @Test
+  public void testHeadlessOutputToFile() throws IOException {
+    String commands =
+            "create calendar --name default --timezone America/New_York\n" +
+                    "use calendar --name default\n" +
+                    "create event Lunch from 2025-06-15T12:00 to 2025-06-15T13:00\n" +
+                    "bogus\n" +
+                    "show status on 2025-06-15T12:30\n" +
+                    "exit\n";
+    File commandFile = createTestCommandFile("sink_test.txt", commands);
+    assertNotNull("Command file should be created", commandFile);
+
+    new HeadlessView(new CalendarController()).run(commandFile.getAbsolutePath());
+    String console = outputStream.toString();
+    String consoleErrors = errorStream.toString();
+    outputStream.reset();
+    errorStream.reset();
+
+    File outputFile = new File(tempDirectory, "sink_output.txt");
+    try (OutputSink sink = OutputSink.file(outputFile.toPath(),
+            OutputSink.FlushPolicy.EXIT, 0)) {
+      new HeadlessView(new CalendarController(), HeadlessView.Mode.LINE_BY_LINE, sink)
+              .run(commandFile.getAbsolutePath());
+    }
+
+    assertEquals("Nothing goes to the console", "", outputStream.toString());
+    assertEquals("Errors still go to the console", consoleErrors, errorStream.toString());
+    assertEquals(console, new String(Files.readAllBytes(outputFile.toPath()),
+            StandardCharsets.UTF_8));
+  }
+
   /**
    * Tests headless mode behavior when command file is missing or inaccessible.
    */